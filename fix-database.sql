@@ -6,7 +6,8 @@ DROP TABLE IF EXISTS public.sigapisymboltype CASCADE;
 DROP TABLE IF EXISTS aris71adm.sigapisymboltype CASCADE;
 
 -- Crear secuencia para el ID
-CREATE SEQUENCE IF NOT EXISTS aris71adm.sigapisymboltype_idsymbol_seq;
+-- INCREMENT BY 50 coincide con el allocationSize de la entidad (inserciones en lotes JDBC)
+CREATE SEQUENCE IF NOT EXISTS aris71adm.sigapisymboltype_idsymbol_seq INCREMENT BY 50;
 
 -- Crear tabla en el esquema correcto
 CREATE TABLE aris71adm.sigapisymboltype (
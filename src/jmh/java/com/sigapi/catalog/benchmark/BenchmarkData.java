@@ -0,0 +1,87 @@
+package com.sigapi.catalog.benchmark;
+
+import com.sigapi.catalog.entity.ObjectType;
+import com.sigapi.catalog.entity.SymbolImage;
+import com.sigapi.catalog.entity.SymbolType;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import com.sigapi.catalog.storage.DatabaseImageBlobStore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Catálogo sintético y reproducible (semilla fija) para los benchmarks
+ */
+final class BenchmarkData {
+
+    private static final String[] TYPES = {"FUNCTION", "EVENT", "RULE", "DATA", "ORGANIZATION", "APPLICATION"};
+    private static final String[] WORDS = {"proceso", "función", "evento", "regla", "dato", "cliente", "pedido",
+            "factura", "aprobación", "sistema", "usuario", "documento", "servicio", "riesgo", "control"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Mapper sin base de datos: las imágenes sintéticas ya tienen el contenido cargado en la entidad
+     */
+    static SymbolTypeMapper symbolTypeMapper() {
+        return new SymbolTypeMapper(new DatabaseImageBlobStore(null, "sigapisymbolimage"));
+    }
+
+    static List<SymbolType> symbolTypes(int count, int imageBytes) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<SymbolType> result = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            SymbolImage image = null;
+            if (imageBytes > 0) {
+                byte[] content = new byte[imageBytes];
+                for (int b = 0; b < imageBytes; b++) {
+                    content[b] = (byte) random.nextInt(256);
+                }
+                image = SymbolImage.builder()
+                        .imageHash(String.format("%064x", i))
+                        .content(content)
+                        .mediaType("image/png")
+                        .refCount(1)
+                        .build();
+            }
+            result.add(SymbolType.builder()
+                    .idSymbol(i)
+                    .apiName("SYM_" + TYPES[i % TYPES.length] + "_" + i)
+                    .symbolName(name(random) + " " + i)
+                    .symbolType(TYPES[i % TYPES.length])
+                    .symbolOrigName(name(random))
+                    .createDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .isDefault(i % 10 == 0 ? 1 : 0)
+                    .isAssigned(i % 3 == 0 ? 1 : 0)
+                    .lastUpdate(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                    .symbolImage(image)
+                    .build());
+        }
+        return result;
+    }
+
+    static List<ObjectType> objectTypes(int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<ObjectType> result = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            result.add(ObjectType.builder()
+                    .idObject(i)
+                    .apiName("OBJ_" + i)
+                    .objectName(name(random) + " " + i)
+                    .objectOrigName(name(random))
+                    .createDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .isDefault(i % 10 == 0 ? 1 : 0)
+                    .isAssigned(i % 3 == 0 ? 1 : 0)
+                    .lastUpdate(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                    .build());
+        }
+        return result;
+    }
+
+    private static String name(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+    }
+}
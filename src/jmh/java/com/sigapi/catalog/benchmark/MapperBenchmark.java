@@ -0,0 +1,66 @@
+package com.sigapi.catalog.benchmark;
+
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.entity.ObjectType;
+import com.sigapi.catalog.entity.SymbolType;
+import com.sigapi.catalog.mapper.ObjectTypeMapper;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión entidad → DTO, incluida la codificación Base64 de la imagen con tamaños realistas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    /**
+     * Bytes de imagen por símbolo (0 = sin imagen)
+     */
+    @Param({"0", "4096", "65536"})
+    private int imageBytes;
+
+    @Param({"100"})
+    private int listSize;
+
+    private final SymbolTypeMapper symbolTypeMapper = BenchmarkData.symbolTypeMapper();
+    private final ObjectTypeMapper objectTypeMapper = new ObjectTypeMapper();
+    private List<SymbolType> symbolTypes;
+    private SymbolType symbolType;
+    private ObjectType objectType;
+
+    @Setup
+    public void setUp() {
+        symbolTypes = BenchmarkData.symbolTypes(listSize, imageBytes);
+        symbolType = symbolTypes.get(0);
+        objectType = BenchmarkData.objectTypes(1).get(0);
+    }
+
+    @Benchmark
+    public SymbolTypeResponse symbolTypeToResponse() {
+        return symbolTypeMapper.toResponse(symbolType);
+    }
+
+    @Benchmark
+    public SymbolTypeResponse symbolTypeToSummaryResponse() {
+        return symbolTypeMapper.toSummaryResponse(symbolType);
+    }
+
+    @Benchmark
+    public List<SymbolTypeResponse> symbolTypeToResponseList() {
+        return symbolTypeMapper.toResponseList(symbolTypes);
+    }
+
+    @Benchmark
+    public ObjectTypeResponse objectTypeToResponse() {
+        return objectTypeMapper.toResponse(objectType);
+    }
+}
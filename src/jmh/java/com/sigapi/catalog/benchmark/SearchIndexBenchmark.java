@@ -0,0 +1,77 @@
+package com.sigapi.catalog.benchmark;
+
+import com.sigapi.catalog.cache.LookupCache;
+import com.sigapi.catalog.dto.SuggestionResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import com.sigapi.catalog.search.PrefixIndex;
+import com.sigapi.catalog.search.TrigramIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estructuras en memoria consultadas en cada petición: índice de trigramas, índice de prefijos y caché por ID
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    @Param({"1000", "20000"})
+    private int catalogSize;
+
+    private TrigramIndex<SymbolTypeResponse> trigramIndex;
+    private PrefixIndex<SymbolTypeResponse> prefixIndex;
+    private LookupCache<SymbolTypeResponse> lookupCache;
+    private int nextId;
+
+    @Setup
+    public void setUp() {
+        SymbolTypeMapper mapper = BenchmarkData.symbolTypeMapper();
+        List<SymbolTypeResponse> catalog = BenchmarkData.symbolTypes(catalogSize, 0).stream()
+                .map(mapper::toSummaryResponse)
+                .toList();
+        trigramIndex = new TrigramIndex<>("benchmark", SymbolTypeResponse::getIdSymbol,
+                List.of(SymbolTypeResponse::getSymbolName, SymbolTypeResponse::getSymbolOrigName,
+                        SymbolTypeResponse::getApiName),
+                () -> catalog);
+        prefixIndex = new PrefixIndex<>("benchmark", SymbolTypeResponse::getIdSymbol,
+                Map.of("apiName", SymbolTypeResponse::getApiName, "symbolName", SymbolTypeResponse::getSymbolName),
+                () -> catalog);
+        trigramIndex.reload();
+        prefixIndex.reload();
+        lookupCache = new LookupCache<>("benchmark", true, 64L * 1024 * 1024, Duration.ofHours(1),
+                SymbolTypeResponse::getIdSymbol, SymbolTypeResponse::getApiName, response -> 512,
+                new SimpleMeterRegistry());
+        catalog.forEach(lookupCache::put);
+    }
+
+    @Benchmark
+    public List<SymbolTypeResponse> trigramSearchSelective() {
+        return trigramIndex.search("aprobación", false);
+    }
+
+    @Benchmark
+    public List<SymbolTypeResponse> trigramSearchShortQuery() {
+        return trigramIndex.search("pe", false);
+    }
+
+    @Benchmark
+    public List<SuggestionResponse> prefixSuggest() {
+        return prefixIndex.suggest("fac", 10);
+    }
+
+    @Benchmark
+    public SymbolTypeResponse lookupCacheHit() {
+        nextId = nextId % catalogSize + 1;
+        return lookupCache.getById(nextId, () -> null);
+    }
+}
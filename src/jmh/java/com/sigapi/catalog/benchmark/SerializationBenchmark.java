@@ -0,0 +1,60 @@
+package com.sigapi.catalog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sigapi.catalog.dto.ApiResponse;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.mapper.ObjectTypeMapper;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de las respuestas de listado, con la configuración de Jackson de Spring Boot
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"0", "4096"})
+    private int imageBytes;
+
+    @Param({"100", "1000"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<SymbolTypeResponse>> symbolTypes;
+    private ApiResponse<List<ObjectTypeResponse>> objectTypes;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        SymbolTypeMapper symbolTypeMapper = BenchmarkData.symbolTypeMapper();
+        ObjectTypeMapper objectTypeMapper = new ObjectTypeMapper();
+        symbolTypes = ApiResponse.success(
+                symbolTypeMapper.toResponseList(BenchmarkData.symbolTypes(listSize, imageBytes)), "benchmark");
+        objectTypes = ApiResponse.success(
+                BenchmarkData.objectTypes(listSize).stream().map(objectTypeMapper::toResponse).toList(), "benchmark");
+    }
+
+    @Benchmark
+    public byte[] symbolTypeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(symbolTypes);
+    }
+
+    @Benchmark
+    public byte[] objectTypeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(objectTypes);
+    }
+}
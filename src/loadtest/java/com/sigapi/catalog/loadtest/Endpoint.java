@@ -0,0 +1,11 @@
+package com.sigapi.catalog.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Endpoint ejercitado por la prueba: nombre estable para los informes y generador de peticiones
+ */
+record Endpoint(String name, boolean write, BiFunction<SyntheticCatalog, SplittableRandom, HttpRequest> request) {
+}
@@ -0,0 +1,70 @@
+package com.sigapi.catalog.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y resultados de un endpoint dentro de una fase.
+ *
+ * responseTime se mide desde el instante en que la petición debía enviarse según el ritmo fijo, por lo que
+ * incluye la espera por el límite de concurrencia y no sufre omisión coordinada; serviceTime se mide desde
+ * el envío real y sólo sirve para comparar con responseTime.
+ */
+class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, int status) {
+        responseTime.recordValue(toMicros(completedNanos - intendedNanos));
+        serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Petición sin respuesta HTTP (timeout, conexión rechazada...)
+     */
+    void recordFailure(long intendedNanos, long completedNanos) {
+        responseTime.recordValue(toMicros(completedNanos - intendedNanos));
+        failures.increment();
+    }
+
+    Histogram responseTime() {
+        return responseTime;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> result = new TreeMap<>();
+        statuses.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long errors() {
+        return failures() + statuses().entrySet().stream()
+                .filter(entry -> entry.getKey() >= 400)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+}
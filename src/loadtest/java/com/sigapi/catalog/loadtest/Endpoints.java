@@ -0,0 +1,96 @@
+package com.sigapi.catalog.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sigapi.catalog.loadtest.SyntheticCatalog.encode;
+import static com.sigapi.catalog.loadtest.SyntheticCatalog.word;
+
+/**
+ * Endpoints de /api/v1/symbol-types y /api/v1/object-types ejercitados por la prueba.
+ *
+ * Las lecturas eligen elementos al azar del catálogo sintético; las escrituras crean elementos nuevos
+ * o actualizan elementos existentes conservando su apiName.
+ */
+final class Endpoints {
+
+    private static final String SYMBOLS = "/api/v1/symbol-types";
+    private static final String OBJECTS = "/api/v1/object-types";
+
+    private Endpoints() {
+    }
+
+    static List<Endpoint> all(int imageBytes) {
+        return List.of(
+                read("symbol-types.list", (c, r) -> c.get(SYMBOLS + "?limit=50")),
+                read("symbol-types.by-id", (c, r) -> c.get(SYMBOLS + "/" + c.symbolId(c.randomSymbolIndex(r)))),
+                read("symbol-types.by-api-name",
+                        (c, r) -> c.get(SYMBOLS + "/api-name/" + encode(c.symbolApiName(c.randomSymbolIndex(r))))),
+                read("symbol-types.image", (c, r) -> c.get(SYMBOLS + "/" + c.symbolId(c.randomSymbolIndex(r)) + "/image")),
+                read("symbol-types.batch", (c, r) -> c.get(SYMBOLS + "/batch?ids=" + symbolIds(c, r, 20))),
+                read("symbol-types.search", (c, r) -> c.get(SYMBOLS + "/search?name=" + encode(word(r)) + "&limit=50")),
+                read("symbol-types.filter", (c, r) -> c.get(SYMBOLS + "/filter?symbolType="
+                        + SyntheticCatalog.SYMBOL_TYPES[r.nextInt(SyntheticCatalog.SYMBOL_TYPES.length)]
+                        + "&isAssigned=true&limit=50")),
+                read("symbol-types.suggest", (c, r) -> c.get(SYMBOLS + "/suggest?prefix=" + encode(prefix(r)))),
+                read("symbol-types.by-type", (c, r) -> c.get(SYMBOLS + "/by-type/"
+                        + SyntheticCatalog.SYMBOL_TYPES[r.nextInt(SyntheticCatalog.SYMBOL_TYPES.length)] + "?limit=50")),
+                read("symbol-types.default-or-assigned", (c, r) -> c.get(SYMBOLS + "/default-or-assigned?limit=50")),
+                write("symbol-types.create", (c, r) -> c.json("POST", SYMBOLS,
+                        SyntheticCatalog.symbolType(c.nextApiName("LT_SYM_NEW_"), "FUNCTION", r, imageBytes))),
+                write("symbol-types.update", (c, r) -> {
+                    int index = c.randomSymbolIndex(r);
+                    Map<String, Object> body = SyntheticCatalog.symbolType(c.symbolApiName(index),
+                            SyntheticCatalog.SYMBOL_TYPES[index % SyntheticCatalog.SYMBOL_TYPES.length], r, 0);
+                    return c.json("PUT", SYMBOLS + "/" + c.symbolId(index), body);
+                }),
+
+                read("object-types.list", (c, r) -> c.get(OBJECTS + "?limit=50")),
+                read("object-types.by-id", (c, r) -> c.get(OBJECTS + "/" + c.objectId(c.randomObjectIndex(r)))),
+                read("object-types.by-api-name",
+                        (c, r) -> c.get(OBJECTS + "/api-name/" + encode(c.objectApiName(c.randomObjectIndex(r))))),
+                read("object-types.batch", (c, r) -> c.get(OBJECTS + "/batch?ids=" + objectIds(c, r, 20))),
+                read("object-types.search", (c, r) -> c.get(OBJECTS + "/search?name=" + encode(word(r)) + "&limit=50")),
+                read("object-types.filter", (c, r) -> c.get(OBJECTS + "/filter?isDefault=true&limit=50")),
+                read("object-types.suggest", (c, r) -> c.get(OBJECTS + "/suggest?prefix=" + encode(prefix(r)))),
+                read("object-types.default-or-assigned", (c, r) -> c.get(OBJECTS + "/default-or-assigned?limit=50")),
+                write("object-types.create", (c, r) -> c.json("POST", OBJECTS,
+                        SyntheticCatalog.objectType(c.nextApiName("LT_OBJ_NEW_"), r))),
+                write("object-types.update", (c, r) -> {
+                    int index = c.randomObjectIndex(r);
+                    return c.json("PUT", OBJECTS + "/" + c.objectId(index),
+                            SyntheticCatalog.objectType(c.objectApiName(index), r));
+                })
+        );
+    }
+
+    private static Endpoint read(String name, BiFunction<SyntheticCatalog, SplittableRandom, HttpRequest> request) {
+        return new Endpoint(name, false, request);
+    }
+
+    private static Endpoint write(String name, BiFunction<SyntheticCatalog, SplittableRandom, HttpRequest> request) {
+        return new Endpoint(name, true, request);
+    }
+
+    private static String prefix(SplittableRandom random) {
+        String word = word(random);
+        return word.substring(0, Math.min(word.length(), 2 + random.nextInt(2)));
+    }
+
+    private static String symbolIds(SyntheticCatalog catalog, SplittableRandom random, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> String.valueOf(catalog.symbolId(catalog.randomSymbolIndex(random))))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String objectIds(SyntheticCatalog catalog, SplittableRandom random, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> String.valueOf(catalog.objectId(catalog.randomObjectIndex(random))))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,90 @@
+package com.sigapi.catalog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigapi.catalog.MsCatalogSymbolApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prueba de carga reproducible del catálogo (mvn -Ploadtest compile exec:java).
+ *
+ * Sin loadtest.base-url arranca la aplicación en un puerto libre con el perfil dev (H2 en memoria, con sus
+ * índices de schema-h2.sql pero sin los datos de ejemplo), carga un catálogo sintético y ejecuta cada endpoint por separado y después la mezcla de lecturas y
+ * escrituras, siempre a ritmo fijo. El informe se escribe en target/loadtest/&lt;label&gt;.json.
+ */
+@Slf4j
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = settings.baseUrl();
+        if (baseUrl.isBlank()) {
+            context = new SpringApplicationBuilder(MsCatalogSymbolApplication.class)
+                    .profiles("dev")
+                    .properties("server.port=0",
+                            // schema.sql y data.sql son de PostgreSQL: solo el script de índices de H2
+                            "spring.sql.init.schema-locations=classpath:schema-h2.sql",
+                            "spring.sql.init.data-locations=",
+                            "spring.jpa.show-sql=false",
+                            "logging.level.com.sigapi.catalog=WARN",
+                            "logging.level.com.sigapi.catalog.loadtest=INFO")
+                    .run(args);
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            SyntheticCatalog catalog = new SyntheticCatalog(URI.create(baseUrl), objectMapper);
+            catalog.seed(client, settings.catalogSize(), settings.imageBytes());
+
+            List<Endpoint> endpoints = Endpoints.all(settings.imageBytes()).stream()
+                    .filter(endpoint -> settings.endpoints().matcher(endpoint.name()).matches())
+                    .toList();
+            List<Endpoint> reads = endpoints.stream().filter(endpoint -> !endpoint.write()).toList();
+            List<Endpoint> writes = endpoints.stream().filter(Endpoint::write).toList();
+
+            OpenLoopRunner runner = new OpenLoopRunner(client, catalog, settings);
+            LoadTestReport report = new LoadTestReport(objectMapper);
+            List<PhaseResult> phases = new ArrayList<>();
+            if (settings.phases().contains("isolated")) {
+                for (Endpoint endpoint : endpoints) {
+                    PhaseResult phase = endpoint.write()
+                            ? runner.run(endpoint.name(), List.of(), List.of(endpoint), 0)
+                            : runner.run(endpoint.name(), List.of(endpoint), List.of(), 1);
+                    report.log(phase);
+                    phases.add(phase);
+                }
+            }
+            if (settings.phases().contains("mixed")) {
+                PhaseResult phase = runner.run("mixed", reads, writes, settings.readRatio());
+                report.log(phase);
+                phases.add(phase);
+            }
+
+            Path file = report.write(settings, baseUrl, phases);
+            log.info("Informe de carga escrito en {}", file.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
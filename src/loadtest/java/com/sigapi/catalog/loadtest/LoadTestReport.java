@@ -0,0 +1,136 @@
+package com.sigapi.catalog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Informe JSON de la prueba, pensado para compararse entre commits.
+ *
+ * Además de los percentiles incluye cada histograma de tiempo de respuesta comprimido en Base64
+ * (formato de HdrHistogram), que puede decodificarse con Histogram.decodeFromCompressedByteBuffer
+ * para combinar o recalcular percentiles.
+ */
+@Slf4j
+class LoadTestReport {
+
+    private final ObjectMapper objectMapper;
+
+    LoadTestReport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    Path write(LoadTestSettings settings, String target, List<PhaseResult> phases) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", settings.label());
+        report.put("timestamp", Instant.now().toString());
+        report.put("target", target);
+        report.put("settings", settings(settings));
+        List<Map<String, Object>> phaseReports = new ArrayList<>();
+        for (PhaseResult phase : phases) {
+            phaseReports.add(phase(phase));
+        }
+        report.put("phases", phaseReports);
+
+        Files.createDirectories(settings.outputDir());
+        Path file = settings.outputDir().resolve(settings.label() + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    /**
+     * Resumen legible de una fase en el log
+     */
+    void log(PhaseResult phase) {
+        log.info("Fase {} ({} peticiones/s, retraso máximo de envío {} ms)",
+                phase.name(), phase.targetRate(), phase.maxScheduleLagMillis());
+        log.info(String.format("  %-36s %8s %7s %9s %9s %9s %9s", "endpoint", "count", "errors",
+                "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        phase.endpoints().forEach((name, stats) -> {
+            Histogram histogram = stats.responseTime();
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            log.info(String.format("  %-36s %8d %7d %9.2f %9.2f %9.2f %9.2f", name, histogram.getTotalCount(),
+                    stats.errors(), millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        });
+    }
+
+    private Map<String, Object> settings(LoadTestSettings settings) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rate", settings.rate());
+        result.put("warmupSeconds", settings.warmupSeconds());
+        result.put("durationSeconds", settings.durationSeconds());
+        result.put("concurrency", settings.concurrency());
+        result.put("readRatio", settings.readRatio());
+        result.put("catalogSize", settings.catalogSize());
+        result.put("imageBytes", settings.imageBytes());
+        result.put("endpoints", settings.endpoints().pattern());
+        result.put("phases", settings.phases());
+        return result;
+    }
+
+    private Map<String, Object> phase(PhaseResult phase) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", phase.name());
+        result.put("targetRate", phase.targetRate());
+        result.put("measuredSeconds", phase.measuredSeconds());
+        result.put("maxScheduleLagMillis", phase.maxScheduleLagMillis());
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        phase.endpoints().forEach((name, stats) -> {
+            long count = stats.responseTime().getTotalCount();
+            if (count == 0) {
+                return;
+            }
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("name", name);
+            endpoint.put("count", count);
+            endpoint.put("achievedRate", (double) count / phase.measuredSeconds());
+            endpoint.put("errors", stats.errors());
+            endpoint.put("failures", stats.failures());
+            endpoint.put("statuses", stats.statuses());
+            endpoint.put("responseTimeMillis", percentiles(stats.responseTime()));
+            endpoint.put("serviceTimeMillis", percentiles(stats.serviceTime()));
+            endpoint.put("responseTimeHistogram", encode(stats.responseTime()));
+            endpoints.add(endpoint);
+        });
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mean", histogram.getMean() / 1000.0);
+        result.put("p50", millis(histogram.getValueAtPercentile(50)));
+        result.put("p90", millis(histogram.getValueAtPercentile(90)));
+        result.put("p99", millis(histogram.getValueAtPercentile(99)));
+        result.put("p99.9", millis(histogram.getValueAtPercentile(99.9)));
+        result.put("max", millis(histogram.getMaxValue()));
+        return result;
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
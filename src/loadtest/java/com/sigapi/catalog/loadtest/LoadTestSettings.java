@@ -0,0 +1,61 @@
+package com.sigapi.catalog.loadtest;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Parámetros de la prueba de carga, leídos de propiedades del sistema (-Dloadtest.*)
+ *
+ * @param baseUrl        URL de un servicio ya arrancado; si está vacía se arranca la aplicación con el perfil dev
+ * @param rate           peticiones por segundo enviadas a ritmo fijo, con independencia de las respuestas
+ * @param warmupSeconds  segundos iniciales de cada fase que no se registran
+ * @param durationSeconds segundos medidos de cada fase
+ * @param concurrency    máximo de peticiones en curso
+ * @param readRatio      proporción de lecturas en la fase mixta
+ * @param catalogSize    elementos sintéticos de cada catálogo
+ * @param imageBytes     tamaño de la imagen de cada tipo de símbolo sintético (0 = sin imagen)
+ * @param endpoints      expresión regular que filtra los endpoints por nombre
+ * @param phases         fases a ejecutar: isolated (cada endpoint por separado) y/o mixed (mezcla lectura/escritura)
+ * @param label          nombre del informe (por ejemplo, el commit medido)
+ * @param outputDir      directorio de los informes
+ */
+record LoadTestSettings(String baseUrl,
+                        int rate,
+                        int warmupSeconds,
+                        int durationSeconds,
+                        int concurrency,
+                        double readRatio,
+                        int catalogSize,
+                        int imageBytes,
+                        Pattern endpoints,
+                        Set<String> phases,
+                        String label,
+                        Path outputDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+                System.getProperty("loadtest.base-url", ""),
+                Integer.getInteger("loadtest.rate", 200),
+                Integer.getInteger("loadtest.warmup-seconds", 10),
+                Integer.getInteger("loadtest.duration-seconds", 30),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Double.parseDouble(System.getProperty("loadtest.read-ratio", "0.9")),
+                Integer.getInteger("loadtest.catalog-size", 2000),
+                Integer.getInteger("loadtest.image-bytes", 4096),
+                Pattern.compile(System.getProperty("loadtest.endpoints", ".*")),
+                Set.of(System.getProperty("loadtest.phases", "isolated,mixed").split("\\s*,\\s*")),
+                System.getProperty("loadtest.label",
+                        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))),
+                Path.of(System.getProperty("loadtest.output-dir", "target/loadtest")));
+        if (settings.rate() <= 0 || settings.concurrency() <= 0 || settings.durationSeconds() <= 0) {
+            throw new IllegalArgumentException("rate, concurrency y duration-seconds deben ser positivos");
+        }
+        if (settings.readRatio() < 0 || settings.readRatio() > 1) {
+            throw new IllegalArgumentException("read-ratio debe estar entre 0 y 1");
+        }
+        return settings;
+    }
+}
@@ -0,0 +1,89 @@
+package com.sigapi.catalog.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga en lazo abierto: las peticiones se programan a intervalos fijos y se envían sin esperar
+ * a las anteriores, hasta el límite de concurrencia. Si el servicio se retrasa, la cola de peticiones
+ * pendientes crece y ese tiempo se refleja en la latencia, como le ocurriría a un cliente real.
+ */
+@Slf4j
+class OpenLoopRunner {
+
+    private final HttpClient client;
+    private final SyntheticCatalog catalog;
+    private final LoadTestSettings settings;
+
+    OpenLoopRunner(HttpClient client, SyntheticCatalog catalog, LoadTestSettings settings) {
+        this.client = client;
+        this.catalog = catalog;
+        this.settings = settings;
+    }
+
+    /**
+     * Ejecuta una fase repartiendo las peticiones entre lecturas y escrituras según readRatio
+     */
+    PhaseResult run(String name, List<Endpoint> reads, List<Endpoint> writes, double readRatio)
+            throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        reads.forEach(endpoint -> stats.put(endpoint.name(), new EndpointStats()));
+        writes.forEach(endpoint -> stats.put(endpoint.name(), new EndpointStats()));
+
+        SplittableRandom random = new SplittableRandom(name.hashCode());
+        Semaphore inFlight = new Semaphore(settings.concurrency());
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long total = (long) settings.rate() * (settings.warmupSeconds() + settings.durationSeconds());
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        long maxLag = 0;
+
+        log.info("Fase {}: {} peticiones/s durante {} s (+{} s de calentamiento)",
+                name, settings.rate(), settings.durationSeconds(), settings.warmupSeconds());
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * interval;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean write = !writes.isEmpty() && (reads.isEmpty() || random.nextDouble() >= readRatio);
+            List<Endpoint> candidates = write ? writes : reads;
+            Endpoint endpoint = candidates.get(random.nextInt(candidates.size()));
+            HttpRequest request = endpoint.request().apply(catalog, random);
+            EndpointStats endpointStats = intended >= measureFrom ? stats.get(endpoint.name()) : null;
+
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            maxLag = Math.max(maxLag, sent - intended);
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long completed = System.nanoTime();
+                        inFlight.release();
+                        if (endpointStats == null) {
+                            return;
+                        }
+                        if (error != null) {
+                            endpointStats.recordFailure(intended, completed);
+                        } else {
+                            endpointStats.record(intended, sent, completed, response.statusCode());
+                        }
+                    });
+        }
+        inFlight.acquire(settings.concurrency());
+        inFlight.release(settings.concurrency());
+
+        return new PhaseResult(name, settings.rate(), settings.durationSeconds(),
+                TimeUnit.NANOSECONDS.toMillis(maxLag), stats);
+    }
+}
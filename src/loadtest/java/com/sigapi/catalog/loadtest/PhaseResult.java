@@ -0,0 +1,13 @@
+package com.sigapi.catalog.loadtest;
+
+import java.util.Map;
+
+/**
+ * Resultado de una fase: estadísticas por endpoint y retraso máximo de envío respecto al ritmo fijo
+ *
+ * @param maxScheduleLagMillis incluye la espera por el límite de concurrencia; si es alto el servicio no sostuvo
+ *                             la tasa pedida (las latencias ya contabilizan ese retraso)
+ */
+record PhaseResult(String name, int targetRate, long measuredSeconds, long maxScheduleLagMillis,
+                   Map<String, EndpointStats> endpoints) {
+}
@@ -0,0 +1,203 @@
+package com.sigapi.catalog.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catálogo sintético cargado mediante los endpoints de carga masiva.
+ *
+ * Los apiName llevan el prefijo LT_ para no mezclarse con datos reales y la carga usa upsert,
+ * de modo que repetirla contra el mismo servicio no produce duplicados.
+ */
+@Slf4j
+class SyntheticCatalog {
+
+    static final String[] SYMBOL_TYPES = {"FUNCTION", "EVENT", "RULE", "DATA", "ORGANIZATIONAL", "PROCESS"};
+    static final String[] WORDS = {"proceso", "función", "evento", "regla", "dato", "cliente", "pedido",
+            "factura", "aprobación", "sistema", "usuario", "documento", "servicio", "riesgo", "control"};
+
+    private static final int CHUNK_SIZE = 500;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong created = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36).toUpperCase();
+    private int[] symbolIds = new int[0];
+    private String[] symbolApiNames = new String[0];
+    private int[] objectIds = new int[0];
+    private String[] objectApiNames = new String[0];
+
+    SyntheticCatalog(URI baseUri, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Carga el catálogo y recupera los IDs asignados a partir de la exportación NDJSON
+     */
+    void seed(HttpClient client, int size, int imageBytes) throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            List<Map<String, Object>> symbols = new ArrayList<>();
+            List<Map<String, Object>> objects = new ArrayList<>();
+            for (int i = from; i < Math.min(size, from + CHUNK_SIZE); i++) {
+                symbols.add(symbolType(i, random, imageBytes));
+                objects.add(objectType(i, random));
+            }
+            post(client, "/api/v1/symbol-types/bulk?upsert=true", symbols);
+            post(client, "/api/v1/object-types/bulk?upsert=true", objects);
+        }
+
+        List<JsonNode> symbolRows = export(client, "/api/v1/symbol-types/export?format=ndjson");
+        symbolIds = symbolRows.stream().mapToInt(row -> row.path("idSymbol").asInt()).toArray();
+        symbolApiNames = symbolRows.stream().map(row -> row.path("apiName").asText()).toArray(String[]::new);
+        List<JsonNode> objectRows = export(client, "/api/v1/object-types/export?format=ndjson");
+        objectIds = objectRows.stream().mapToInt(row -> row.path("idObject").asInt()).toArray();
+        objectApiNames = objectRows.stream().map(row -> row.path("apiName").asText()).toArray(String[]::new);
+        log.info("Catálogo sintético cargado: {} tipos de símbolo, {} tipos de objeto", symbolIds.length, objectIds.length);
+    }
+
+    int randomSymbolIndex(SplittableRandom random) {
+        return random.nextInt(symbolIds.length);
+    }
+
+    int randomObjectIndex(SplittableRandom random) {
+        return random.nextInt(objectIds.length);
+    }
+
+    int symbolId(int index) {
+        return symbolIds[index];
+    }
+
+    String symbolApiName(int index) {
+        return symbolApiNames[index];
+    }
+
+    int objectId(int index) {
+        return objectIds[index];
+    }
+
+    String objectApiName(int index) {
+        return objectApiNames[index];
+    }
+
+    /**
+     * apiName nuevo para las altas generadas durante la prueba
+     */
+    String nextApiName(String prefix) {
+        return prefix + runId + "_" + created.incrementAndGet();
+    }
+
+    static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    static Map<String, Object> symbolType(String apiName, String type, SplittableRandom random, int imageBytes) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("apiName", apiName);
+        body.put("symbolName", word(random) + " " + word(random) + " " + random.nextInt(100_000));
+        body.put("symbolType", type);
+        body.put("symbolOrigName", word(random) + " " + word(random));
+        body.put("isDefault", random.nextInt(10) == 0 ? 1 : 0);
+        body.put("isAssigned", random.nextInt(3) == 0 ? 1 : 0);
+        if (imageBytes > 0) {
+            byte[] image = new byte[imageBytes];
+            random.nextBytes(image);
+            body.put("symbolImageBase64", Base64.getEncoder().encodeToString(image));
+        }
+        return body;
+    }
+
+    static Map<String, Object> objectType(String apiName, SplittableRandom random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("apiName", apiName);
+        body.put("objectName", word(random) + " " + word(random) + " " + random.nextInt(100_000));
+        body.put("objectOrigName", word(random) + " " + word(random));
+        body.put("isDefault", random.nextInt(10) == 0 ? 1 : 0);
+        body.put("isAssigned", random.nextInt(3) == 0 ? 1 : 0);
+        return body;
+    }
+
+    HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    HttpRequest json(String method, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Object> symbolType(int index, SplittableRandom random, int imageBytes) {
+        return symbolType("LT_SYM_" + index, SYMBOL_TYPES[index % SYMBOL_TYPES.length], random, imageBytes);
+    }
+
+    private Map<String, Object> objectType(int index, SplittableRandom random) {
+        return objectType("LT_OBJ_" + index, random);
+    }
+
+    private void post(HttpClient client, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(json("POST", path, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Carga sintética rechazada (" + response.statusCode() + "): " + response.body());
+        }
+    }
+
+    private List<JsonNode> export(HttpClient client, String path) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = client.send(get(path), HttpResponse.BodyHandlers.ofInputStream());
+        List<JsonNode> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    JsonNode row = objectMapper.readTree(line);
+                    if (row.path("apiName").asText().startsWith("LT_")) {
+                        rows.add(row);
+                    }
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("La exportación " + path + " no devolvió el catálogo sintético");
+        }
+        return rows;
+    }
+}
@@ -7,7 +7,9 @@ import io.swagger.v3.oas.annotations.servers.Server;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Clase principal del microservicio de catálogo de símbolos
@@ -28,7 +30,9 @@ import org.springframework.scheduling.annotation.EnableAsync;
  * @version 1.0.0
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableAsync
+@EnableScheduling
 @Slf4j
 @OpenAPIDefinition(
         info = @Info(
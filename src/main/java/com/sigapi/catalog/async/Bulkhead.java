@@ -0,0 +1,89 @@
+package com.sigapi.catalog.async;
+
+import com.sigapi.catalog.metrics.SqlStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compartimento de ejecución acotado para las peticiones de lectura.
+ *
+ * Cada compartimento tiene sus propios hilos y una cola limitada, de modo que las consultas pesadas
+ * no pueden ocupar los hilos de las búsquedas baratas. Con la cola llena la tarea se rechaza al momento
+ * con TaskRejectedException (503) en lugar de esperar, y la que tarda más que el tiempo máximo
+ * del compartimento termina con TimeoutException (503). No es un Executor de Spring a propósito,
+ * para no sustituir al applicationTaskExecutor que usan @Async y las respuestas en streaming.
+ */
+@Slf4j
+public class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int coreSize, int maxSize, int queueCapacity, Duration timeout,
+                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeout = timeout;
+        this.rejected = Counter.builder("catalog.bulkhead.rejected")
+                .description("Tareas rechazadas por cola llena")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("catalog-" + name + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        // Las sentencias ejecutadas en el compartimento cuentan para la petición que envió la tarea
+        executor.setTaskDecorator(SqlStatistics::propagate);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Compartimento " + name + " saturado");
+        });
+        executor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(),
+                "catalog.bulkhead." + name, Tags.of("bulkhead", name));
+    }
+
+    /**
+     * Ejecuta la tarea en el compartimento. El futuro termina con TimeoutException si la tarea no acaba
+     * en el tiempo máximo del compartimento; la tarea no se interrumpe, pero la petición se libera.
+     *
+     * @throws TaskRejectedException si los hilos y la cola están ocupados
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TaskRejectedException e) {
+            log.warn("Compartimento {} saturado: {} hilos activos, {} en cola",
+                    name, executor.getActiveCount(), executor.getQueueSize());
+            throw e;
+        }
+    }
+
+    /**
+     * Tarea de Spring MVC que se ejecuta en el compartimento con su propio tiempo máximo, para las respuestas
+     * en streaming que duran más que el de supply. Si el compartimento está saturado Spring MVC resuelve
+     * la petición con la TaskRejectedException.
+     */
+    public <T> WebAsyncTask<T> task(Duration taskTimeout, Callable<T> task) {
+        return new WebAsyncTask<>(taskTimeout.toMillis(), executor, task);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
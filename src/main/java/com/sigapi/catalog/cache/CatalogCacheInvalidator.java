@@ -0,0 +1,60 @@
+package com.sigapi.catalog.cache;
+
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.event.CatalogChangeType;
+import com.sigapi.catalog.event.ObjectTypeChangedEvent;
+import com.sigapi.catalog.event.SymbolImageReleasedEvent;
+import com.sigapi.catalog.event.SymbolTypeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida las cachés de búsqueda y de miniaturas cuando se confirma un cambio en el catálogo
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogCacheInvalidator {
+
+    private final LookupCache<SymbolTypeResponse> symbolTypeCache;
+    private final LookupCache<ObjectTypeResponse> objectTypeCache;
+    private final ThumbnailCache symbolThumbnailCache;
+
+    @TransactionalEventListener
+    @Order(CatalogRevisionUpdater.INVALIDATION_ORDER)
+    public void onSymbolTypeChanged(SymbolTypeChangedEvent event) {
+        if (event.type() == CatalogChangeType.BULK) {
+            symbolTypeCache.invalidateAll();
+            log.debug("Caché de SymbolType invalidada por carga masiva");
+            return;
+        }
+        String apiName = event.current() != null ? event.current().getApiName() : null;
+        symbolTypeCache.invalidate(event.id(), apiName, event.previousApiName());
+        log.debug("Caché de SymbolType invalidada para ID: {}", event.id());
+    }
+
+    /**
+     * Las miniaturas van por hash: solo se descartan cuando la imagen deja de existir
+     */
+    @TransactionalEventListener
+    public void onImageReleased(SymbolImageReleasedEvent event) {
+        symbolThumbnailCache.invalidate(event.imageHash());
+    }
+
+    @TransactionalEventListener
+    @Order(CatalogRevisionUpdater.INVALIDATION_ORDER)
+    public void onObjectTypeChanged(ObjectTypeChangedEvent event) {
+        if (event.type() == CatalogChangeType.BULK) {
+            objectTypeCache.invalidateAll();
+            log.debug("Caché de ObjectType invalidada por carga masiva");
+            return;
+        }
+        String apiName = event.current() != null ? event.current().getApiName() : null;
+        objectTypeCache.invalidate(event.id(), apiName, event.previousApiName());
+        log.debug("Caché de ObjectType invalidada para ID: {}", event.id());
+    }
+}
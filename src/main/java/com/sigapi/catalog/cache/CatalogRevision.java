@@ -0,0 +1,59 @@
+package com.sigapi.catalog.cache;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Revisión del catálogo de una entidad. Avanza con cada cambio confirmado y permite
+ * responder peticiones condicionales (ETag / Last-Modified) sin consultar la base de datos.
+ * La revisión es local a la instancia: avanza con los cambios propios y con las recargas periódicas que
+ * encuentran cambios de otras instancias (CatalogSnapshotUpdater). El instante de arranque forma parte
+ * del ETag para no repetir valores tras un reinicio.
+ */
+public class CatalogRevision {
+
+    private final String name;
+    private final String epoch;
+    private final AtomicReference<State> state;
+
+    public CatalogRevision(String name) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        this.name = name;
+        this.epoch = Long.toString(now.toEpochMilli(), 36);
+        this.state = new AtomicReference<>(new State(0, now));
+    }
+
+    /**
+     * Número de revisión actual
+     */
+    public long current() {
+        return state.get().revision();
+    }
+
+    /**
+     * ETag fuerte (sin comillas) de la revisión actual
+     */
+    public String eTag() {
+        return name + "-" + epoch + "-" + state.get().revision();
+    }
+
+    /**
+     * Instante del último cambio, con precisión de segundos como las cabeceras HTTP
+     */
+    public Instant lastModified() {
+        return state.get().lastModified();
+    }
+
+    /**
+     * Avanza la revisión tras un cambio en el catálogo
+     */
+    public void increment() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        state.updateAndGet(current -> new State(current.revision() + 1,
+                now.isAfter(current.lastModified()) ? now : current.lastModified()));
+    }
+
+    private record State(long revision, Instant lastModified) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.sigapi.catalog.cache;
+
+import com.sigapi.catalog.event.ObjectTypeChangedEvent;
+import com.sigapi.catalog.event.SymbolTypeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Avanza la revisión del catálogo cuando se confirma un cambio.
+ * Se ejecuta después de invalidar cachés e instantáneas para que un ETag nuevo
+ * nunca se asocie a datos antiguos.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogRevisionUpdater {
+
+    /**
+     * Orden de los listeners que invalidan o actualizan cachés, instantáneas e índices tras un cambio:
+     * siempre antes que el que avanza la revisión
+     */
+    public static final int INVALIDATION_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final CatalogRevision symbolTypeRevision;
+    private final CatalogRevision objectTypeRevision;
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onSymbolTypeChanged(SymbolTypeChangedEvent event) {
+        symbolTypeRevision.increment();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onObjectTypeChanged(ObjectTypeChangedEvent event) {
+        objectTypeRevision.increment();
+    }
+}
@@ -0,0 +1,109 @@
+package com.sigapi.catalog.cache;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Instantánea inmutable del catálogo completo, preindexada por tipo y por indicadores.
+ * Cada instantánea lleva un número de versión creciente.
+ */
+public final class CatalogSnapshot<T> {
+
+    private final long version;
+    private final Instant createdAt;
+    private final List<T> items;
+    private final Map<Integer, T> byId;
+    private final Map<String, List<T>> byType;
+    private final List<T> defaultOrAssigned;
+
+    private CatalogSnapshot(long version, List<T> items, Map<Integer, T> byId,
+                            Map<String, List<T>> byType, List<T> defaultOrAssigned) {
+        this.version = version;
+        this.createdAt = Instant.now();
+        this.items = items;
+        this.byId = byId;
+        this.byType = byType;
+        this.defaultOrAssigned = defaultOrAssigned;
+    }
+
+    /**
+     * Construye una instantánea ordenada por ID a partir de los elementos indicados
+     *
+     * @param typeOf función de clasificación por tipo, o null si el catálogo no tiene tipos
+     */
+    static <T> CatalogSnapshot<T> of(long version,
+                                     Collection<T> source,
+                                     Function<T, Integer> idOf,
+                                     Function<T, String> typeOf,
+                                     Predicate<T> isDefaultOrAssigned) {
+        List<T> sorted = new ArrayList<>(source);
+        sorted.sort(Comparator.comparing(idOf));
+
+        Map<Integer, T> byId = new HashMap<>(sorted.size() * 2);
+        Map<String, List<T>> byType = new LinkedHashMap<>();
+        List<T> defaultOrAssigned = new ArrayList<>();
+        for (T item : sorted) {
+            byId.put(idOf.apply(item), item);
+            if (typeOf != null && typeOf.apply(item) != null) {
+                byType.computeIfAbsent(typeOf.apply(item), key -> new ArrayList<>()).add(item);
+            }
+            if (isDefaultOrAssigned.test(item)) {
+                defaultOrAssigned.add(item);
+            }
+        }
+        byType.replaceAll((type, list) -> Collections.unmodifiableList(list));
+
+        return new CatalogSnapshot<>(
+                version,
+                Collections.unmodifiableList(sorted),
+                Collections.unmodifiableMap(byId),
+                Collections.unmodifiableMap(byType),
+                Collections.unmodifiableList(defaultOrAssigned));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Todos los elementos ordenados por ID
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    public T getById(Integer id) {
+        return byId.get(id);
+    }
+
+    /**
+     * Elementos de un tipo, ordenados por ID
+     */
+    public List<T> getByType(String type) {
+        return byType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Elementos por defecto o asignados, ordenados por ID
+     */
+    public List<T> getDefaultOrAssigned() {
+        return defaultOrAssigned;
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,133 @@
+package com.sigapi.catalog.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Mantiene la instantánea vigente del catálogo.
+ *
+ * Las lecturas no bloquean: devuelven la referencia actual. Las escrituras se serializan,
+ * construyen una instantánea nueva (copy-on-write) y la publican de forma atómica.
+ * La primera lectura carga el catálogo completo desde el loader.
+ */
+@Slf4j
+public class CatalogSnapshotHolder<T> {
+
+    private final String name;
+    private final Function<T, Integer> idOf;
+    private final Function<T, String> typeOf;
+    private final Predicate<T> isDefaultOrAssigned;
+    private final Supplier<List<T>> loader;
+    private final AtomicReference<CatalogSnapshot<T>> current = new AtomicReference<>();
+    private long lastVersion;
+
+    public CatalogSnapshotHolder(String name,
+                                 Function<T, Integer> idOf,
+                                 Function<T, String> typeOf,
+                                 Predicate<T> isDefaultOrAssigned,
+                                 Supplier<List<T>> loader) {
+        this.name = name;
+        this.idOf = idOf;
+        this.typeOf = typeOf;
+        this.isDefaultOrAssigned = isDefaultOrAssigned;
+        this.loader = loader;
+    }
+
+    /**
+     * Devuelve la instantánea vigente, cargándola si aún no existe
+     */
+    public CatalogSnapshot<T> get() {
+        CatalogSnapshot<T> snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = current.get();
+            if (snapshot == null) {
+                snapshot = publish(loader.get());
+            }
+            return snapshot;
+        }
+    }
+
+    public boolean isLoaded() {
+        return current.get() != null;
+    }
+
+    /**
+     * Recarga el catálogo completo desde el loader.
+     * La lectura se hace bajo el bloqueo para no perder cambios aplicados en paralelo.
+     *
+     * @return true si el contenido ha cambiado respecto a la instantánea anterior (o no había ninguna)
+     */
+    public synchronized boolean reload() {
+        CatalogSnapshot<T> previous = current.get();
+        CatalogSnapshot<T> snapshot = publish(loader.get());
+        return previous == null || !sameItems(previous, snapshot);
+    }
+
+    /**
+     * Descarta la instantánea vigente; la siguiente lectura la vuelve a cargar
+     */
+    public synchronized void invalidate() {
+        current.set(null);
+    }
+
+    /**
+     * Inserta o reemplaza un elemento. No hace nada si la instantánea no se ha cargado.
+     */
+    public synchronized void upsert(T item) {
+        CatalogSnapshot<T> snapshot = current.get();
+        if (snapshot == null) {
+            return;
+        }
+        Integer id = idOf.apply(item);
+        List<T> items = new ArrayList<>(snapshot.size() + 1);
+        for (T existing : snapshot.getItems()) {
+            if (!Objects.equals(id, idOf.apply(existing))) {
+                items.add(existing);
+            }
+        }
+        items.add(item);
+        publish(items);
+    }
+
+    /**
+     * Elimina un elemento por ID. No hace nada si la instantánea no se ha cargado.
+     */
+    public synchronized void remove(Integer id) {
+        CatalogSnapshot<T> snapshot = current.get();
+        if (snapshot == null || snapshot.getById(id) == null) {
+            return;
+        }
+        List<T> items = new ArrayList<>(snapshot.getItems());
+        items.removeIf(existing -> Objects.equals(id, idOf.apply(existing)));
+        publish(items);
+    }
+
+    private boolean sameItems(CatalogSnapshot<T> previous, CatalogSnapshot<T> snapshot) {
+        if (previous.size() != snapshot.size()) {
+            return false;
+        }
+        for (T item : snapshot.getItems()) {
+            if (!Objects.equals(item, previous.getById(idOf.apply(item)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CatalogSnapshot<T> publish(List<T> items) {
+        CatalogSnapshot<T> snapshot = CatalogSnapshot.of(++lastVersion, items, idOf, typeOf, isDefaultOrAssigned);
+        current.set(snapshot);
+        log.debug("Instantánea {} publicada: versión {}, {} elementos", name, snapshot.getVersion(), snapshot.size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sigapi.catalog.cache;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.event.CatalogChangeType;
+import com.sigapi.catalog.event.ObjectTypeChangedEvent;
+import com.sigapi.catalog.event.SymbolTypeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Aplica los cambios confirmados sobre las instantáneas del catálogo
+ * y las recarga periódicamente para recoger cambios hechos por otras instancias.
+ * La revisión local solo avanza con los cambios de esta instancia; la recarga la avanza también
+ * cuando encuentra cambios de otras, para que los ETag no sigan validando datos antiguos.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogSnapshotUpdater {
+
+    private final CatalogSnapshotHolder<SymbolTypeResponse> symbolTypeSnapshot;
+    private final CatalogSnapshotHolder<ObjectTypeResponse> objectTypeSnapshot;
+    private final CatalogRevision symbolTypeRevision;
+    private final CatalogRevision objectTypeRevision;
+    private final CatalogProperties properties;
+
+    @TransactionalEventListener
+    @Order(CatalogRevisionUpdater.INVALIDATION_ORDER)
+    public void onSymbolTypeChanged(SymbolTypeChangedEvent event) {
+        if (event.type() == CatalogChangeType.BULK) {
+            symbolTypeSnapshot.invalidate();
+        } else if (event.type() == CatalogChangeType.DELETED) {
+            symbolTypeSnapshot.remove(event.id());
+        } else {
+            symbolTypeSnapshot.upsert(event.current());
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(CatalogRevisionUpdater.INVALIDATION_ORDER)
+    public void onObjectTypeChanged(ObjectTypeChangedEvent event) {
+        if (event.type() == CatalogChangeType.BULK) {
+            objectTypeSnapshot.invalidate();
+        } else if (event.type() == CatalogChangeType.DELETED) {
+            objectTypeSnapshot.remove(event.id());
+        } else {
+            objectTypeSnapshot.upsert(event.current());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.snapshot.refresh-interval:PT5M}",
+            initialDelayString = "${catalog.snapshot.refresh-interval:PT5M}")
+    public void refresh() {
+        if (!properties.getSnapshot().isEnabled()) {
+            // Sin instantánea no se puede saber si otra instancia cambió el catálogo
+            symbolTypeRevision.increment();
+            objectTypeRevision.increment();
+            return;
+        }
+        refresh(symbolTypeSnapshot, symbolTypeRevision);
+        refresh(objectTypeSnapshot, objectTypeRevision);
+        log.debug("Instantáneas del catálogo recargadas");
+    }
+
+    /**
+     * Recarga la instantánea si está en uso y avanza la revisión si su contenido ha cambiado,
+     * o siempre si no está cargada
+     */
+    private static void refresh(CatalogSnapshotHolder<?> snapshot, CatalogRevision revision) {
+        if (!snapshot.isLoaded() || snapshot.reload()) {
+            revision.increment();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sigapi.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Recuerda el ETag de las imágenes servidas para responder 304 sin leer el contenido.
+ * Cada entrada guarda la revisión del catálogo vigente antes de la lectura y solo es válida
+ * mientras esa revisión no cambie.
+ */
+public class ImageETagRegistry {
+
+    private static final int MAXIMUM_ENTRIES = 10_000;
+
+    private final CatalogRevision revision;
+    private final Cache<String, Entry> entries = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_ENTRIES)
+            .build();
+
+    public ImageETagRegistry(CatalogRevision revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * ETag conocido para la clave, o null si no se conoce o la revisión ha cambiado
+     */
+    public String get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return entry != null && entry.revision() == revision.current() ? entry.eTag() : null;
+    }
+
+    /**
+     * Registra el ETag de una imagen leída bajo la revisión indicada
+     */
+    public void put(String key, long readRevision, String eTag) {
+        entries.put(key, new Entry(readRevision, eTag));
+    }
+
+    private record Entry(long revision, String eTag) {
+    }
+}
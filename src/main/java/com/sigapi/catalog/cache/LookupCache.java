@@ -0,0 +1,192 @@
+package com.sigapi.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Caché de lectura acotada para búsquedas de un elemento del catálogo por ID y por apiName.
+ *
+ * Usa Caffeine (política W-TinyLFU, sensible a la frecuencia de acceso) con un límite
+ * de peso aproximado en bytes. Las métricas de aciertos, fallos y expulsiones se
+ * publican en Micrometer con el nombre de caché indicado.
+ */
+public class LookupCache<V> {
+
+    private final boolean enabled;
+    private final Cache<Integer, V> byId;
+    private final Cache<String, V> byApiName;
+    private final Function<V, Integer> idOf;
+    private final Function<V, String> apiNameOf;
+    /**
+     * Avanza con cada put e invalidación, antes de tocar las entradas, para detectar cargas agrupadas obsoletas
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public LookupCache(String name,
+                       boolean enabled,
+                       long maximumWeightBytes,
+                       Duration expireAfterWrite,
+                       Function<V, Integer> idOf,
+                       Function<V, String> apiNameOf,
+                       ToIntFunction<V> weigher,
+                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.idOf = idOf;
+        this.apiNameOf = apiNameOf;
+        this.byId = build(maximumWeightBytes, expireAfterWrite, weigher);
+        this.byApiName = build(maximumWeightBytes, expireAfterWrite, weigher);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, name + ".by-id", Tags.empty());
+        CaffeineCacheMetrics.monitor(meterRegistry, byApiName, name + ".by-api-name", Tags.empty());
+    }
+
+    private static <K, V> Cache<K, V> build(long maximumWeightBytes, Duration expireAfterWrite, ToIntFunction<V> weigher) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((K key, V value) -> weigher.applyAsInt(value))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Obtiene el valor por ID o lo carga con el loader indicado.
+     * Las excepciones del loader se propagan y no se cachea nada.
+     */
+    public V getById(Integer id, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return byId.get(id, key -> loader.get());
+    }
+
+    /**
+     * Obtiene el valor por apiName o lo carga con el loader indicado
+     */
+    public V getByApiName(String apiName, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return byApiName.get(apiName, key -> loader.get());
+    }
+
+    /**
+     * Obtiene varios valores por ID. Los que faltan se cargan juntos con una sola llamada al loader;
+     * los IDs que el loader no devuelve no aparecen en el resultado y no se cachean.
+     */
+    public Map<Integer, V> getAllById(Collection<Integer> ids, Function<Collection<Integer>, Collection<V>> loader) {
+        if (!enabled) {
+            return index(loader.apply(ids), idOf);
+        }
+        return getAll(byId, ids, loader, idOf);
+    }
+
+    /**
+     * Obtiene varios valores por apiName con una sola llamada al loader para los que faltan
+     */
+    public Map<String, V> getAllByApiName(Collection<String> apiNames,
+                                          Function<Collection<String>, Collection<V>> loader) {
+        if (!enabled) {
+            return index(loader.apply(apiNames), apiNameOf);
+        }
+        return getAll(byApiName, apiNames, loader, apiNameOf);
+    }
+
+    /**
+     * A diferencia de get, Caffeine no bloquea las claves durante una carga agrupada: una invalidación
+     * que llega mientras el loader lee la base de datos no vería los valores, que se guardarían después
+     * ya obsoletos. Por eso la carga anota la generación al empezar y, si ha cambiado al terminar de guardar,
+     * retira lo que acaba de guardar. El resultado se devuelve igualmente al llamador.
+     */
+    private <K> Map<K, V> getAll(Cache<K, V> cache, Collection<K> keys,
+                                 Function<Collection<K>, Collection<V>> loader, Function<V, K> keyOf) {
+        Map<K, V> result = new HashMap<>(cache.getAllPresent(keys));
+        List<K> missing = keys.stream().filter(key -> !result.containsKey(key)).distinct().toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long loadGeneration = generation.get();
+        Map<K, V> loaded = index(loader.apply(missing), keyOf);
+        cache.putAll(loaded);
+        if (generation.get() != loadGeneration) {
+            cache.invalidateAll(loaded.keySet());
+        }
+        for (K key : missing) {
+            V value = loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private static <K, V> Map<K, V> index(Collection<V> values, Function<V, K> keyOf) {
+        Map<K, V> result = new HashMap<>();
+        for (V value : values) {
+            result.put(keyOf.apply(value), value);
+        }
+        return result;
+    }
+
+    /**
+     * Devuelve el valor cacheado por ID sin cargarlo
+     */
+    public V peekById(Integer id) {
+        return enabled ? byId.getIfPresent(id) : null;
+    }
+
+    /**
+     * Guarda un valor ya cargado en ambos índices
+     */
+    public void put(V value) {
+        if (enabled) {
+            generation.incrementAndGet();
+            byId.put(idOf.apply(value), value);
+            byApiName.put(apiNameOf.apply(value), value);
+        }
+    }
+
+    /**
+     * Invalida las entradas de un elemento.
+     * Si no se conoce ningún apiName se recorren las entradas por apiName buscando el ID.
+     */
+    public void invalidate(Integer id, String... apiNames) {
+        if (!enabled) {
+            return;
+        }
+        generation.incrementAndGet();
+        byId.invalidate(id);
+        boolean anyApiName = false;
+        for (String apiName : apiNames) {
+            if (apiName != null) {
+                byApiName.invalidate(apiName);
+                anyApiName = true;
+            }
+        }
+        if (!anyApiName) {
+            byApiName.asMap().values().removeIf(value -> Objects.equals(id, idOf.apply(value)));
+        }
+    }
+
+    /**
+     * Vacía la caché completa
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        byId.invalidateAll();
+        byApiName.invalidateAll();
+    }
+}
@@ -0,0 +1,48 @@
+package com.sigapi.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sigapi.catalog.service.SymbolImageContent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Miniaturas de imágenes de símbolo generadas bajo demanda, por hash de la imagen y tamaño, limitadas por bytes.
+ * El contenido de un hash no cambia, así que los símbolos que comparten imagen comparten miniatura y un cambio
+ * en el símbolo no necesita invalidarla. Mientras se genera una miniatura las demás peticiones de la misma clave
+ * esperan a ese resultado.
+ */
+public class ThumbnailCache {
+
+    private final List<Integer> sizes;
+    private final Cache<String, SymbolImageContent> thumbnails;
+
+    public ThumbnailCache(List<Integer> sizes, long maximumWeightBytes, MeterRegistry meterRegistry) {
+        this.sizes = List.copyOf(sizes);
+        this.thumbnails = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String key, SymbolImageContent value) -> (int) Math.min(Integer.MAX_VALUE, value.getLength()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, thumbnails, "symbol-thumbnails", Tags.empty());
+    }
+
+    public SymbolImageContent get(String imageHash, int size, Supplier<SymbolImageContent> generator) {
+        return thumbnails.get(key(imageHash, size), key -> generator.get());
+    }
+
+    /**
+     * Descarta todas las miniaturas de una imagen que ya no existe
+     */
+    public void invalidate(String imageHash) {
+        sizes.forEach(size -> thumbnails.invalidate(key(imageHash, size)));
+    }
+
+    private static String key(String imageHash, int size) {
+        return imageHash + ":" + size;
+    }
+}
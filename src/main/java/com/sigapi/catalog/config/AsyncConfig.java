@@ -0,0 +1,28 @@
+package com.sigapi.catalog.config;
+
+import com.sigapi.catalog.async.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de los compartimentos (bulkheads) en los que se ejecutan las lecturas asíncronas
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead heavyReadBulkhead(CatalogProperties properties, MeterRegistry meterRegistry) {
+        return bulkhead("heavy", properties.getBulkheads().getHeavy(), meterRegistry);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead lightReadBulkhead(CatalogProperties properties, MeterRegistry meterRegistry) {
+        return bulkhead("light", properties.getBulkheads().getLight(), meterRegistry);
+    }
+
+    private static Bulkhead bulkhead(String name, CatalogProperties.Bulkheads.Pool pool, MeterRegistry meterRegistry) {
+        return new Bulkhead(name, pool.getCoreSize(), pool.getMaxSize(), pool.getQueueCapacity(), pool.getTimeout(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,73 @@
+package com.sigapi.catalog.config;
+
+import com.sigapi.catalog.cache.CatalogRevision;
+import com.sigapi.catalog.cache.ImageETagRegistry;
+import com.sigapi.catalog.cache.LookupCache;
+import com.sigapi.catalog.cache.ThumbnailCache;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de las cachés de búsqueda por ID y apiName y de las revisiones del catálogo
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Peso base estimado de una respuesta sin imagen (bytes)
+     */
+    private static final int BASE_ENTRY_WEIGHT = 512;
+
+    @Bean
+    public LookupCache<SymbolTypeResponse> symbolTypeCache(CatalogProperties properties, MeterRegistry meterRegistry) {
+        CatalogProperties.Cache cache = properties.getCache();
+        return new LookupCache<>(
+                "symbol-types",
+                cache.isEnabled(),
+                cache.getMaximumSize().toBytes(),
+                cache.getExpireAfterWrite(),
+                SymbolTypeResponse::getIdSymbol,
+                SymbolTypeResponse::getApiName,
+                response -> BASE_ENTRY_WEIGHT + (response.getSymbolImageBase64() != null
+                        ? response.getSymbolImageBase64().length() : 0),
+                meterRegistry);
+    }
+
+    @Bean
+    public LookupCache<ObjectTypeResponse> objectTypeCache(CatalogProperties properties, MeterRegistry meterRegistry) {
+        CatalogProperties.Cache cache = properties.getCache();
+        return new LookupCache<>(
+                "object-types",
+                cache.isEnabled(),
+                cache.getMaximumSize().toBytes(),
+                cache.getExpireAfterWrite(),
+                ObjectTypeResponse::getIdObject,
+                ObjectTypeResponse::getApiName,
+                response -> BASE_ENTRY_WEIGHT,
+                meterRegistry);
+    }
+
+    @Bean
+    public CatalogRevision symbolTypeRevision() {
+        return new CatalogRevision("symbol-types");
+    }
+
+    @Bean
+    public CatalogRevision objectTypeRevision() {
+        return new CatalogRevision("object-types");
+    }
+
+    @Bean
+    public ThumbnailCache symbolThumbnailCache(CatalogProperties properties, MeterRegistry meterRegistry) {
+        CatalogProperties.Image image = properties.getImage();
+        return new ThumbnailCache(image.getThumbnailSizes(), image.getThumbnailCacheSize().toBytes(), meterRegistry);
+    }
+
+    @Bean
+    public ImageETagRegistry symbolImageETagRegistry(CatalogRevision symbolTypeRevision) {
+        return new ImageETagRegistry(symbolTypeRevision);
+    }
+}
@@ -0,0 +1,373 @@
+package com.sigapi.catalog.config;
+
+import com.sigapi.catalog.storage.ImageStorageType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propiedades de configuración del catálogo (prefijo "catalog")
+ */
+@ConfigurationProperties(prefix = "catalog")
+@Getter
+@Setter
+public class CatalogProperties {
+
+    private final Image image = new Image();
+    private final Cache cache = new Cache();
+    private final Snapshot snapshot = new Snapshot();
+    private final Search search = new Search();
+    private final Pagination pagination = new Pagination();
+    private final Bulk bulk = new Bulk();
+    private final Batch batch = new Batch();
+    private final ImportJobs importJobs = new ImportJobs();
+    private final Bulkheads bulkheads = new Bulkheads();
+    private final Metrics metrics = new Metrics();
+    private final Sql sql = new Sql();
+    private final AccessLog accessLog = new AccessLog();
+
+    /**
+     * Configuración del servicio de imágenes de símbolos
+     */
+    @Getter
+    @Setter
+    public static class Image {
+
+        /**
+         * Tiempo máximo que clientes y CDNs pueden cachear una imagen
+         */
+        private Duration cacheMaxAge = Duration.ofDays(1);
+
+        /**
+         * Tamaño máximo aceptado para una imagen subida
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(2);
+
+        /**
+         * Tamaños (px) de miniatura que se pueden pedir con ?size=
+         */
+        private List<Integer> thumbnailSizes = new ArrayList<>(List.of(16, 32, 64));
+
+        /**
+         * Memoria máxima de las miniaturas generadas
+         */
+        private DataSize thumbnailCacheSize = DataSize.ofMegabytes(16);
+
+        /**
+         * Tiempo que clientes y CDNs pueden cachear una imagen o miniatura pedida por su hash (su contenido no cambia)
+         */
+        private Duration hashCacheMaxAge = Duration.ofDays(365);
+
+        /**
+         * Si la tabla de tipos de símbolo aún tiene la antigua columna symbolimage, migrarla al arrancar
+         * (db/migrate-symbolimage-column.sql); si es false, el arranque falla hasta que se migre
+         */
+        private boolean migrateLegacyColumn = false;
+
+        private final Storage storage = new Storage();
+
+        /**
+         * Almacén del contenido de las imágenes
+         */
+        @Getter
+        @Setter
+        public static class Storage {
+
+            /**
+             * Dónde se guardan los bytes: en la base de datos o en ficheros locales
+             */
+            private ImageStorageType type = ImageStorageType.DATABASE;
+
+            /**
+             * Directorio del almacén en ficheros
+             */
+            private Path directory = Path.of("data/images");
+
+            /**
+             * Tamaño a partir del cual una imagen en fichero se envía con sendfile en lugar de leerse al heap
+             */
+            private DataSize sendfileMinSize = DataSize.ofKilobytes(48);
+
+            /**
+             * Almacén de origen: si se indica, al arrancar se mueven sus imágenes al almacén configurado
+             * en type y la aplicación termina
+             */
+            private ImageStorageType migrateFrom;
+        }
+    }
+
+    /**
+     * Configuración de las cachés de búsqueda por ID y apiName
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Activa o desactiva las cachés de búsqueda
+         */
+        private boolean enabled = true;
+
+        /**
+         * Tamaño máximo aproximado de cada caché (por ID y por apiName)
+         */
+        private DataSize maximumSize = DataSize.ofMegabytes(32);
+
+        /**
+         * Tiempo máximo de vida de una entrada; acota la desactualización entre instancias
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+
+    /**
+     * Configuración de la instantánea inmutable del catálogo para los listados completos
+     */
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        /**
+         * Sirve los listados completos desde memoria en lugar de consultar la base de datos
+         */
+        private boolean enabled = false;
+
+        /**
+         * Intervalo de recarga completa para recoger cambios de otras instancias
+         */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Configuración de los índices de búsqueda por nombre en memoria
+     */
+    @Getter
+    @Setter
+    public static class Search {
+
+        /**
+         * Resuelve las búsquedas por nombre con el índice de trigramas en lugar de LIKE '%q%'
+         */
+        private boolean enabled = true;
+
+        /**
+         * Intervalo de reconstrucción completa para recoger cambios de otras instancias
+         */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+
+        /**
+         * Número de sugerencias devueltas por defecto en el autocompletado
+         */
+        private int suggestDefaultLimit = 10;
+
+        /**
+         * Número máximo de sugerencias que se puede pedir
+         */
+        private int suggestMaxLimit = 50;
+    }
+
+    /**
+     * Configuración de la paginación por cursor de los listados
+     */
+    @Getter
+    @Setter
+    public static class Pagination {
+
+        /**
+         * Tamaño de página cuando se envía un cursor sin limit
+         */
+        private int defaultLimit = 100;
+
+        /**
+         * Tamaño de página máximo permitido
+         */
+        private int maxLimit = 1000;
+    }
+
+    /**
+     * Configuración de las cargas masivas
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        /**
+         * Número máximo de elementos por petición
+         */
+        private int maxItems = 10_000;
+
+        /**
+         * Elementos insertados entre cada flush y limpieza del contexto de persistencia.
+         * Debe ser múltiplo de hibernate.jdbc.batch_size.
+         */
+        private int flushSize = 500;
+    }
+
+    /**
+     * Configuración de las consultas por lotes de IDs o apiNames
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * Número máximo de claves (IDs más apiNames) por petición
+         */
+        private int maxKeys = 1000;
+    }
+
+    /**
+     * Configuración de las importaciones CSV / NDJSON
+     */
+    @Getter
+    @Setter
+    public static class ImportJobs {
+
+        /**
+         * Registros guardados por transacción
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Tamaño máximo del fichero recibido
+         */
+        private DataSize maxFileSize = DataSize.ofMegabytes(512);
+
+        /**
+         * Errores guardados en el informe de cada trabajo
+         */
+        private int maxErrors = 1000;
+
+        /**
+         * Importaciones ejecutadas en paralelo
+         */
+        private int concurrency = 1;
+
+        /**
+         * Importaciones en espera; las que no caben se rechazan con 503
+         */
+        private int queueCapacity = 4;
+
+        /**
+         * Tiempo que se conserva el estado de un trabajo terminado
+         */
+        private Duration retention = Duration.ofHours(1);
+
+        /**
+         * Directorio del servidor desde el que se leen las imágenes referenciadas (columna symbolImageFile)
+         */
+        private String imageDir;
+    }
+
+    /**
+     * Compartimentos de ejecución de las lecturas asíncronas
+     */
+    @Getter
+    @Setter
+    public static class Bulkheads {
+
+        /**
+         * Listados, búsquedas, filtros, imágenes y exportación
+         */
+        private final Pool heavy = new Pool(4, 8, 50, Duration.ofSeconds(30));
+
+        /**
+         * Consultas por ID, apiName y por lotes
+         */
+        private final Pool light = new Pool(8, 16, 200, Duration.ofSeconds(5));
+
+        /**
+         * Tiempo máximo de una exportación en streaming, que se ejecuta en el compartimento heavy
+         */
+        private Duration exportTimeout = Duration.ofMinutes(30);
+
+        @Getter
+        @Setter
+        public static class Pool {
+
+            private int coreSize;
+            private int maxSize;
+
+            /**
+             * Tareas en espera antes de rechazar con 503
+             */
+            private int queueCapacity;
+
+            /**
+             * Tiempo máximo de una lectura antes de responder 503
+             */
+            private Duration timeout;
+
+            public Pool() {
+            }
+
+            Pool(int coreSize, int maxSize, int queueCapacity, Duration timeout) {
+                this.coreSize = coreSize;
+                this.maxSize = maxSize;
+                this.queueCapacity = queueCapacity;
+                this.timeout = timeout;
+            }
+        }
+    }
+
+    /**
+     * Configuración de las métricas propias del catálogo
+     */
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * Intervalo de actualización de los gauges de filas y bytes de imagen (consultan la base de datos)
+         */
+        private Duration gaugeRefreshInterval = Duration.ofMinutes(1);
+    }
+
+    /**
+     * Estadísticas SQL por petición y registro de consultas lentas
+     */
+    @Getter
+    @Setter
+    public static class Sql {
+
+        /**
+         * Duración a partir de la cual una sentencia se registra como lenta (0 = desactivado)
+         */
+        private Duration slowQueryThreshold = Duration.ofMillis(500);
+
+        /**
+         * Longitud máxima de cada parámetro mostrado en el registro de consultas lentas
+         */
+        private int maxParameterLength = 64;
+
+        /**
+         * Devuelve X-SQL-Count y X-SQL-Time-Ms en las respuestas (no activar en producción)
+         */
+        private boolean responseHeaders = false;
+    }
+
+    /**
+     * Registro de acceso estructurado (logger "catalog.access")
+     */
+    @Getter
+    @Setter
+    public static class AccessLog {
+
+        private boolean enabled = true;
+
+        /**
+         * Fracción de las peticiones correctas que se registran (los errores se registran siempre)
+         */
+        private double successSampleRate = 1.0;
+
+        /**
+         * Las peticiones más lentas que este umbral se registran siempre, aunque se muestreen las correctas
+         */
+        private Duration alwaysLogSlowerThan = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sigapi.catalog.config;
+
+import com.sigapi.catalog.metrics.SqlStatisticsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource con datasource-proxy para contar las sentencias de cada petición
+ * y registrar las consultas lentas sin activar el log completo de SQL
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public SqlStatisticsListener sqlStatisticsListener(CatalogProperties properties) {
+        return new SqlStatisticsListener(properties.getSql().getSlowQueryThreshold(),
+                properties.getSql().getMaxParameterLength());
+    }
+
+    /**
+     * Método estático para que el post-procesador se registre antes de crear el DataSource
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SqlStatisticsListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.sigapi.catalog.config;
+
+import com.sigapi.catalog.storage.DatabaseImageBlobStore;
+import com.sigapi.catalog.storage.FileSystemImageBlobStore;
+import com.sigapi.catalog.storage.ImageBlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuración de los almacenes del contenido de las imágenes.
+ * Se crean los dos para poder migrar entre ellos; el activo es el indicado en catalog.image.storage.type.
+ */
+@Configuration
+public class ImageStorageConfig {
+
+    @Bean
+    public DatabaseImageBlobStore databaseImageBlobStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        String table = StringUtils.hasText(schema) ? schema + ".sigapisymbolimage" : "sigapisymbolimage";
+        return new DatabaseImageBlobStore(jdbcTemplate, table);
+    }
+
+    @Bean
+    public FileSystemImageBlobStore fileSystemImageBlobStore(CatalogProperties properties) {
+        return new FileSystemImageBlobStore(properties.getImage().getStorage().getDirectory());
+    }
+
+    @Bean
+    @Primary
+    public ImageBlobStore imageBlobStore(CatalogProperties properties,
+                                         DatabaseImageBlobStore databaseImageBlobStore,
+                                         FileSystemImageBlobStore fileSystemImageBlobStore) {
+        return switch (properties.getImage().getStorage().getType()) {
+            case DATABASE -> databaseImageBlobStore;
+            case FILESYSTEM -> fileSystemImageBlobStore;
+        };
+    }
+}
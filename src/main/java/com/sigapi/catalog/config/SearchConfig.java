@@ -0,0 +1,91 @@
+package com.sigapi.catalog.config;
+
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.mapper.ObjectTypeMapper;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import com.sigapi.catalog.repository.ObjectTypeRepository;
+import com.sigapi.catalog.repository.SymbolTypeRepository;
+import com.sigapi.catalog.search.PrefixIndex;
+import com.sigapi.catalog.search.TrigramIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Configuración de los índices en memoria de búsqueda y autocompletado (catalog.search.enabled)
+ */
+@Configuration
+public class SearchConfig {
+
+    /**
+     * Campos indexados: symbolName (búsqueda por nombre), symbolOrigName y apiName
+     */
+    @Bean
+    public TrigramIndex<SymbolTypeResponse> symbolTypeSearchIndex(
+            SymbolTypeRepository repository, SymbolTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        return new TrigramIndex<>(
+                "symbol-types",
+                SymbolTypeResponse::getIdSymbol,
+                List.of(SymbolTypeResponse::getSymbolName, SymbolTypeResponse::getSymbolOrigName,
+                        SymbolTypeResponse::getApiName),
+                symbolTypeLoader(repository, mapper, transactionManager));
+    }
+
+    /**
+     * Campos indexados: objectName (búsqueda por nombre), objectOrigName y apiName
+     */
+    @Bean
+    public TrigramIndex<ObjectTypeResponse> objectTypeSearchIndex(
+            ObjectTypeRepository repository, ObjectTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        return new TrigramIndex<>(
+                "object-types",
+                ObjectTypeResponse::getIdObject,
+                List.of(ObjectTypeResponse::getObjectName, ObjectTypeResponse::getObjectOrigName,
+                        ObjectTypeResponse::getApiName),
+                objectTypeLoader(repository, mapper, transactionManager));
+    }
+
+    @Bean
+    public PrefixIndex<SymbolTypeResponse> symbolTypeSuggestIndex(
+            SymbolTypeRepository repository, SymbolTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        return new PrefixIndex<>(
+                "symbol-types",
+                SymbolTypeResponse::getIdSymbol,
+                Map.of("apiName", SymbolTypeResponse::getApiName, "symbolName", SymbolTypeResponse::getSymbolName),
+                symbolTypeLoader(repository, mapper, transactionManager));
+    }
+
+    @Bean
+    public PrefixIndex<ObjectTypeResponse> objectTypeSuggestIndex(
+            ObjectTypeRepository repository, ObjectTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        return new PrefixIndex<>(
+                "object-types",
+                ObjectTypeResponse::getIdObject,
+                Map.of("apiName", ObjectTypeResponse::getApiName, "objectName", ObjectTypeResponse::getObjectName),
+                objectTypeLoader(repository, mapper, transactionManager));
+    }
+
+    private static Supplier<List<SymbolTypeResponse>> symbolTypeLoader(
+            SymbolTypeRepository repository, SymbolTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnly = readOnlyTemplate(transactionManager);
+        return () -> readOnly.execute(status -> mapper.toSummaryResponseList(repository.findAllSummaries()));
+    }
+
+    private static Supplier<List<ObjectTypeResponse>> objectTypeLoader(
+            ObjectTypeRepository repository, ObjectTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnly = readOnlyTemplate(transactionManager);
+        return () -> readOnly.execute(status -> repository.findAll().stream().map(mapper::toResponse).toList());
+    }
+
+    private static TransactionTemplate readOnlyTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
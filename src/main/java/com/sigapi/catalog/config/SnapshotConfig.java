@@ -0,0 +1,54 @@
+package com.sigapi.catalog.config;
+
+import com.sigapi.catalog.cache.CatalogSnapshotHolder;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.mapper.ObjectTypeMapper;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import com.sigapi.catalog.repository.ObjectTypeRepository;
+import com.sigapi.catalog.repository.SymbolTypeRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuración de las instantáneas inmutables del catálogo (catalog.snapshot.enabled)
+ */
+@Configuration
+public class SnapshotConfig {
+
+    @Bean
+    public CatalogSnapshotHolder<SymbolTypeResponse> symbolTypeSnapshot(
+            SymbolTypeRepository repository, SymbolTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnly = readOnlyTemplate(transactionManager);
+        return new CatalogSnapshotHolder<>(
+                "symbol-types",
+                SymbolTypeResponse::getIdSymbol,
+                SymbolTypeResponse::getSymbolType,
+                response -> isSet(response.getIsDefault()) || isSet(response.getIsAssigned()),
+                () -> readOnly.execute(status -> mapper.toSummaryResponseList(repository.findAllSummaries())));
+    }
+
+    @Bean
+    public CatalogSnapshotHolder<ObjectTypeResponse> objectTypeSnapshot(
+            ObjectTypeRepository repository, ObjectTypeMapper mapper, PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnly = readOnlyTemplate(transactionManager);
+        return new CatalogSnapshotHolder<>(
+                "object-types",
+                ObjectTypeResponse::getIdObject,
+                null,
+                response -> isSet(response.getIsDefault()) || isSet(response.getIsAssigned()),
+                () -> readOnly.execute(status -> repository.findAll().stream().map(mapper::toResponse).toList()));
+    }
+
+    private static TransactionTemplate readOnlyTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static boolean isSet(Integer flag) {
+        return flag != null && flag == 1;
+    }
+}
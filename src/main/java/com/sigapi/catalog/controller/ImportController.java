@@ -0,0 +1,39 @@
+package com.sigapi.catalog.controller;
+
+import com.sigapi.catalog.dto.ApiResponse;
+import com.sigapi.catalog.dto.ImportJobResponse;
+import com.sigapi.catalog.service.CatalogImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para consultar el progreso de las importaciones de catálogo
+ */
+@RestController
+@RequestMapping("/api/v1/imports")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Imports", description = "Progreso e informe de errores de las importaciones CSV / NDJSON")
+public class ImportController {
+
+    private final CatalogImportService importService;
+
+    /**
+     * Obtiene el estado de una importación
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Consultar importación", description = "Devuelve el progreso y los errores de una importación")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> getJob(
+            @Parameter(description = "ID devuelto al enviar la importación")
+            @PathVariable String jobId) {
+
+        log.debug("GET /api/v1/imports/{}", jobId);
+        ImportJobResponse job = importService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(job, "Importación " + job.getStatus()));
+    }
+}
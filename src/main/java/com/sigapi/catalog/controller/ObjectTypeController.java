@@ -1,20 +1,46 @@
 package com.sigapi.catalog.controller;
 
+import com.sigapi.catalog.async.Bulkhead;
+import com.sigapi.catalog.cache.CatalogRevision;
+import com.sigapi.catalog.config.CatalogProperties;
 import com.sigapi.catalog.dto.ApiResponse;
+import com.sigapi.catalog.dto.BatchLookupRequest;
+import com.sigapi.catalog.dto.BatchLookupResponse;
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.ExportFormat;
+import com.sigapi.catalog.dto.ImportJobResponse;
+import com.sigapi.catalog.dto.CursorPage;
+import com.sigapi.catalog.dto.CursorPageRequest;
+import com.sigapi.catalog.dto.ObjectTypeFilter;
 import com.sigapi.catalog.dto.ObjectTypeRequest;
 import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SuggestionResponse;
+import com.sigapi.catalog.importer.ImportFormat;
+import com.sigapi.catalog.service.CatalogExportService;
+import com.sigapi.catalog.service.CatalogImportService;
 import com.sigapi.catalog.service.ObjectTypeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controlador REST para gestionar tipos de objetos (ObjectType)
@@ -27,6 +53,12 @@ import java.util.List;
 public class ObjectTypeController {
 
     private final ObjectTypeService service;
+    private final CatalogProperties properties;
+    private final CatalogRevision objectTypeRevision;
+    private final CatalogImportService importService;
+    private final CatalogExportService exportService;
+    private final Bulkhead heavyReadBulkhead;
+    private final Bulkhead lightReadBulkhead;
 
     /**
      * Crea un nuevo tipo de objeto
@@ -34,7 +66,7 @@ public class ObjectTypeController {
     @PostMapping
     @Operation(summary = "Crear tipo de objeto", description = "Crea un nuevo tipo de objeto en el catálogo")
     public ResponseEntity<ApiResponse<ObjectTypeResponse>> create(@Valid @RequestBody ObjectTypeRequest request) {
-        log.info("POST /api/v1/object-types - Creando nuevo ObjectType");
+        log.debug("POST /api/v1/object-types - Creando nuevo ObjectType");
         ObjectTypeResponse response = service.create(request);
         
         ApiResponse<ObjectTypeResponse> apiResponse = ApiResponse.<ObjectTypeResponse>builder()
@@ -48,18 +80,22 @@ public class ObjectTypeController {
     }
 
     /**
-     * Obtiene todos los tipos de objeto
+     * Crea o actualiza tipos de objeto en bloque
      */
-    @GetMapping
-    @Operation(summary = "Listar todos los tipos de objeto", description = "Obtiene la lista completa de tipos de objeto")
-    public ResponseEntity<ApiResponse<List<ObjectTypeResponse>>> findAll() {
-        log.info("GET /api/v1/object-types - Obteniendo todos los ObjectTypes");
-        List<ObjectTypeResponse> responses = service.findAll();
+    @PostMapping("/bulk")
+    @Operation(summary = "Carga masiva de tipos de objeto",
+            description = "Crea los tipos de objeto recibidos (o los actualiza si upsert=true) y devuelve el resultado de cada elemento")
+    public ResponseEntity<ApiResponse<BulkResponse>> bulkSave(
+            @RequestBody List<ObjectTypeRequest> requests,
+            @RequestParam(defaultValue = "false") boolean upsert) {
+        log.debug("POST /api/v1/object-types/bulk - Carga masiva de {} ObjectTypes", requests.size());
+        BulkResponse response = service.bulkSave(requests, upsert);
         
-        ApiResponse<List<ObjectTypeResponse>> apiResponse = ApiResponse.<List<ObjectTypeResponse>>builder()
+        ApiResponse<BulkResponse> apiResponse = ApiResponse.<BulkResponse>builder()
                 .success(true)
-                .message("Se encontraron " + responses.size() + " tipos de objeto")
-                .data(responses)
+                .message("Carga masiva procesada: " + response.getCreated() + " creados, "
+                        + response.getUpdated() + " actualizados, " + response.getFailed() + " con error")
+                .data(response)
                 .timestamp(LocalDateTime.now())
                 .build();
         
@@ -67,22 +103,96 @@ public class ObjectTypeController {
     }
 
     /**
-     * Obtiene un tipo de objeto por ID
+     * Importa tipos de objeto desde un fichero CSV o NDJSON enviado como cuerpo de la petición
      */
-    @GetMapping("/{id}")
-    @Operation(summary = "Buscar por ID", description = "Obtiene un tipo de objeto específico por su ID")
-    public ResponseEntity<ApiResponse<ObjectTypeResponse>> findById(@PathVariable Integer id) {
-        log.info("GET /api/v1/object-types/{} - Buscando ObjectType por ID", id);
-        ObjectTypeResponse response = service.findById(id);
+    @PostMapping(value = "/import", consumes = {ImportFormat.CSV_VALUE, ImportFormat.NDJSON_VALUE})
+    @Operation(summary = "Importar tipos de objeto (CSV / NDJSON)",
+            description = "Encola la importación (upsert por apiName) y devuelve 202 con el trabajo. El progreso se consulta en /api/v1/imports/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> importObjectTypes(
+            @RequestParam(defaultValue = ",") char delimiter,
+            HttpServletRequest request) throws IOException {
+        log.debug("POST /api/v1/object-types/import - Importando ObjectTypes ({})", request.getContentType());
+        ImportJobResponse job = importService.submitObjectTypes(
+                request.getInputStream(), ImportFormat.fromContentType(request.getContentType()), delimiter);
         
-        ApiResponse<ObjectTypeResponse> apiResponse = ApiResponse.<ObjectTypeResponse>builder()
+        ApiResponse<ImportJobResponse> apiResponse = ApiResponse.<ImportJobResponse>builder()
                 .success(true)
-                .message("ObjectType encontrado")
-                .data(response)
+                .message("Importación aceptada")
+                .data(job)
                 .timestamp(LocalDateTime.now())
                 .build();
         
-        return ResponseEntity.ok(apiResponse);
+        return ResponseEntity.accepted().location(URI.create("/api/v1/imports/" + job.getJobId())).body(apiResponse);
+    }
+
+    /**
+     * Obtiene todos los tipos de objeto
+     */
+    @GetMapping
+    @Operation(summary = "Listar todos los tipos de objeto", description = "Obtiene la lista completa de tipos de objeto")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ObjectTypeResponse>>>> findAll(
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types - Obteniendo todos los ObjectTypes");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() -> {
+            CursorPage<ObjectTypeResponse> page = service.findAll(pageRequest);
+        
+            ApiResponse<List<ObjectTypeResponse>> apiResponse = ApiResponse.<List<ObjectTypeResponse>>builder()
+                    .success(true)
+                    .message("Se encontraron " + page.items().size() + " tipos de objeto")
+                    .data(page.items())
+                    .page(page.page())
+                    .timestamp(LocalDateTime.now())
+                    .build();
+        
+            return revalidated(apiResponse);
+        });
+    }
+
+    /**
+     * Exporta el catálogo completo de tipos de objeto en streaming, en el compartimento heavy
+     * y con su propio tiempo máximo (catalog.bulkheads.export-timeout)
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exportar tipos de objeto", description = "Escribe el catálogo completo como NDJSON o CSV directamente desde un cursor de base de datos")
+    public WebAsyncTask<Void> export(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) {
+        log.debug("GET /api/v1/object-types/export?format={} - Exportando ObjectTypes", format);
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+
+        return heavyReadBulkhead.task(properties.getBulkheads().getExportTimeout(), () -> {
+            response.setContentType(exportFormat.getMediaType().toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("object-types." + exportFormat.getParam()).build().toString());
+            exportService.exportObjectTypes(response.getOutputStream(), exportFormat);
+            return null;
+        });
+    }
+
+    /**
+     * Obtiene un tipo de objeto por ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar por ID", description = "Obtiene un tipo de objeto específico por su ID")
+    public CompletableFuture<ResponseEntity<ApiResponse<ObjectTypeResponse>>> findById(@PathVariable Integer id, WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types/{} - Buscando ObjectType por ID", id);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return lightReadBulkhead.supply(() -> {
+            ObjectTypeResponse response = service.findById(id);
+        
+            ApiResponse<ObjectTypeResponse> apiResponse = ApiResponse.<ObjectTypeResponse>builder()
+                    .success(true)
+                    .message("ObjectType encontrado")
+                    .data(response)
+                    .timestamp(LocalDateTime.now())
+                    .build();
+        
+            return revalidated(apiResponse);
+        });
     }
 
     /**
@@ -90,18 +200,51 @@ public class ObjectTypeController {
      */
     @GetMapping("/api-name/{apiName}")
     @Operation(summary = "Buscar por nombre API", description = "Obtiene un tipo de objeto por su nombre API único")
-    public ResponseEntity<ApiResponse<ObjectTypeResponse>> findByApiName(@PathVariable String apiName) {
-        log.info("GET /api/v1/object-types/api-name/{} - Buscando ObjectType por apiName", apiName);
-        ObjectTypeResponse response = service.findByApiName(apiName);
+    public CompletableFuture<ResponseEntity<ApiResponse<ObjectTypeResponse>>> findByApiName(@PathVariable String apiName, WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types/api-name/{} - Buscando ObjectType por apiName", apiName);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return lightReadBulkhead.supply(() -> {
+            ObjectTypeResponse response = service.findByApiName(apiName);
         
-        ApiResponse<ObjectTypeResponse> apiResponse = ApiResponse.<ObjectTypeResponse>builder()
-                .success(true)
-                .message("ObjectType encontrado")
-                .data(response)
-                .timestamp(LocalDateTime.now())
-                .build();
+            ApiResponse<ObjectTypeResponse> apiResponse = ApiResponse.<ObjectTypeResponse>builder()
+                    .success(true)
+                    .message("ObjectType encontrado")
+                    .data(response)
+                    .timestamp(LocalDateTime.now())
+                    .build();
         
-        return ResponseEntity.ok(apiResponse);
+            return revalidated(apiResponse);
+        });
+    }
+
+    /**
+     * Obtiene varios tipos de objeto por ID y/o apiName en una sola petición
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Buscar por lotes", description = "Obtiene varios tipos de objeto por sus IDs y/o nombres API, en el orden indicado")
+    public CompletableFuture<ResponseEntity<ApiResponse<BatchLookupResponse<ObjectTypeResponse>>>> findBatch(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> apiNames,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types/batch - Buscando ObjectTypes por lotes");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        BatchLookupRequest request = new BatchLookupRequest(ids, apiNames);
+        return lightReadBulkhead.supply(() -> revalidated(batchResponse(service.getBatch(request))));
+    }
+
+    /**
+     * Variante POST de la consulta por lotes para listas que no caben en la URL
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Buscar por lotes (POST)", description = "Obtiene varios tipos de objeto por los IDs y/o nombres API del cuerpo")
+    public CompletableFuture<ResponseEntity<ApiResponse<BatchLookupResponse<ObjectTypeResponse>>>> findBatch(
+            @RequestBody BatchLookupRequest request) {
+        log.debug("POST /api/v1/object-types/batch - Buscando ObjectTypes por lotes");
+        return lightReadBulkhead.supply(() -> ResponseEntity.ok(batchResponse(service.getBatch(request))));
     }
 
     /**
@@ -109,18 +252,81 @@ public class ObjectTypeController {
      */
     @GetMapping("/search")
     @Operation(summary = "Buscar por nombre", description = "Busca tipos de objeto cuyo nombre contenga el texto especificado")
-    public ResponseEntity<ApiResponse<List<ObjectTypeResponse>>> searchByName(@RequestParam String name) {
-        log.info("GET /api/v1/object-types/search?name={} - Buscando ObjectTypes", name);
-        List<ObjectTypeResponse> responses = service.searchByObjectName(name);
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ObjectTypeResponse>>>> searchByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "false") boolean allFields,
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types/search?name={} - Buscando ObjectTypes", name);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() -> {
+            CursorPage<ObjectTypeResponse> page = service.searchByObjectName(name, allFields, pageRequest);
+        
+            ApiResponse<List<ObjectTypeResponse>> apiResponse = ApiResponse.<List<ObjectTypeResponse>>builder()
+                    .success(true)
+                    .message("Se encontraron " + page.items().size() + " resultados")
+                    .data(page.items())
+                    .page(page.page())
+                    .timestamp(LocalDateTime.now())
+                    .build();
+        
+            return revalidated(apiResponse);
+        });
+    }
+
+    /**
+     * Filtra tipos de objeto combinando marcas, nombre y rangos de fechas
+     */
+    @GetMapping("/filter")
+    @Operation(summary = "Filtrar", description = "Combina isDefault, isAssigned, name y rangos de createDate/lastUpdate en una sola consulta")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ObjectTypeResponse>>>> filter(
+            @ParameterObject ObjectTypeFilter filter,
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types/filter - Filtrando ObjectTypes");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() -> {
+            CursorPage<ObjectTypeResponse> page = service.filter(filter, pageRequest);
+        
+            ApiResponse<List<ObjectTypeResponse>> apiResponse = ApiResponse.<List<ObjectTypeResponse>>builder()
+                    .success(true)
+                    .message("Se encontraron " + page.items().size() + " resultados")
+                    .data(page.items())
+                    .page(page.page())
+                    .timestamp(LocalDateTime.now())
+                    .build();
+        
+            return revalidated(apiResponse);
+        });
+    }
+
+    /**
+     * Autocompletado por prefijo de apiName y objectName
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Autocompletar", description = "Devuelve los valores de apiName y objectName que empiezan por el prefijo, servidos desde memoria")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types/suggest?prefix={} - Autocompletando ObjectTypes", prefix);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        List<SuggestionResponse> suggestions = service.suggest(prefix, limit);
         
-        ApiResponse<List<ObjectTypeResponse>> apiResponse = ApiResponse.<List<ObjectTypeResponse>>builder()
+        ApiResponse<List<SuggestionResponse>> apiResponse = ApiResponse.<List<SuggestionResponse>>builder()
                 .success(true)
-                .message("Se encontraron " + responses.size() + " resultados")
-                .data(responses)
+                .message("Se encontraron " + suggestions.size() + " sugerencias")
+                .data(suggestions)
                 .timestamp(LocalDateTime.now())
                 .build();
         
-        return ResponseEntity.ok(apiResponse);
+        return revalidated(apiResponse);
     }
 
     /**
@@ -128,18 +334,26 @@ public class ObjectTypeController {
      */
     @GetMapping("/default-or-assigned")
     @Operation(summary = "Buscar por defecto o asignados", description = "Obtiene tipos de objeto que sean por defecto o estén asignados")
-    public ResponseEntity<ApiResponse<List<ObjectTypeResponse>>> findDefaultOrAssigned() {
-        log.info("GET /api/v1/object-types/default-or-assigned - Buscando ObjectTypes por defecto o asignados");
-        List<ObjectTypeResponse> responses = service.findDefaultOrAssigned();
+    public CompletableFuture<ResponseEntity<ApiResponse<List<ObjectTypeResponse>>>> findDefaultOrAssigned(
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/object-types/default-or-assigned - Buscando ObjectTypes por defecto o asignados");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() -> {
+            CursorPage<ObjectTypeResponse> page = service.findDefaultOrAssigned(pageRequest);
         
-        ApiResponse<List<ObjectTypeResponse>> apiResponse = ApiResponse.<List<ObjectTypeResponse>>builder()
-                .success(true)
-                .message("Se encontraron " + responses.size() + " tipos de objeto")
-                .data(responses)
-                .timestamp(LocalDateTime.now())
-                .build();
+            ApiResponse<List<ObjectTypeResponse>> apiResponse = ApiResponse.<List<ObjectTypeResponse>>builder()
+                    .success(true)
+                    .message("Se encontraron " + page.items().size() + " tipos de objeto")
+                    .data(page.items())
+                    .page(page.page())
+                    .timestamp(LocalDateTime.now())
+                    .build();
         
-        return ResponseEntity.ok(apiResponse);
+            return revalidated(apiResponse);
+        });
     }
 
     /**
@@ -150,7 +364,7 @@ public class ObjectTypeController {
     public ResponseEntity<ApiResponse<ObjectTypeResponse>> update(
             @PathVariable Integer id,
             @Valid @RequestBody ObjectTypeRequest request) {
-        log.info("PUT /api/v1/object-types/{} - Actualizando ObjectType", id);
+        log.debug("PUT /api/v1/object-types/{} - Actualizando ObjectType", id);
         ObjectTypeResponse response = service.update(id, request);
         
         ApiResponse<ObjectTypeResponse> apiResponse = ApiResponse.<ObjectTypeResponse>builder()
@@ -169,7 +383,7 @@ public class ObjectTypeController {
     @DeleteMapping("/{id}")
     @Operation(summary = "Eliminar tipo de objeto", description = "Elimina un tipo de objeto del catálogo")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Integer id) {
-        log.info("DELETE /api/v1/object-types/{} - Eliminando ObjectType", id);
+        log.debug("DELETE /api/v1/object-types/{} - Eliminando ObjectType", id);
         service.delete(id);
         
         ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
@@ -180,5 +394,32 @@ public class ObjectTypeController {
         
         return ResponseEntity.ok(apiResponse);
     }
-}
 
+    /**
+     * Comprueba If-None-Match / If-Modified-Since contra la revisión actual del catálogo
+     */
+    private boolean notModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(
+                objectTypeRevision.eTag(), objectTypeRevision.lastModified().toEpochMilli());
+    }
+
+    /**
+     * Respuesta 200 que obliga al cliente a revalidar antes de reutilizarla
+     */
+    private static <T> ResponseEntity<T> revalidated(T body) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+    }
+
+    /**
+     * Envuelve el resultado de una consulta por lotes
+     */
+    private static ApiResponse<BatchLookupResponse<ObjectTypeResponse>> batchResponse(
+            BatchLookupResponse<ObjectTypeResponse> batch) {
+        return ApiResponse.<BatchLookupResponse<ObjectTypeResponse>>builder()
+                .success(true)
+                .message("Se encontraron " + batch.getItems().size() + " ObjectTypes")
+                .data(batch)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
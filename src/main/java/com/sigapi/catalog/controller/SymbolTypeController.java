@@ -1,20 +1,53 @@
 package com.sigapi.catalog.controller;
 
+import com.sigapi.catalog.async.Bulkhead;
+import com.sigapi.catalog.cache.CatalogRevision;
+import com.sigapi.catalog.config.CatalogProperties;
 import com.sigapi.catalog.dto.ApiResponse;
+import com.sigapi.catalog.dto.BatchLookupRequest;
+import com.sigapi.catalog.dto.BatchLookupResponse;
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.ExportFormat;
+import com.sigapi.catalog.dto.ImportJobResponse;
+import com.sigapi.catalog.dto.CursorPage;
+import com.sigapi.catalog.dto.CursorPageRequest;
+import com.sigapi.catalog.dto.SuggestionResponse;
+import com.sigapi.catalog.dto.SymbolTypeFilter;
 import com.sigapi.catalog.dto.SymbolTypeRequest;
 import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.importer.ImportFormat;
+import com.sigapi.catalog.service.CatalogExportService;
+import com.sigapi.catalog.service.CatalogImportService;
+import com.sigapi.catalog.service.SymbolImageContent;
+import com.sigapi.catalog.service.SymbolImageService;
 import com.sigapi.catalog.service.SymbolTypeService;
+import com.sigapi.catalog.util.Sendfile;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controlador REST para gestionar tipos de símbolos
@@ -28,6 +61,13 @@ import java.util.List;
 public class SymbolTypeController {
 
     private final SymbolTypeService service;
+    private final SymbolImageService imageService;
+    private final CatalogProperties properties;
+    private final CatalogRevision symbolTypeRevision;
+    private final CatalogImportService importService;
+    private final CatalogExportService exportService;
+    private final Bulkhead heavyReadBulkhead;
+    private final Bulkhead lightReadBulkhead;
 
     /**
      * Crea un nuevo tipo de símbolo
@@ -37,7 +77,7 @@ public class SymbolTypeController {
     public ResponseEntity<ApiResponse<SymbolTypeResponse>> create(
             @Valid @RequestBody SymbolTypeRequest request) {
         
-        log.info("POST /api/v1/symbol-types - Crear tipo de símbolo");
+        log.debug("POST /api/v1/symbol-types - Crear tipo de símbolo");
         SymbolTypeResponse response = service.create(request);
         
         return ResponseEntity
@@ -45,19 +85,97 @@ public class SymbolTypeController {
                 .body(ApiResponse.success(response, "Tipo de símbolo creado exitosamente"));
     }
 
+    /**
+     * Crea o actualiza tipos de símbolo en bloque
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Carga masiva de tipos de símbolo",
+            description = "Crea los tipos de símbolo recibidos (o los actualiza si upsert=true) y devuelve el resultado de cada elemento")
+    public ResponseEntity<ApiResponse<BulkResponse>> bulkSave(
+            @RequestBody List<SymbolTypeRequest> requests,
+            @Parameter(description = "Actualizar los apiName existentes en lugar de informarlos como duplicados")
+            @RequestParam(defaultValue = "false") boolean upsert) {
+
+        log.debug("POST /api/v1/symbol-types/bulk - {} elementos", requests.size());
+        BulkResponse response = service.bulkSave(requests, upsert);
+
+        return ResponseEntity.ok(ApiResponse.success(response, String.format(
+                "Carga masiva procesada: %d creados, %d actualizados, %d con error",
+                response.getCreated(), response.getUpdated(), response.getFailed())));
+    }
+
+    /**
+     * Importa tipos de símbolo desde un fichero CSV o NDJSON enviado como cuerpo de la petición
+     */
+    @PostMapping(value = "/import", consumes = {ImportFormat.CSV_VALUE, ImportFormat.NDJSON_VALUE})
+    @Operation(summary = "Importar tipos de símbolo (CSV / NDJSON)",
+            description = "Encola la importación (upsert por apiName) y devuelve 202 con el trabajo. "
+                    + "El progreso se consulta en /api/v1/imports/{jobId}. La columna symbolImageFile "
+                    + "referencia imágenes en catalog.import-jobs.image-dir")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> importSymbolTypes(
+            @Parameter(description = "Separador de columnas CSV")
+            @RequestParam(defaultValue = ",") char delimiter,
+            HttpServletRequest request) throws IOException {
+
+        log.debug("POST /api/v1/symbol-types/import ({})", request.getContentType());
+        ImportJobResponse job = importService.submitSymbolTypes(
+                request.getInputStream(), ImportFormat.fromContentType(request.getContentType()), delimiter);
+
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/imports/" + job.getJobId()))
+                .body(ApiResponse.success(job, "Importación aceptada"));
+    }
+
     /**
      * Obtiene un tipo de símbolo por ID
      */
     @GetMapping("/{id}")
     @Operation(summary = "Obtener tipo de símbolo por ID")
-    public ResponseEntity<ApiResponse<SymbolTypeResponse>> getById(
+    public CompletableFuture<ResponseEntity<ApiResponse<SymbolTypeResponse>>> getById(
             @Parameter(description = "ID del tipo de símbolo")
-            @PathVariable Integer id) {
-        
-        log.info("GET /api/v1/symbol-types/{}", id);
-        SymbolTypeResponse response = service.getById(id);
+            @PathVariable Integer id,
+            WebRequest webRequest) {
         
-        return ResponseEntity.ok(ApiResponse.success(response, "Tipo de símbolo encontrado"));
+        log.debug("GET /api/v1/symbol-types/{}", id);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return lightReadBulkhead.supply(() ->
+                revalidated(ApiResponse.success(service.getById(id), "Tipo de símbolo encontrado")));
+    }
+
+    /**
+     * Busca varios tipos de símbolo por ID y/o apiName en una sola petición
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Obtener tipos de símbolo por lotes",
+            description = "Resuelve los IDs y apiNames indicados en el mismo orden e informa de los que no existen")
+    public CompletableFuture<ResponseEntity<ApiResponse<BatchLookupResponse<SymbolTypeResponse>>>> getBatch(
+            @Parameter(description = "IDs de los tipos de símbolo")
+            @RequestParam(required = false) List<Integer> ids,
+            @Parameter(description = "API Names de los tipos de símbolo")
+            @RequestParam(required = false) List<String> apiNames,
+            WebRequest webRequest) {
+
+        log.debug("GET /api/v1/symbol-types/batch");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        BatchLookupRequest request = new BatchLookupRequest(ids, apiNames);
+        return lightReadBulkhead.supply(() -> revalidated(batchResponse(service.getBatch(request))));
+    }
+
+    /**
+     * Variante POST de la consulta por lotes para listas que no caben en la URL
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Obtener tipos de símbolo por lotes (POST)")
+    public CompletableFuture<ResponseEntity<ApiResponse<BatchLookupResponse<SymbolTypeResponse>>>> getBatch(
+            @RequestBody BatchLookupRequest request) {
+
+        log.debug("POST /api/v1/symbol-types/batch");
+        return lightReadBulkhead.supply(() -> ResponseEntity.ok(batchResponse(service.getBatch(request))));
     }
 
     /**
@@ -65,12 +183,42 @@ public class SymbolTypeController {
      */
     @GetMapping
     @Operation(summary = "Obtener todos los tipos de símbolo")
-    public ResponseEntity<ApiResponse<List<SymbolTypeResponse>>> getAll() {
-        log.info("GET /api/v1/symbol-types");
-        List<SymbolTypeResponse> responses = service.getAll();
-        
-        return ResponseEntity.ok(ApiResponse.success(responses, 
-                String.format("Se encontraron %d tipos de símbolo", responses.size())));
+    public CompletableFuture<ResponseEntity<ApiResponse<List<SymbolTypeResponse>>>> getAll(
+            @Parameter(description = "Incluir la imagen en Base64 (por defecto solo se indica hasImage)")
+            @RequestParam(defaultValue = "false") boolean includeImages,
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/symbol-types");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() -> revalidated(listResponse(service.getAll(includeImages, pageRequest))));
+    }
+
+    /**
+     * Exporta el catálogo completo de tipos de símbolo en streaming, en el compartimento heavy
+     * y con su propio tiempo máximo (catalog.bulkheads.export-timeout)
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exportar tipos de símbolo",
+            description = "Escribe el catálogo completo como NDJSON o CSV directamente desde un cursor de base de datos")
+    public WebAsyncTask<Void> export(
+            @Parameter(description = "Formato: ndjson o csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Incluir la imagen en Base64")
+            @RequestParam(defaultValue = "false") boolean includeImages,
+            HttpServletResponse response) {
+
+        log.debug("GET /api/v1/symbol-types/export?format={}", format);
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+
+        return heavyReadBulkhead.task(properties.getBulkheads().getExportTimeout(), () -> {
+            response.setContentType(exportFormat.getMediaType().toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("symbol-types." + exportFormat.getParam()).build().toString());
+            exportService.exportSymbolTypes(response.getOutputStream(), exportFormat, includeImages);
+            return null;
+        });
     }
 
     /**
@@ -78,14 +226,148 @@ public class SymbolTypeController {
      */
     @GetMapping("/api-name/{apiName}")
     @Operation(summary = "Obtener tipo de símbolo por apiName")
-    public ResponseEntity<ApiResponse<SymbolTypeResponse>> getByApiName(
+    public CompletableFuture<ResponseEntity<ApiResponse<SymbolTypeResponse>>> getByApiName(
             @Parameter(description = "API Name del tipo de símbolo")
-            @PathVariable String apiName) {
+            @PathVariable String apiName,
+            WebRequest webRequest) {
         
-        log.info("GET /api/v1/symbol-types/api-name/{}", apiName);
-        SymbolTypeResponse response = service.getByApiName(apiName);
-        
-        return ResponseEntity.ok(ApiResponse.success(response, "Tipo de símbolo encontrado"));
+        log.debug("GET /api/v1/symbol-types/api-name/{}", apiName);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return lightReadBulkhead.supply(() ->
+                revalidated(ApiResponse.success(service.getByApiName(apiName), "Tipo de símbolo encontrado")));
+    }
+
+    /**
+     * Obtiene la imagen binaria de un tipo de símbolo por ID
+     */
+    @GetMapping("/{id}/image")
+    @Operation(summary = "Obtener imagen del tipo de símbolo por ID",
+            description = "Devuelve los bytes de la imagen con ETag y Cache-Control. Soporta peticiones Range. "
+                    + "Con size devuelve una miniatura PNG que cabe en size x size píxeles")
+    public CompletableFuture<ResponseEntity<Resource>> getImageById(
+            @Parameter(description = "ID del tipo de símbolo")
+            @PathVariable Integer id,
+            @Parameter(description = "Lado máximo de la miniatura en píxeles (16, 32 o 64); sin él se devuelve la original")
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+
+        log.debug("GET /api/v1/symbol-types/{}/image (size: {})", id, size);
+        if (size != null) {
+            String knownETag = imageService.findKnownThumbnailETagById(id, size);
+            if (knownETag != null && webRequest.checkNotModified(knownETag)) {
+                return null;
+            }
+            return heavyReadBulkhead.supply(() -> imageResponse(imageService.getThumbnailById(id, size)));
+        }
+        String knownETag = imageService.findKnownETagById(id);
+        if (knownETag != null && webRequest.checkNotModified(knownETag)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() -> imageResponse(imageService.getImageById(id)));
+    }
+
+    /**
+     * Obtiene la imagen binaria de un tipo de símbolo por apiName
+     */
+    @GetMapping("/api-name/{apiName}/image")
+    @Operation(summary = "Obtener imagen del tipo de símbolo por apiName",
+            description = "Devuelve los bytes de la imagen con ETag y Cache-Control. Soporta peticiones Range. "
+                    + "Con size devuelve una miniatura PNG que cabe en size x size píxeles")
+    public CompletableFuture<ResponseEntity<Resource>> getImageByApiName(
+            @Parameter(description = "API Name del tipo de símbolo")
+            @PathVariable String apiName,
+            @Parameter(description = "Lado máximo de la miniatura en píxeles (16, 32 o 64); sin él se devuelve la original")
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+
+        log.debug("GET /api/v1/symbol-types/api-name/{}/image (size: {})", apiName, size);
+        if (size != null) {
+            String knownETag = imageService.findKnownThumbnailETagByApiName(apiName, size);
+            if (knownETag != null && webRequest.checkNotModified(knownETag)) {
+                return null;
+            }
+            return heavyReadBulkhead.supply(
+                    () -> imageResponse(imageService.getThumbnailByApiName(apiName, size)));
+        }
+        String knownETag = imageService.findKnownETagByApiName(apiName);
+        if (knownETag != null && webRequest.checkNotModified(knownETag)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() -> imageResponse(imageService.getImageByApiName(apiName)));
+    }
+
+    /**
+     * Obtiene una imagen por su hash de contenido
+     */
+    @GetMapping("/images/{imageHash}")
+    @Operation(summary = "Obtener imagen por hash de contenido",
+            description = "Devuelve la imagen identificada por su SHA-256 (campo imageHash de los tipos de símbolo). "
+                    + "Los símbolos con la misma imagen comparten el hash, y su contenido no cambia: se cachea como inmutable. "
+                    + "Con size devuelve una miniatura PNG que cabe en size x size píxeles, también inmutable")
+    public ResponseEntity<Resource> getImageByHash(
+            @Parameter(description = "SHA-256 de la imagen en hexadecimal")
+            @PathVariable String imageHash,
+            @Parameter(description = "Lado máximo de la miniatura en píxeles (16, 32 o 64); sin él se devuelve la original")
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        log.debug("GET /api/v1/symbol-types/images/{} (size: {})", imageHash, size);
+        if (size != null) {
+            SymbolImageContent thumbnail = imageService.getThumbnailByHash(imageHash, size);
+            if (webRequest.checkNotModified(thumbnail.getETag())) {
+                return null;
+            }
+            return hashedImageResponse(thumbnail).body(thumbnail.toResource());
+        }
+        // El ETag es el propio hash, pero un hash desconocido es 404 aunque el cliente lo envíe en If-None-Match
+        if (webRequest.checkNotModified(imageService.getETagByHash(imageHash))) {
+            return null;
+        }
+        // Síncrono: Tomcat solo aplica sendfile a las respuestas que no son asíncronas
+        SymbolImageContent image = imageService.getImageByHash(imageHash);
+        if (image.getFile() != null && Sendfile.isSupported(request)) {
+            Sendfile.prepare(request, image.getFile(), image.getLength());
+            return hashedImageResponse(image).contentLength(image.getLength()).build();
+        }
+        return hashedImageResponse(image).body(image.toResource());
+    }
+
+    /**
+     * Sube la imagen de un tipo de símbolo como multipart/form-data
+     */
+    @PutMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Subir imagen del tipo de símbolo (multipart)",
+            description = "Reemplaza la imagen con el archivo enviado en la parte 'file'")
+    public ResponseEntity<ApiResponse<SymbolTypeResponse>> uploadImageMultipart(
+            @Parameter(description = "ID del tipo de símbolo")
+            @PathVariable Integer id,
+            @RequestPart("file") MultipartFile file) throws IOException {
+
+        log.debug("PUT /api/v1/symbol-types/{}/image (multipart)", id);
+        try (InputStream content = file.getInputStream()) {
+            SymbolTypeResponse response = imageService.uploadImage(id, content, file.getSize());
+            return ResponseEntity.ok(ApiResponse.success(response, "Imagen actualizada exitosamente"));
+        }
+    }
+
+    /**
+     * Sube la imagen de un tipo de símbolo como cuerpo binario
+     */
+    @PutMapping(value = "/{id}/image", consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, "image/*"})
+    @Operation(summary = "Subir imagen del tipo de símbolo (binario)",
+            description = "Reemplaza la imagen con el cuerpo de la petición (application/octet-stream o image/*)")
+    public ResponseEntity<ApiResponse<SymbolTypeResponse>> uploadImage(
+            @Parameter(description = "ID del tipo de símbolo")
+            @PathVariable Integer id,
+            HttpServletRequest request) throws IOException {
+
+        log.debug("PUT /api/v1/symbol-types/{}/image", id);
+        SymbolTypeResponse response = imageService.uploadImage(
+                id, request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok(ApiResponse.success(response, "Imagen actualizada exitosamente"));
     }
 
     /**
@@ -93,15 +375,64 @@ public class SymbolTypeController {
      */
     @GetMapping("/search")
     @Operation(summary = "Buscar tipos de símbolo por nombre")
-    public ResponseEntity<ApiResponse<List<SymbolTypeResponse>>> searchByName(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<SymbolTypeResponse>>>> searchByName(
             @Parameter(description = "Nombre del tipo de símbolo (búsqueda parcial)")
-            @RequestParam String name) {
-        
-        log.info("GET /api/v1/symbol-types/search?name={}", name);
-        List<SymbolTypeResponse> responses = service.searchByName(name);
+            @RequestParam String name,
+            @Parameter(description = "Incluir la imagen en Base64 (por defecto solo se indica hasImage)")
+            @RequestParam(defaultValue = "false") boolean includeImages,
+            @Parameter(description = "Buscar también en symbolOrigName y apiName")
+            @RequestParam(defaultValue = "false") boolean allFields,
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
         
-        return ResponseEntity.ok(ApiResponse.success(responses, 
-                String.format("Se encontraron %d tipos de símbolo", responses.size())));
+        log.debug("GET /api/v1/symbol-types/search?name={}", name);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() ->
+                revalidated(listResponse(service.searchByName(name, includeImages, allFields, pageRequest))));
+    }
+
+    /**
+     * Filtra tipos de símbolo combinando tipo, marcas, nombre y rangos de fechas
+     */
+    @GetMapping("/filter")
+    @Operation(summary = "Filtrar tipos de símbolo",
+            description = "Combina symbolType, isDefault, isAssigned, name y rangos de createDate/lastUpdate en una sola consulta")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<SymbolTypeResponse>>>> filter(
+            @ParameterObject SymbolTypeFilter filter,
+            @Parameter(description = "Incluir la imagen en Base64 (por defecto solo se indica hasImage)")
+            @RequestParam(defaultValue = "false") boolean includeImages,
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
+
+        log.debug("GET /api/v1/symbol-types/filter {}", filter);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() ->
+                revalidated(listResponse(service.filter(filter, includeImages, pageRequest))));
+    }
+
+    /**
+     * Autocompletado por prefijo de apiName y symbolName
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Autocompletar tipos de símbolo",
+            description = "Devuelve los valores de apiName y symbolName que empiezan por el prefijo, servidos desde memoria")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @Parameter(description = "Prefijo (sin distinguir mayúsculas)")
+            @RequestParam String prefix,
+            @Parameter(description = "Número máximo de sugerencias (catalog.search.suggest-max-limit)")
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+
+        log.debug("GET /api/v1/symbol-types/suggest?prefix={}", prefix);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        List<SuggestionResponse> suggestions = service.suggest(prefix, limit);
+        return revalidated(ApiResponse.success(suggestions, "Se encontraron " + suggestions.size() + " sugerencias"));
     }
 
     /**
@@ -109,15 +440,20 @@ public class SymbolTypeController {
      */
     @GetMapping("/by-type/{symbolType}")
     @Operation(summary = "Obtener tipos de símbolo por tipo")
-    public ResponseEntity<ApiResponse<List<SymbolTypeResponse>>> getByType(
+    public CompletableFuture<ResponseEntity<ApiResponse<List<SymbolTypeResponse>>>> getByType(
             @Parameter(description = "Tipo de símbolo")
-            @PathVariable String symbolType) {
-        
-        log.info("GET /api/v1/symbol-types/by-type/{}", symbolType);
-        List<SymbolTypeResponse> responses = service.getByType(symbolType);
+            @PathVariable String symbolType,
+            @Parameter(description = "Incluir la imagen en Base64 (por defecto solo se indica hasImage)")
+            @RequestParam(defaultValue = "false") boolean includeImages,
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
         
-        return ResponseEntity.ok(ApiResponse.success(responses, 
-                String.format("Se encontraron %d tipos de símbolo", responses.size())));
+        log.debug("GET /api/v1/symbol-types/by-type/{}", symbolType);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() ->
+                revalidated(listResponse(service.getByType(symbolType, includeImages, pageRequest))));
     }
 
     /**
@@ -125,12 +461,17 @@ public class SymbolTypeController {
      */
     @GetMapping("/default-or-assigned")
     @Operation(summary = "Obtener tipos de símbolo por defecto o asignados")
-    public ResponseEntity<ApiResponse<List<SymbolTypeResponse>>> getAllDefaultOrAssigned() {
-        log.info("GET /api/v1/symbol-types/default-or-assigned");
-        List<SymbolTypeResponse> responses = service.getAllDefaultOrAssigned();
-        
-        return ResponseEntity.ok(ApiResponse.success(responses, 
-                String.format("Se encontraron %d tipos de símbolo", responses.size())));
+    public CompletableFuture<ResponseEntity<ApiResponse<List<SymbolTypeResponse>>>> getAllDefaultOrAssigned(
+            @Parameter(description = "Incluir la imagen en Base64 (por defecto solo se indica hasImage)")
+            @RequestParam(defaultValue = "false") boolean includeImages,
+            @ParameterObject CursorPageRequest pageRequest,
+            WebRequest webRequest) {
+        log.debug("GET /api/v1/symbol-types/default-or-assigned");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        return heavyReadBulkhead.supply(() ->
+                revalidated(listResponse(service.getAllDefaultOrAssigned(includeImages, pageRequest))));
     }
 
     /**
@@ -143,7 +484,7 @@ public class SymbolTypeController {
             @PathVariable Integer id,
             @Valid @RequestBody SymbolTypeRequest request) {
         
-        log.info("PUT /api/v1/symbol-types/{}", id);
+        log.debug("PUT /api/v1/symbol-types/{}", id);
         SymbolTypeResponse response = service.update(id, request);
         
         return ResponseEntity.ok(ApiResponse.success(response, "Tipo de símbolo actualizado exitosamente"));
@@ -158,11 +499,63 @@ public class SymbolTypeController {
             @Parameter(description = "ID del tipo de símbolo")
             @PathVariable Integer id) {
         
-        log.info("DELETE /api/v1/symbol-types/{}", id);
+        log.debug("DELETE /api/v1/symbol-types/{}", id);
         service.delete(id);
         
         return ResponseEntity.ok(ApiResponse.success(null, "Tipo de símbolo eliminado exitosamente"));
     }
-}
 
+    /**
+     * Construye la respuesta binaria de una imagen.
+     * Content-Length, Accept-Ranges, las respuestas 206 y los 304 por If-None-Match
+     * los resuelve Spring MVC a partir del Resource y el ETag.
+     */
+    private ResponseEntity<Resource> imageResponse(SymbolImageContent image) {
+        return ResponseEntity.ok()
+                .contentType(image.getMediaType())
+                .eTag(image.getETag())
+                .cacheControl(CacheControl.maxAge(properties.getImage().getCacheMaxAge()).cachePublic())
+                .body(image.toResource());
+    }
 
+    /**
+     * Cabeceras de la imagen o miniatura pedida por hash: el contenido de una URL no cambia nunca,
+     * así que se marca como inmutable
+     */
+    private ResponseEntity.BodyBuilder hashedImageResponse(SymbolImageContent image) {
+        return ResponseEntity.ok()
+                .contentType(image.getMediaType())
+                .eTag(image.getETag())
+                .cacheControl(CacheControl.maxAge(properties.getImage().getHashCacheMaxAge()).cachePublic().immutable());
+    }
+
+    /**
+     * Comprueba If-None-Match / If-Modified-Since contra la revisión actual del catálogo.
+     * Si devuelve true Spring ya ha preparado la respuesta 304; si no, añade ETag y Last-Modified.
+     */
+    private boolean notModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(
+                symbolTypeRevision.eTag(), symbolTypeRevision.lastModified().toEpochMilli());
+    }
+
+    /**
+     * Respuesta 200 que obliga al cliente a revalidar antes de reutilizarla
+     */
+    private static <T> ResponseEntity<T> revalidated(T body) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+    }
+
+    private static ApiResponse<BatchLookupResponse<SymbolTypeResponse>> batchResponse(
+            BatchLookupResponse<SymbolTypeResponse> batch) {
+        return ApiResponse.success(batch, "Se encontraron " + batch.getItems().size() + " tipos de símbolo");
+    }
+
+    /**
+     * Construye la respuesta de un listado incluyendo la información de paginación
+     */
+    private static ApiResponse<List<SymbolTypeResponse>> listResponse(CursorPage<SymbolTypeResponse> page) {
+        return ApiResponse.success(page.items(),
+                String.format("Se encontraron %d tipos de símbolo", page.items().size()),
+                page.page());
+    }
+}
@@ -1,5 +1,6 @@
 package com.sigapi.catalog.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -18,6 +19,9 @@ public class ApiResponse<T> {
     private T data;
     private LocalDateTime timestamp;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PageInfo page;
+
     public static <T> ApiResponse<T> success(T data, String message) {
         return ApiResponse.<T>builder()
                 .success(true)
@@ -27,6 +31,16 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<T> success(T data, String message, PageInfo page) {
+        return ApiResponse.<T>builder()
+                .success(true)
+                .message(message)
+                .data(data)
+                .timestamp(LocalDateTime.now())
+                .page(page)
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return ApiResponse.<T>builder()
                 .success(false)
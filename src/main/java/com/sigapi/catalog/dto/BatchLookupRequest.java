@@ -0,0 +1,18 @@
+package com.sigapi.catalog.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Petición de consulta por lotes: IDs y/o apiNames a resolver en una sola llamada
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchLookupRequest {
+
+    private List<Integer> ids;
+    private List<String> apiNames;
+}
@@ -0,0 +1,20 @@
+package com.sigapi.catalog.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Resultado de una consulta por lotes. Los elementos siguen el orden de la petición
+ * (primero los IDs y después los apiNames, sin repetidos); las claves sin resultado se indican aparte.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchLookupResponse<T> {
+
+    private List<T> items;
+    private List<Integer> notFoundIds;
+    private List<String> notFoundApiNames;
+}
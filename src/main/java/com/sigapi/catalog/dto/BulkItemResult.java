@@ -0,0 +1,21 @@
+package com.sigapi.catalog.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * Resultado de un elemento de una carga masiva, en la misma posición que en la petición
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    private int index;
+    private String apiName;
+    private BulkItemStatus status;
+    private Integer id;
+    private String message;
+}
@@ -0,0 +1,10 @@
+package com.sigapi.catalog.dto;
+
+/**
+ * Resultado de un elemento de una carga masiva
+ */
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    FAILED
+}
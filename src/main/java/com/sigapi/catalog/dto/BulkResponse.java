@@ -0,0 +1,21 @@
+package com.sigapi.catalog.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Resumen de una carga masiva con el resultado de cada elemento
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkResponse {
+
+    private int total;
+    private int created;
+    private int updated;
+    private int failed;
+    private List<BulkItemResult> items;
+}
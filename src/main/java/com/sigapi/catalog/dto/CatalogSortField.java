@@ -0,0 +1,30 @@
+package com.sigapi.catalog.dto;
+
+import java.util.Arrays;
+
+/**
+ * Columnas indexadas por las que se puede ordenar y paginar el catálogo
+ */
+public enum CatalogSortField {
+    ID("id"),
+    API_NAME("apiName"),
+    NAME("name");
+
+    private final String param;
+
+    CatalogSortField(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static CatalogSortField fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(field -> field.param.equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Campo de ordenación no soportado: '" + param + "' (valores: id, apiName, name)"));
+    }
+}
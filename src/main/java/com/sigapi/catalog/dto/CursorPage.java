@@ -0,0 +1,16 @@
+package com.sigapi.catalog.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de un listado: elementos y, si se pidió paginación, sus metadatos
+ *
+ * @param items elementos de la página
+ * @param page  metadatos de paginación (null para listados completos)
+ */
+public record CursorPage<T>(List<T> items, PageInfo page) {
+
+    public static <T> CursorPage<T> unpaged(List<T> items) {
+        return new CursorPage<>(items, null);
+    }
+}
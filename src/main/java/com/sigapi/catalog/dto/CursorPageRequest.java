@@ -0,0 +1,36 @@
+package com.sigapi.catalog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Parámetros de paginación por cursor para los listados.
+ * Si no se indica limit ni cursor se devuelve el listado completo.
+ */
+@Data
+@NoArgsConstructor
+public class CursorPageRequest {
+
+    @Schema(description = "Tamaño máximo de página")
+    private Integer limit;
+
+    @Schema(description = "Cursor devuelto como page.nextCursor en la página anterior")
+    private String cursor;
+
+    @Schema(description = "Campo de ordenación: id, apiName o name", defaultValue = "id")
+    private String sort = "id";
+
+    @Schema(description = "Dirección de ordenación: asc o desc", defaultValue = "asc")
+    private String direction = "asc";
+
+    @Schema(description = "Incluir el total de elementos (ejecuta un COUNT adicional)", defaultValue = "false")
+    private boolean includeTotal;
+
+    public boolean isPaged() {
+        return limit != null || cursor != null;
+    }
+
+    public boolean isDescending() {
+        return "desc".equalsIgnoreCase(direction);
+    }
+}
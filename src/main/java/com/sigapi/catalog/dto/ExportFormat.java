@@ -0,0 +1,36 @@
+package com.sigapi.catalog.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos de exportación del catálogo
+ */
+public enum ExportFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String param;
+    private final MediaType mediaType;
+
+    ExportFormat(String param, MediaType mediaType) {
+        this.param = param;
+        this.mediaType = mediaType;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat fromParam(String value) {
+        for (ExportFormat format : values()) {
+            if (format.param.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportación no soportado: '" + value + "' (use ndjson o csv)");
+    }
+}
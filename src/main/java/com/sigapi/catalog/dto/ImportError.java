@@ -0,0 +1,19 @@
+package com.sigapi.catalog.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * Error de un registro de una importación
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportError {
+
+    private long line;
+    private String apiName;
+    private String message;
+}
@@ -0,0 +1,33 @@
+package com.sigapi.catalog.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Estado y progreso de un trabajo de importación
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobResponse {
+
+    private String jobId;
+    private String catalog;
+    private String format;
+    private ImportJobStatus status;
+    private long processed;
+    private long created;
+    private long updated;
+    private long failed;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+    private List<ImportError> errors;
+    private boolean errorsTruncated;
+}
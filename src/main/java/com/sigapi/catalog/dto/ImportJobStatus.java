@@ -0,0 +1,11 @@
+package com.sigapi.catalog.dto;
+
+/**
+ * Estado de un trabajo de importación
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
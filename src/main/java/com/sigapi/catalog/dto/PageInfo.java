@@ -0,0 +1,20 @@
+package com.sigapi.catalog.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * Metadatos de paginación por cursor (keyset)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageInfo {
+
+    private Integer limit;
+    private boolean hasMore;
+    private String nextCursor;
+    private Long total;
+}
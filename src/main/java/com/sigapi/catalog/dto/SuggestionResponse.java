@@ -0,0 +1,17 @@
+package com.sigapi.catalog.dto;
+
+import lombok.*;
+
+/**
+ * Sugerencia de autocompletado: valor completo, campo del que procede e ID del elemento
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+
+    private String value;
+    private String field;
+    private Integer id;
+}
@@ -0,0 +1,43 @@
+package com.sigapi.catalog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Criterios combinables del filtro de tipos de símbolo. Los criterios vacíos no se aplican.
+ */
+@Data
+@NoArgsConstructor
+public class SymbolTypeFilter {
+
+    @Schema(description = "Tipo de símbolo exacto (FUNCTION, EVENT...)")
+    private String symbolType;
+
+    @Schema(description = "Solo los marcados (true) o no marcados (false) por defecto")
+    private Boolean isDefault;
+
+    @Schema(description = "Solo los asignados (true) o no asignados (false)")
+    private Boolean isAssigned;
+
+    @Schema(description = "Texto contenido en symbolName (sin distinguir mayúsculas)")
+    private String name;
+
+    @Schema(description = "createDate mayor o igual (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @Schema(description = "createDate menor o igual (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    @Schema(description = "lastUpdate mayor o igual (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedFrom;
+
+    @Schema(description = "lastUpdate menor o igual (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedTo;
+}
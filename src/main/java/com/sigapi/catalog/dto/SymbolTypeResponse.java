@@ -22,5 +22,10 @@ public class SymbolTypeResponse {
     private Integer isDefault;
     private Integer isAssigned;
     private LocalDate lastUpdate;
+    private Boolean hasImage;
+    /**
+     * SHA-256 de la imagen; la misma imagen se descarga una vez desde /api/v1/symbol-types/images/{imageHash}
+     */
+    private String imageHash;
     private String symbolImageBase64;
 }
@@ -19,8 +19,13 @@ import java.time.LocalDate;
 @ToString
 public class ObjectType {
 
+    /**
+     * Secuencia con bloques de 50 IDs para permitir el batching JDBC de inserciones
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sigapiobjecttype_seq")
+    @SequenceGenerator(name = "sigapiobjecttype_seq", sequenceName = "sigapiobjecttype_idobject_seq",
+            allocationSize = 50)
     @Column(name = "idobject")
     private Integer idObject;
 
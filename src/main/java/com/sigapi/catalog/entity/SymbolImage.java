@@ -0,0 +1,52 @@
+package com.sigapi.catalog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Entidad que representa la tabla sigapisymbolimage
+ * Imágenes de símbolo direccionadas por contenido: cada imagen distinta se guarda una sola vez,
+ * identificada por el SHA-256 de sus bytes, y los tipos de símbolo la referencian.
+ * Las altas y bajas de referencias se hacen por JDBC (SymbolImageJdbcRepository).
+ * Al listar con imágenes, las referencias pendientes se cargan en bloques con una consulta IN.
+ */
+@Entity
+@Immutable
+@BatchSize(size = 50)
+@Table(name = "sigapisymbolimage")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "content")
+public class SymbolImage {
+
+    /**
+     * SHA-256 del contenido en hexadecimal; también es el ETag de la imagen
+     */
+    @Id
+    @Column(name = "imagehash", length = 64)
+    private String imageHash;
+
+    /**
+     * Contenido, si se guarda en la base de datos; null con otros almacenes (ver ImageBlobStore)
+     */
+    @Column(name = "content", columnDefinition = "bytea")
+    private byte[] content;
+
+    @Column(name = "mediatype", nullable = false, length = 100)
+    private String mediaType;
+
+    /**
+     * Número de tipos de símbolo que referencian la imagen; al llegar a 0 se elimina
+     */
+    @Column(name = "refcount", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "createdate")
+    private LocalDate createDate;
+}
@@ -19,8 +19,13 @@ import java.time.LocalDate;
 @ToString
 public class SymbolType {
 
+    /**
+     * Secuencia con bloques de 50 IDs para permitir el batching JDBC de inserciones
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sigapisymboltype_seq")
+    @SequenceGenerator(name = "sigapisymboltype_seq", sequenceName = "sigapisymboltype_idsymbol_seq",
+            allocationSize = 50)
     @Column(name = "idsymbol")
     private Integer idSymbol;
 
@@ -50,8 +55,19 @@ public class SymbolType {
     @Column(name = "lastupdate")
     private LocalDate lastUpdate;
 
-    @Column(name = "symbolimage", columnDefinition = "bytea")
-    private byte[] symbolImage;
+    /**
+     * Imagen compartida por contenido (tabla sigapisymbolimage); se carga solo al acceder a ella
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "imagehash")
+    @ToString.Exclude
+    private SymbolImage symbolImage;
+
+    /**
+     * Hash de la imagen en solo lectura, para consultar si hay imagen sin cargarla
+     */
+    @Column(name = "imagehash", length = 64, insertable = false, updatable = false)
+    private String imageHash;
 
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,14 @@
+package com.sigapi.catalog.event;
+
+/**
+ * Tipo de cambio aplicado sobre un elemento del catálogo
+ */
+public enum CatalogChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    /**
+     * Carga masiva: afecta a varios elementos y los consumidores deben recargar por completo
+     */
+    BULK
+}
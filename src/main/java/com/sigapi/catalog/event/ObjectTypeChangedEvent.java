@@ -0,0 +1,35 @@
+package com.sigapi.catalog.event;
+
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+
+/**
+ * Evento publicado cuando cambia un tipo de objeto.
+ * Los consumidores lo reciben tras el commit de la transacción.
+ *
+ * @param type            tipo de cambio
+ * @param id              ID del tipo de objeto (null en cargas masivas)
+ * @param previousApiName apiName anterior al cambio, si se conoce
+ * @param current         estado actual (null si se eliminó o en cargas masivas)
+ */
+public record ObjectTypeChangedEvent(
+        CatalogChangeType type,
+        Integer id,
+        String previousApiName,
+        ObjectTypeResponse current) {
+
+    public static ObjectTypeChangedEvent created(ObjectTypeResponse current) {
+        return new ObjectTypeChangedEvent(CatalogChangeType.CREATED, current.getIdObject(), null, current);
+    }
+
+    public static ObjectTypeChangedEvent updated(String previousApiName, ObjectTypeResponse current) {
+        return new ObjectTypeChangedEvent(CatalogChangeType.UPDATED, current.getIdObject(), previousApiName, current);
+    }
+
+    public static ObjectTypeChangedEvent deleted(Integer id, String previousApiName) {
+        return new ObjectTypeChangedEvent(CatalogChangeType.DELETED, id, previousApiName, null);
+    }
+
+    public static ObjectTypeChangedEvent bulk() {
+        return new ObjectTypeChangedEvent(CatalogChangeType.BULK, null, null, null);
+    }
+}
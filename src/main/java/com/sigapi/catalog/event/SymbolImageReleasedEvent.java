@@ -0,0 +1,10 @@
+package com.sigapi.catalog.event;
+
+/**
+ * Evento publicado cuando una imagen de símbolo se queda sin referencias y se elimina su fila.
+ * Los consumidores lo reciben tras el commit de la transacción.
+ *
+ * @param imageHash SHA-256 de la imagen eliminada
+ */
+public record SymbolImageReleasedEvent(String imageHash) {
+}
@@ -0,0 +1,35 @@
+package com.sigapi.catalog.event;
+
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+
+/**
+ * Evento publicado cuando cambia un tipo de símbolo.
+ * Los consumidores lo reciben tras el commit de la transacción.
+ *
+ * @param type            tipo de cambio
+ * @param id              ID del tipo de símbolo (null en cargas masivas)
+ * @param previousApiName apiName anterior al cambio, si se conoce
+ * @param current         estado actual sin imagen en Base64 (null si se eliminó o en cargas masivas)
+ */
+public record SymbolTypeChangedEvent(
+        CatalogChangeType type,
+        Integer id,
+        String previousApiName,
+        SymbolTypeResponse current) {
+
+    public static SymbolTypeChangedEvent created(SymbolTypeResponse current) {
+        return new SymbolTypeChangedEvent(CatalogChangeType.CREATED, current.getIdSymbol(), null, current);
+    }
+
+    public static SymbolTypeChangedEvent updated(String previousApiName, SymbolTypeResponse current) {
+        return new SymbolTypeChangedEvent(CatalogChangeType.UPDATED, current.getIdSymbol(), previousApiName, current);
+    }
+
+    public static SymbolTypeChangedEvent deleted(Integer id, String previousApiName) {
+        return new SymbolTypeChangedEvent(CatalogChangeType.DELETED, id, previousApiName, null);
+    }
+
+    public static SymbolTypeChangedEvent bulk() {
+        return new SymbolTypeChangedEvent(CatalogChangeType.BULK, null, null, null);
+    }
+}
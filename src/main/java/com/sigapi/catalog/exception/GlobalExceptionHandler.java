@@ -1,6 +1,8 @@
 package com.sigapi.catalog.exception;
 
 import com.sigapi.catalog.dto.ApiResponse;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -8,10 +10,12 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Manejador global de excepciones para la aplicación
@@ -52,6 +56,75 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Maneja imágenes y ficheros de importación que superan el tamaño máximo permitido
+     */
+    @ExceptionHandler({ImageTooLargeException.class, ImportTooLargeException.class,
+            MaxUploadSizeExceededException.class})
+    public ResponseEntity<ApiResponse<Void>> handlePayloadTooLargeException(
+            Exception ex, WebRequest request) {
+        
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(false)
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return new ResponseEntity<>(response, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    /**
+     * Maneja contenido que no es una imagen soportada
+     */
+    @ExceptionHandler(UnsupportedImageException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUnsupportedImageException(
+            UnsupportedImageException ex, WebRequest request) {
+        
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(false)
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return new ResponseEntity<>(response, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+
+    /**
+     * Maneja lecturas que superan el tiempo máximo de su compartimento
+     */
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTimeoutException(
+            TimeoutException ex, WebRequest request) {
+        
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(false)
+                .message("La consulta ha tardado demasiado, inténtelo de nuevo más tarde")
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * Maneja tareas rechazadas porque el ejecutor está saturado
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTaskRejectedException(
+            TaskRejectedException ex, WebRequest request) {
+        
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(false)
+                .message("El servicio está ocupado, inténtelo de nuevo más tarde")
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     /**
      * Maneja errores de validación de campos
      */
@@ -0,0 +1,11 @@
+package com.sigapi.catalog.exception;
+
+/**
+ * Excepción lanzada cuando una imagen supera el tamaño máximo permitido
+ */
+public class ImageTooLargeException extends RuntimeException {
+
+    public ImageTooLargeException(long maxBytes) {
+        super(String.format("La imagen supera el tamaño máximo permitido de %d bytes", maxBytes));
+    }
+}
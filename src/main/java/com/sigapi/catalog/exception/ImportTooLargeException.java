@@ -0,0 +1,11 @@
+package com.sigapi.catalog.exception;
+
+/**
+ * Excepción lanzada cuando un fichero de importación supera el tamaño máximo permitido
+ */
+public class ImportTooLargeException extends RuntimeException {
+
+    public ImportTooLargeException(long maxBytes) {
+        super(String.format("El fichero de importación supera el tamaño máximo permitido de %d bytes", maxBytes));
+    }
+}
@@ -0,0 +1,11 @@
+package com.sigapi.catalog.exception;
+
+/**
+ * Excepción lanzada cuando el contenido recibido no es un formato de imagen soportado
+ */
+public class UnsupportedImageException extends RuntimeException {
+
+    public UnsupportedImageException(String message) {
+        super(message);
+    }
+}
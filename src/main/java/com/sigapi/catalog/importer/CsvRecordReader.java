@@ -0,0 +1,136 @@
+package com.sigapi.catalog.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lee registros CSV (RFC 4180). La primera fila contiene los nombres de columna.
+ * Admite campos entre comillas con separadores, comillas dobles y saltos de línea en su interior.
+ */
+public class CsvRecordReader implements RecordReader {
+
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private List<String> header;
+    private long line = 1;
+    private long recordLine;
+    private boolean eof;
+
+    public CsvRecordReader(BufferedReader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = names.stream().map(String::trim).toList();
+        }
+
+        List<String> fields = readRecord();
+        if (fields == null) {
+            return null;
+        }
+        if (fields.size() != header.size()) {
+            throw new RecordFormatException(recordLine,
+                    "Se esperaban " + header.size() + " columnas y hay " + fields.size());
+        }
+
+        Map<String, String> record = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = fields.get(i);
+            record.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        return record;
+    }
+
+    @Override
+    public long getLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Lee los campos del siguiente registro no vacío, o null al final del fichero
+     */
+    private List<String> readRecord() throws IOException {
+        if (eof) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        recordLine = line;
+
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                eof = true;
+                if (quoted) {
+                    throw new RecordFormatException(recordLine, "Comillas sin cerrar al final del fichero");
+                }
+                if (empty) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            char ch = (char) c;
+            if (ch == BOM && line == 1 && empty) {
+                continue;
+            }
+
+            if (quoted) {
+                if (ch == QUOTE) {
+                    reader.mark(1);
+                    if (reader.read() == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+                empty = false;
+            } else if (ch == QUOTE && field.isEmpty()) {
+                quoted = true;
+                empty = false;
+            } else if (ch == '\n') {
+                line++;
+                if (empty) {
+                    // Línea en blanco: se ignora
+                    recordLine = line;
+                    continue;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (ch != '\r') {
+                field.append(ch);
+                empty = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sigapi.catalog.importer;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceptados por la importación de catálogo
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String CSV_VALUE = "text/csv";
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Resuelve el formato a partir del Content-Type de la petición
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+                return CSV;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+                return NDJSON;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Formato de importación no soportado: " + contentType + " (use text/csv o application/x-ndjson)");
+    }
+}
@@ -0,0 +1,64 @@
+package com.sigapi.catalog.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lee registros NDJSON: un objeto JSON por línea. Las líneas en blanco se ignoran.
+ */
+public class NdjsonRecordReader implements RecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    public NdjsonRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new RecordFormatException(line, "JSON no válido: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new RecordFormatException(line, "Se esperaba un objeto JSON");
+        }
+
+        Map<String, String> record = new LinkedHashMap<>();
+        node.fields().forEachRemaining(field -> {
+            JsonNode value = field.getValue();
+            record.put(field.getKey(), value.isNull() ? null : value.isValueNode() ? value.asText() : value.toString());
+        });
+        return record;
+    }
+
+    @Override
+    public long getLine() {
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
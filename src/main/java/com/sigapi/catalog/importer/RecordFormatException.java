@@ -0,0 +1,18 @@
+package com.sigapi.catalog.importer;
+
+/**
+ * Excepción lanzada cuando un registro del fichero de importación está mal formado
+ */
+public class RecordFormatException extends RuntimeException {
+
+    private final long line;
+
+    public RecordFormatException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    public long getLine() {
+        return line;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sigapi.catalog.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Lector secuencial de registros de un fichero de importación.
+ * Cada registro se devuelve como columnas nombradas con valores de texto; las celdas vacías son null.
+ */
+public interface RecordReader extends Closeable {
+
+    /**
+     * Lee el siguiente registro, o null al final del fichero.
+     *
+     * @throws RecordFormatException si el registro está mal formado; la lectura puede continuar
+     */
+    Map<String, String> next() throws IOException;
+
+    /**
+     * Línea del fichero en la que empieza el último registro leído
+     */
+    long getLine();
+}
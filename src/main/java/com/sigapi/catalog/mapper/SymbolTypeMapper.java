@@ -2,43 +2,71 @@ package com.sigapi.catalog.mapper;
 
 import com.sigapi.catalog.dto.SymbolTypeRequest;
 import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.entity.SymbolImage;
 import com.sigapi.catalog.entity.SymbolType;
+import com.sigapi.catalog.repository.projection.SymbolTypeImageRow;
+import com.sigapi.catalog.repository.projection.SymbolTypeSummary;
+import com.sigapi.catalog.storage.ImageBlobStore;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entidades y DTOs de SymbolType
  */
 @Component
+@RequiredArgsConstructor
 public class SymbolTypeMapper {
 
+    private final ImageBlobStore imageBlobStore;
+
+    /**
+     * Convierte la petición en entidad sin imagen: el servicio la asocia buscándola o guardándola por su hash
+     */
     public SymbolType toEntity(SymbolTypeRequest request) {
-        SymbolType.SymbolTypeBuilder builder = SymbolType.builder()
+        return SymbolType.builder()
                 .apiName(request.getApiName())
                 .symbolName(request.getSymbolName())
                 .symbolType(request.getSymbolType())
                 .symbolOrigName(request.getSymbolOrigName())
                 .isDefault(request.getIsDefault() != null ? request.getIsDefault() : 0)
-                .isAssigned(request.getIsAssigned() != null ? request.getIsAssigned() : 0);
-
-        // Convertir imagen Base64 a bytes si existe
-        if (request.getSymbolImageBase64() != null && !request.getSymbolImageBase64().isEmpty()) {
-            try {
-                byte[] imageBytes = Base64.getDecoder().decode(request.getSymbolImageBase64());
-                builder.symbolImage(imageBytes);
-            } catch (IllegalArgumentException e) {
-                // Si hay error en decodificación, ignorar la imagen
-            }
+                .isAssigned(request.getIsAssigned() != null ? request.getIsAssigned() : 0)
+                .build();
+    }
+
+    public SymbolTypeResponse toResponse(SymbolType entity) {
+        return toResponse(entity, new HashMap<>());
+    }
+
+    /**
+     * Convierte una entidad en respuesta reutilizando el Base64 de las imágenes ya codificadas,
+     * indexado por hash: los símbolos que comparten imagen solo la codifican una vez
+     */
+    private SymbolTypeResponse toResponse(SymbolType entity, Map<String, String> encodedImages) {
+        SymbolTypeResponse response = toSummaryResponse(entity);
+
+        // Convertir imagen a Base64 si existe
+        SymbolImage image = entity.getSymbolImage();
+        if (image != null) {
+            response.setSymbolImageBase64(encodedImages.computeIfAbsent(image.getImageHash(), hash -> {
+                byte[] content = imageBlobStore.read(image);
+                return content != null ? Base64.getEncoder().encodeToString(content) : null;
+            }));
         }
 
-        return builder.build();
+        return response;
     }
 
-    public SymbolTypeResponse toResponse(SymbolType entity) {
-        SymbolTypeResponse.SymbolTypeResponseBuilder builder = SymbolTypeResponse.builder()
+    /**
+     * Convierte una entidad en respuesta sin codificar la imagen en Base64
+     */
+    public SymbolTypeResponse toSummaryResponse(SymbolType entity) {
+        return SymbolTypeResponse.builder()
                 .idSymbol(entity.getIdSymbol())
                 .apiName(entity.getApiName())
                 .symbolName(entity.getSymbolName())
@@ -47,19 +75,55 @@ public class SymbolTypeMapper {
                 .createDate(entity.getCreateDate())
                 .isDefault(entity.getIsDefault())
                 .isAssigned(entity.getIsAssigned())
-                .lastUpdate(entity.getLastUpdate());
-
-        // Convertir imagen a Base64 si existe
-        if (entity.getSymbolImage() != null && entity.getSymbolImage().length > 0) {
-            String base64Image = Base64.getEncoder().encodeToString(entity.getSymbolImage());
-            builder.symbolImageBase64(base64Image);
-        }
-
-        return builder.build();
+                .lastUpdate(entity.getLastUpdate())
+                .hasImage(entity.getSymbolImage() != null)
+                .imageHash(entity.getSymbolImage() != null ? entity.getSymbolImage().getImageHash() : null)
+                .build();
     }
 
     public List<SymbolTypeResponse> toResponseList(List<SymbolType> entities) {
+        Map<String, String> encodedImages = new HashMap<>();
         return entities.stream()
+                .map(entity -> toResponse(entity, encodedImages))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convierte una proyección resumida en respuesta, sin imagen en Base64
+     */
+    public SymbolTypeResponse toResponse(SymbolTypeSummary summary) {
+        return SymbolTypeResponse.builder()
+                .idSymbol(summary.getIdSymbol())
+                .apiName(summary.getApiName())
+                .symbolName(summary.getSymbolName())
+                .symbolType(summary.getSymbolType())
+                .symbolOrigName(summary.getSymbolOrigName())
+                .createDate(summary.getCreateDate())
+                .isDefault(summary.getIsDefault())
+                .isAssigned(summary.getIsAssigned())
+                .lastUpdate(summary.getLastUpdate())
+                .hasImage(Boolean.TRUE.equals(summary.getHasImage()))
+                .imageHash(summary.getImageHash())
+                .build();
+    }
+
+    /**
+     * Convierte una fila con imagen en respuesta con la imagen en Base64. Si el contenido no está
+     * en la fila se lee del almacén de imágenes.
+     */
+    public SymbolTypeResponse toResponse(SymbolTypeImageRow row) {
+        SymbolTypeResponse response = toResponse((SymbolTypeSummary) row);
+        if (row.getImageHash() != null) {
+            byte[] content = row.getContent() != null ? row.getContent() : imageBlobStore.read(row.getImageHash());
+            if (content != null) {
+                response.setSymbolImageBase64(Base64.getEncoder().encodeToString(content));
+            }
+        }
+        return response;
+    }
+
+    public List<SymbolTypeResponse> toSummaryResponseList(List<SymbolTypeSummary> summaries) {
+        return summaries.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
@@ -76,15 +140,20 @@ public class SymbolTypeMapper {
         if (request.getIsAssigned() != null) {
             entity.setIsAssigned(request.getIsAssigned());
         }
+    }
 
-        // Actualizar imagen si se proporciona
-        if (request.getSymbolImageBase64() != null && !request.getSymbolImageBase64().isEmpty()) {
-            try {
-                byte[] imageBytes = Base64.getDecoder().decode(request.getSymbolImageBase64());
-                entity.setSymbolImage(imageBytes);
-            } catch (IllegalArgumentException e) {
-                // Si hay error en decodificación, mantener imagen existente
-            }
+    /**
+     * Decodifica la imagen Base64 de la petición, o devuelve null si no se proporciona
+     */
+    public byte[] decodeImage(SymbolTypeRequest request) {
+        String base64 = request.getSymbolImageBase64();
+        if (base64 == null || base64.isEmpty()) {
+            return null;
+        }
+        try {
+            return Base64.getDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("symbolImageBase64 no contiene Base64 válido", e);
         }
     }
 }
@@ -0,0 +1,221 @@
+package com.sigapi.catalog.metrics;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.util.Sendfile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Registro de acceso estructurado de las peticiones de /api.
+ *
+ * Por cada petición abre sus estadísticas SQL, cuenta los bytes del cuerpo de la respuesta y, al completarse
+ * (también en las peticiones asíncronas), publica catalog.http.response.bytes y escribe un único registro
+ * clave=valor en el logger "catalog.access" con ruta, estado, latencia, filas, bytes, sentencias y tiempo JDBC.
+ * Los errores y las peticiones lentas se registran siempre; las correctas, según catalog.access-log.success-sample-rate.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "catalog.access")
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final CatalogProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlStatistics statistics = new SqlStatistics(request.getMethod() + " " + request.getRequestURI());
+        request.setAttribute(SqlStatistics.REQUEST_ATTRIBUTE, statistics);
+        CountingResponse counting = new CountingResponse(response);
+        SqlStatistics.bind(statistics);
+        try {
+            filterChain.doFilter(request, counting);
+        } finally {
+            SqlStatistics.clear();
+        }
+
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    complete(request, counting, statistics, start);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else {
+            complete(request, counting, statistics, start);
+        }
+    }
+
+    private void complete(HttpServletRequest request, CountingResponse response, SqlStatistics statistics, long start) {
+        long latencyMillis = (System.nanoTime() - start) / 1_000_000;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        String entity = entityOf(request.getRequestURI());
+        // Con sendfile el cuerpo no pasa por la respuesta: se toma la longitud del fichero que envía Tomcat
+        long bytes = response.count > 0 ? response.count : Sendfile.length(request);
+
+        DistributionSummary.builder(CatalogMetrics.RESPONSE_BYTES)
+                .description("Bytes del cuerpo de la respuesta")
+                .baseUnit("bytes")
+                .tag(CatalogMetrics.ENTITY, entity)
+                .tag("method", request.getMethod())
+                .tag("uri", route)
+                .register(meterRegistry)
+                .record(bytes);
+
+        int status = response.getStatus();
+        if (log.isInfoEnabled() && shouldLog(status, latencyMillis)) {
+            log.atInfo()
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("route", route)
+                    .addKeyValue("uri", request.getRequestURI())
+                    .addKeyValue("entity", entity)
+                    .addKeyValue("status", status)
+                    .addKeyValue("latencyMs", latencyMillis)
+                    .addKeyValue("rows", statistics.getRows())
+                    .addKeyValue("bytes", bytes)
+                    .addKeyValue("sql", statistics.getStatements())
+                    .addKeyValue("jdbcMs", statistics.getJdbcMillis())
+                    .log("access");
+        }
+    }
+
+    private boolean shouldLog(int status, long latencyMillis) {
+        CatalogProperties.AccessLog accessLog = properties.getAccessLog();
+        if (!accessLog.isEnabled()) {
+            return false;
+        }
+        if (status >= 400 || latencyMillis >= accessLog.getAlwaysLogSlowerThan().toMillis()) {
+            return true;
+        }
+        double rate = accessLog.getSuccessSampleRate();
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static String entityOf(String uri) {
+        if (uri.contains("/symbol-types")) {
+            return CatalogMetrics.SYMBOL_TYPE;
+        }
+        if (uri.contains("/object-types")) {
+            return CatalogMetrics.OBJECT_TYPE;
+        }
+        return "none";
+    }
+
+    /**
+     * Respuesta que cuenta los bytes (o caracteres, si se usa el writer) escritos en el cuerpo
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        private volatile long count;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        count++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        count += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                Writer delegate = super.getWriter();
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] buffer, int off, int len) throws IOException {
+                        delegate.write(buffer, off, len);
+                        count += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+                });
+            }
+            return writer;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sigapi.catalog.metrics;
+
+import com.sigapi.catalog.repository.ObjectTypeRepository;
+import com.sigapi.catalog.repository.SymbolImageRepository;
+import com.sigapi.catalog.repository.SymbolTypeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gauges de tamaño del catálogo (filas por entidad y bytes de imagen almacenados).
+ *
+ * Los valores se consultan periódicamente y se publican desde memoria, de modo que cada lectura
+ * del endpoint de métricas no lanza consultas contra la base de datos.
+ */
+@Component
+@Slf4j
+public class CatalogGauges {
+
+    private final SymbolTypeRepository symbolTypeRepository;
+    private final ObjectTypeRepository objectTypeRepository;
+    private final SymbolImageRepository symbolImageRepository;
+    private final AtomicLong symbolTypeRows = new AtomicLong();
+    private final AtomicLong objectTypeRows = new AtomicLong();
+    private final AtomicLong imageBytes = new AtomicLong();
+
+    public CatalogGauges(SymbolTypeRepository symbolTypeRepository,
+                         ObjectTypeRepository objectTypeRepository,
+                         SymbolImageRepository symbolImageRepository,
+                         MeterRegistry meterRegistry) {
+        this.symbolTypeRepository = symbolTypeRepository;
+        this.objectTypeRepository = objectTypeRepository;
+        this.symbolImageRepository = symbolImageRepository;
+
+        Gauge.builder(CatalogMetrics.ROWS, symbolTypeRows, AtomicLong::get)
+                .description("Filas del catálogo")
+                .tag(CatalogMetrics.ENTITY, CatalogMetrics.SYMBOL_TYPE)
+                .register(meterRegistry);
+        Gauge.builder(CatalogMetrics.ROWS, objectTypeRows, AtomicLong::get)
+                .description("Filas del catálogo")
+                .tag(CatalogMetrics.ENTITY, CatalogMetrics.OBJECT_TYPE)
+                .register(meterRegistry);
+        Gauge.builder(CatalogMetrics.IMAGE_BYTES, imageBytes, AtomicLong::get)
+                .description("Bytes de imagen almacenados")
+                .baseUnit("bytes")
+                .tag(CatalogMetrics.ENTITY, CatalogMetrics.SYMBOL_TYPE)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.metrics.gauge-refresh-interval:PT1M}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        symbolTypeRows.set(symbolTypeRepository.count());
+        objectTypeRows.set(objectTypeRepository.count());
+        imageBytes.set(symbolImageRepository.sumImageBytes());
+        log.debug("Gauges del catálogo: {} tipos de símbolo, {} tipos de objeto, {} bytes de imagen",
+                symbolTypeRows.get(), objectTypeRows.get(), imageBytes.get());
+    }
+}
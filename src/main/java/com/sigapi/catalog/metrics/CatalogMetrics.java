@@ -0,0 +1,33 @@
+package com.sigapi.catalog.metrics;
+
+/**
+ * Nombres y etiquetas comunes de las métricas del catálogo
+ */
+public final class CatalogMetrics {
+
+    /**
+     * Timer de las operaciones de servicio (etiquetas entity y operation)
+     */
+    public static final String OPERATION_TIMER = "catalog.operation";
+
+    /**
+     * Número de elementos devueltos por las operaciones de consulta
+     */
+    public static final String OPERATION_RESULTS = "catalog.operation.results";
+
+    /**
+     * Bytes del cuerpo de las respuestas HTTP de la API
+     */
+    public static final String RESPONSE_BYTES = "catalog.http.response.bytes";
+
+    public static final String ROWS = "catalog.rows";
+    public static final String IMAGE_BYTES = "catalog.images.bytes";
+
+    public static final String ENTITY = "entity";
+    public static final String OPERATION = "operation";
+    public static final String SYMBOL_TYPE = "symbol-type";
+    public static final String OBJECT_TYPE = "object-type";
+
+    private CatalogMetrics() {
+    }
+}
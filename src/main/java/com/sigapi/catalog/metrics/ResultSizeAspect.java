@@ -0,0 +1,49 @@
+package com.sigapi.catalog.metrics;
+
+import com.sigapi.catalog.dto.BatchLookupResponse;
+import com.sigapi.catalog.dto.CursorPage;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Registra el número de elementos devueltos por las operaciones de servicio anotadas con @Timed,
+ * con las mismas etiquetas (entity, operation) que su timer, y lo suma a las filas de la petición en curso
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ResultSizeAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @AfterReturning(pointcut = "@annotation(timed) && within(com.sigapi.catalog.service..*)", returning = "result")
+    public void recordResultSize(Timed timed, Object result) {
+        int size;
+        if (result instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (result instanceof CursorPage<?> page) {
+            size = page.items().size();
+        } else if (result instanceof BatchLookupResponse<?> batch) {
+            size = batch.getItems().size();
+        } else {
+            return;
+        }
+        DistributionSummary.builder(CatalogMetrics.OPERATION_RESULTS)
+                .description("Elementos devueltos por operación")
+                .tags(Tags.of(timed.extraTags()))
+                .register(meterRegistry)
+                .record(size);
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            statistics.recordRows(size);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sigapi.catalog.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sentencias SQL, tiempo JDBC y elementos devueltos por los servicios durante una petición HTTP.
+ *
+ * La petición en curso se guarda en el hilo; las lecturas asíncronas la heredan en el hilo
+ * del compartimento mediante {@link #propagate(Runnable)}.
+ */
+public class SqlStatistics {
+
+    /**
+     * Atributo de la petición con sus estadísticas (disponible también en el despacho asíncrono)
+     */
+    public static final String REQUEST_ATTRIBUTE = SqlStatistics.class.getName();
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final String request;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder jdbcMillis = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    public SqlStatistics(String request) {
+        this.request = request;
+    }
+
+    /**
+     * Estadísticas de la petición atendida por el hilo actual, o null fuera de una petición
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    static void bind(SqlStatistics statistics) {
+        CURRENT.set(statistics);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Envuelve la tarea para que se ejecute con las estadísticas del hilo que la envía
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlStatistics captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatistics previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    void record(long elapsedMillis) {
+        statements.increment();
+        jdbcMillis.add(elapsedMillis);
+    }
+
+    void recordRows(int count) {
+        rows.add(count);
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getJdbcMillis() {
+        return jdbcMillis.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+}
@@ -0,0 +1,40 @@
+package com.sigapi.catalog.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Añade X-SQL-Count y X-SQL-Time-Ms a las respuestas (sólo fuera de producción, catalog.sql.response-headers=true).
+ * Se aplica justo antes de escribir el cuerpo, cuando la consulta ya ha terminado también en las lecturas asíncronas.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "catalog.sql", name = "response-headers", havingValue = "true")
+public class SqlStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlStatistics.REQUEST_ATTRIBUTE)
+                instanceof SqlStatistics statistics) {
+            response.getHeaders().set("X-SQL-Count", String.valueOf(statistics.getStatements()));
+            response.getHeaders().set("X-SQL-Time-Ms", String.valueOf(statistics.getJdbcMillis()));
+        }
+        return body;
+    }
+}
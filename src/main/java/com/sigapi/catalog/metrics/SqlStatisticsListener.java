@@ -0,0 +1,80 @@
+package com.sigapi.catalog.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Acumula cada ejecución JDBC en las estadísticas de la petición en curso y registra las consultas
+ * que superan el umbral con un resumen de sus parámetros (valores recortados, binarios sólo con su tamaño).
+ */
+@Slf4j
+public class SqlStatisticsListener implements QueryExecutionListener {
+
+    private final long slowQueryThresholdMillis;
+    private final int maxParameterLength;
+
+    public SqlStatisticsListener(Duration slowQueryThreshold, int maxParameterLength) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+        this.maxParameterLength = maxParameterLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            statistics.record(elapsed);
+        }
+        if (slowQueryThresholdMillis > 0 && elapsed >= slowQueryThresholdMillis && log.isWarnEnabled()) {
+            for (QueryInfo query : queryInfoList) {
+                log.warn("Consulta lenta ({} ms{}{}): {} | parámetros: {}",
+                        elapsed,
+                        execInfo.isBatch() ? ", lote de " + execInfo.getBatchSize() : "",
+                        statistics != null ? ", " + statistics.getRequest() : "",
+                        query.getQuery(),
+                        summarize(query.getParametersList()));
+            }
+        }
+    }
+
+    private String summarize(List<List<ParameterSetOperation>> parametersList) {
+        if (parametersList.isEmpty()) {
+            return "-";
+        }
+        String first = parametersList.get(0).stream()
+                .map(this::summarize)
+                .collect(Collectors.joining(", ", "[", "]"));
+        return parametersList.size() == 1 ? first : first + " (+" + (parametersList.size() - 1) + " conjuntos)";
+    }
+
+    private String summarize(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        Object value = "setNull".equals(operation.getMethod().getName()) || args.length < 2 ? null : args[1];
+        String text;
+        if (value == null) {
+            text = "null";
+        } else if (value instanceof byte[] bytes) {
+            text = "byte[" + bytes.length + "]";
+        } else {
+            text = value.toString();
+            if (text.length() > maxParameterLength) {
+                text = text.substring(0, maxParameterLength) + "…(" + text.length() + ")";
+            }
+            if (value instanceof CharSequence) {
+                text = "'" + text + "'";
+            }
+        }
+        return args[0] + "=" + text;
+    }
+}
@@ -0,0 +1,137 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.ObjectType;
+import com.sigapi.catalog.entity.SymbolType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Inserciones JDBC en lote de las cargas masivas de tipos de símbolo y de objeto.
+ * Un apiName que ya existe no hace fallar la sentencia: la fila se omite y se informa como no insertada.
+ * Así otra petición que inserta el mismo apiName entre la comprobación previa y la inserción
+ * no aborta la transacción de la carga entera, como haría la violación de la restricción única.
+ */
+@Repository
+public class CatalogInsertJdbcRepository {
+
+    private static final String[] SYMBOL_TYPE_COLUMNS = {"idsymbol", "apiname", "symbolname", "symboltype",
+            "symbolorigname", "createdate", "isdefault", "isassigned", "imagehash"};
+    private static final String[] SYMBOL_TYPE_H2_TYPES = {"INTEGER", "VARCHAR(50)", "VARCHAR(60)", "VARCHAR(40)",
+            "VARCHAR(60)", "DATE", "INTEGER", "INTEGER", "VARCHAR(64)"};
+    private static final String[] OBJECT_TYPE_COLUMNS = {"idobject", "apiname", "objectname", "objectorigname",
+            "createdate", "isdefault", "isassigned"};
+    private static final String[] OBJECT_TYPE_H2_TYPES = {"INTEGER", "VARCHAR(50)", "VARCHAR(60)", "VARCHAR(60)",
+            "DATE", "INTEGER", "INTEGER"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String symbolTypes;
+    private final String objectTypes;
+    private final String insertSymbolTypeSql;
+    private final String insertObjectTypeSql;
+
+    public CatalogInsertJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        String prefix = StringUtils.hasText(schema) ? schema + "." : "";
+        this.symbolTypes = prefix + "sigapisymboltype";
+        this.objectTypes = prefix + "sigapiobjecttype";
+        boolean h2 = DatabasePlatform.of(jdbcTemplate.getDataSource()) == DatabasePlatform.H2;
+        this.insertSymbolTypeSql = insertIgnoringApiName(symbolTypes, SYMBOL_TYPE_COLUMNS, SYMBOL_TYPE_H2_TYPES, h2);
+        this.insertObjectTypeSql = insertIgnoringApiName(objectTypes, OBJECT_TYPE_COLUMNS, OBJECT_TYPE_H2_TYPES, h2);
+    }
+
+    private static String insertIgnoringApiName(String table, String[] columns, String[] h2Types, boolean h2) {
+        String columnList = String.join(", ", columns);
+        if (h2) {
+            StringBuilder values = new StringBuilder();
+            StringBuilder source = new StringBuilder();
+            for (int i = 0; i < columns.length; i++) {
+                values.append(i > 0 ? ", " : "").append("CAST(? AS ").append(h2Types[i]).append(')');
+                source.append(i > 0 ? ", " : "").append("v.").append(columns[i]);
+            }
+            return "MERGE INTO " + table + " t USING (VALUES (" + values + ")) v(" + columnList + ")"
+                    + " ON t.apiname = v.apiname WHEN NOT MATCHED THEN INSERT (" + columnList + ") VALUES (" + source + ")";
+        }
+        return "INSERT INTO " + table + " (" + columnList + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.length, "?")) + ") ON CONFLICT (apiname) DO NOTHING";
+    }
+
+    /**
+     * Inserta los tipos de símbolo, que ya deben tener su ID asignado, en un único lote JDBC
+     *
+     * @return por posición, si la fila se ha insertado o se ha omitido porque su apiName ya existía
+     */
+    public boolean[] insertSymbolTypes(List<SymbolType> entities) {
+        return insert(insertSymbolTypeSql, entities, (ps, entity) -> {
+            ps.setInt(1, entity.getIdSymbol());
+            ps.setString(2, entity.getApiName());
+            ps.setString(3, entity.getSymbolName());
+            ps.setString(4, entity.getSymbolType());
+            ps.setString(5, entity.getSymbolOrigName());
+            ps.setDate(6, Date.valueOf(entity.getCreateDate() != null ? entity.getCreateDate() : LocalDate.now()));
+            ps.setInt(7, entity.getIsDefault() != null ? entity.getIsDefault() : 0);
+            ps.setInt(8, entity.getIsAssigned() != null ? entity.getIsAssigned() : 0);
+            ps.setString(9, entity.getSymbolImage() != null ? entity.getSymbolImage().getImageHash() : null);
+        }, SymbolType::getIdSymbol, symbolTypes, "idsymbol");
+    }
+
+    /**
+     * Inserta los tipos de objeto, que ya deben tener su ID asignado, en un único lote JDBC
+     *
+     * @return por posición, si la fila se ha insertado o se ha omitido porque su apiName ya existía
+     */
+    public boolean[] insertObjectTypes(List<ObjectType> entities) {
+        return insert(insertObjectTypeSql, entities, (ps, entity) -> {
+            ps.setInt(1, entity.getIdObject());
+            ps.setString(2, entity.getApiName());
+            ps.setString(3, entity.getObjectName());
+            ps.setString(4, entity.getObjectOrigName());
+            ps.setDate(5, Date.valueOf(entity.getCreateDate() != null ? entity.getCreateDate() : LocalDate.now()));
+            ps.setInt(6, entity.getIsDefault() != null ? entity.getIsDefault() : 0);
+            ps.setInt(7, entity.getIsAssigned() != null ? entity.getIsAssigned() : 0);
+        }, ObjectType::getIdObject, objectTypes, "idobject");
+    }
+
+    private <E> boolean[] insert(String sql, List<E> entities, ParameterizedPreparedStatementSetter<E> setter,
+                                 Function<E, Integer> idOf, String table, String idColumn) {
+        boolean[] inserted = new boolean[entities.size()];
+        if (entities.isEmpty()) {
+            return inserted;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, entities, entities.size(), setter)[0];
+        boolean countsKnown = true;
+        for (int i = 0; i < counts.length; i++) {
+            inserted[i] = counts[i] > 0;
+            countsKnown &= counts[i] != Statement.SUCCESS_NO_INFO;
+        }
+        if (countsKnown) {
+            return inserted;
+        }
+        // Con reWriteBatchedInserts el driver de PostgreSQL no informa de cada fila: se comprueba por ID
+        Object[] ids = entities.stream().map(idOf).toArray();
+        int[] types = new int[ids.length];
+        Arrays.fill(types, Types.INTEGER);
+        Set<Integer> stored = new HashSet<>(jdbcTemplate.queryForList("SELECT " + idColumn + " FROM " + table
+                + " WHERE " + idColumn + " IN (" + String.join(", ", Collections.nCopies(ids.length, "?")) + ")",
+                ids, types, Integer.class));
+        for (int i = 0; i < ids.length; i++) {
+            inserted[i] = stored.contains(ids[i]);
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sigapi.catalog.repository;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Base de datos de la conexión, para las pocas sentencias JDBC cuya sintaxis no es común a PostgreSQL y H2
+ * (RETURNING y ON CONFLICT en PostgreSQL, OLD TABLE / FINAL TABLE y MERGE en H2)
+ */
+public enum DatabasePlatform {
+    POSTGRESQL,
+    /**
+     * Perfil dev y pruebas
+     */
+    H2;
+
+    /**
+     * Detecta la base de datos por el nombre de producto del driver; cualquier otra se trata como PostgreSQL
+     */
+    public static DatabasePlatform of(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "H2".equalsIgnoreCase(product) ? H2 : POSTGRESQL;
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("No se pudo determinar la base de datos de la conexión", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sigapi.catalog.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posición de una página en una consulta keyset: último valor de la columna
+ * de ordenación y último ID devueltos. Se serializa como un token opaco Base64 URL-safe.
+ *
+ * @param sort  campo de ordenación con el que se generó el cursor
+ * @param id    último ID devuelto (desempate)
+ * @param value último valor de la columna de ordenación (null si se ordena por ID)
+ */
+public record KeysetCursor(String sort, Integer id, String value) {
+
+    private static final String SEPARATOR = "\n";
+
+    public String encode() {
+        String raw = sort + SEPARATOR + id + SEPARATOR + (value != null ? value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new KeysetCursor(parts[0], Integer.valueOf(parts[1]), parts[2].isEmpty() ? null : parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: '" + token + "'", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sigapi.catalog.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Utilidades para construir consultas keyset con Criteria API.
+ * La condición "posterior al cursor" usa la columna de ordenación más el ID como desempate,
+ * de modo que cada página se resuelve con un acceso por índice y sin OFFSET.
+ */
+final class KeysetQueries {
+
+    private KeysetQueries() {
+    }
+
+    /**
+     * Predicado que selecciona las filas posteriores al cursor, o null en la primera página
+     */
+    static Predicate after(CriteriaBuilder cb, Root<?> root, String idAttribute, KeysetRequest request) {
+        KeysetCursor cursor = request.after();
+        if (cursor == null) {
+            return null;
+        }
+        Path<Integer> id = root.get(idAttribute);
+        Predicate idAfter = request.descending() ? cb.lessThan(id, cursor.id()) : cb.greaterThan(id, cursor.id());
+        if (idAttribute.equals(request.sortAttribute())) {
+            return idAfter;
+        }
+        Path<String> key = root.get(request.sortAttribute());
+        Predicate keyAfter = request.descending()
+                ? cb.lessThan(key, cursor.value())
+                : cb.greaterThan(key, cursor.value());
+        return cb.or(keyAfter, cb.and(cb.equal(key, cursor.value()), idAfter));
+    }
+
+    /**
+     * Orden por la columna indicada y por ID como desempate
+     */
+    static List<Order> orderBy(CriteriaBuilder cb, Root<?> root, String idAttribute, KeysetRequest request) {
+        List<Order> orders = new ArrayList<>(2);
+        if (!idAttribute.equals(request.sortAttribute())) {
+            Path<?> key = root.get(request.sortAttribute());
+            orders.add(request.descending() ? cb.desc(key) : cb.asc(key));
+        }
+        Path<?> id = root.get(idAttribute);
+        orders.add(request.descending() ? cb.desc(id) : cb.asc(id));
+        return orders;
+    }
+
+    /**
+     * Combina los predicados no nulos con AND
+     */
+    static Predicate[] nonNull(Predicate... predicates) {
+        return Arrays.stream(predicates)
+                .filter(Objects::nonNull)
+                .toArray(Predicate[]::new);
+    }
+}
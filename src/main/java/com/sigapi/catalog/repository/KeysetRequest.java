@@ -0,0 +1,12 @@
+package com.sigapi.catalog.repository;
+
+/**
+ * Petición de una página keyset a nivel de repositorio
+ *
+ * @param sortAttribute atributo de la entidad por el que se ordena (con el ID como desempate)
+ * @param descending    orden descendente
+ * @param after         posición a partir de la cual leer (null para la primera página)
+ * @param limit         número máximo de filas a devolver
+ */
+public record KeysetRequest(String sortAttribute, boolean descending, KeysetCursor after, int limit) {
+}
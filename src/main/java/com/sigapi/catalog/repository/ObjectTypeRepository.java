@@ -1,18 +1,25 @@
 package com.sigapi.catalog.repository;
 
 import com.sigapi.catalog.entity.ObjectType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para operaciones CRUD de ObjectType
  */
 @Repository
-public interface ObjectTypeRepository extends JpaRepository<ObjectType, Integer> {
+public interface ObjectTypeRepository extends JpaRepository<ObjectType, Integer>, ObjectTypeRepositoryCustom {
 
     /**
      * Busca un tipo de objeto por su nombre API
@@ -31,8 +38,31 @@ public interface ObjectTypeRepository extends JpaRepository<ObjectType, Integer>
     List<ObjectType> findByIsDefaultOrIsAssigned();
 
     /**
-     * Verifica si existe un tipo de objeto con el apiName dado
+     * Elimina por ID con un único DELETE y devuelve el número de filas afectadas (0 si no existía)
      */
-    boolean existsByApiName(String apiName);
-}
+    @Modifying
+    @Query("DELETE FROM ObjectType o WHERE o.idObject = :id")
+    int deleteByIdReturningCount(@Param("id") Integer id);
+
+    /**
+     * Devuelve, de los apiName dados, los que ya existen (una sola consulta para cargas masivas)
+     */
+    @Query("SELECT o.apiName FROM ObjectType o WHERE o.apiName IN :apiNames")
+    List<String> findExistingApiNames(@Param("apiNames") Collection<String> apiNames);
+
+    /**
+     * Busca los tipos de objeto con cualquiera de los apiName dados
+     */
+    List<ObjectType> findByApiNameIn(Collection<String> apiNames);
 
+    /**
+     * Recorre todos los tipos de objeto con un cursor de servidor.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @Query("SELECT o FROM ObjectType o ORDER BY o.idObject")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ObjectType> streamAll();
+}
@@ -0,0 +1,22 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.ObjectType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Consultas dinámicas de ObjectType con paginación keyset
+ */
+public interface ObjectTypeRepositoryCustom {
+
+    /**
+     * Obtiene una página de tipos de objeto que cumplen el filtro
+     */
+    List<ObjectType> findPage(Specification<ObjectType> filter, KeysetRequest page);
+
+    /**
+     * Cuenta los tipos de objeto que cumplen el filtro
+     */
+    long countMatching(Specification<ObjectType> filter);
+}
@@ -0,0 +1,49 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.ObjectType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Implementación con Criteria API de las consultas dinámicas de ObjectType
+ */
+public class ObjectTypeRepositoryImpl implements ObjectTypeRepositoryCustom {
+
+    private static final String ID = "idObject";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ObjectType> findPage(Specification<ObjectType> filter, KeysetRequest page) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ObjectType> query = cb.createQuery(ObjectType.class);
+        Root<ObjectType> root = query.from(ObjectType.class);
+
+        Predicate filterPredicate = filter != null ? filter.toPredicate(root, query, cb) : null;
+        query.where(KeysetQueries.nonNull(filterPredicate, KeysetQueries.after(cb, root, ID, page)));
+        query.orderBy(KeysetQueries.orderBy(cb, root, ID, page));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(page.limit())
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(Specification<ObjectType> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ObjectType> root = query.from(ObjectType.class);
+        query.select(cb.count(root));
+        Predicate filterPredicate = filter != null ? filter.toPredicate(root, query, cb) : null;
+        query.where(KeysetQueries.nonNull(filterPredicate));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,53 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.ObjectType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros reutilizables para consultas dinámicas de ObjectType
+ */
+public final class ObjectTypeSpecifications {
+
+    private ObjectTypeSpecifications() {
+    }
+
+    public static Specification<ObjectType> objectNameContains(String text) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("objectName")), "%" + text.toLowerCase() + "%");
+    }
+
+    public static Specification<ObjectType> anyNameContains(String text) {
+        String pattern = "%" + text.toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("objectName")), pattern),
+                cb.like(cb.lower(root.get("objectOrigName")), pattern),
+                cb.like(cb.lower(root.get("apiName")), pattern));
+    }
+
+    public static Specification<ObjectType> isDefaultOrAssigned() {
+        return (root, query, cb) -> cb.or(cb.equal(root.get("isDefault"), 1), cb.equal(root.get("isAssigned"), 1));
+    }
+
+    public static Specification<ObjectType> isDefault(boolean value) {
+        return (root, query, cb) -> cb.equal(root.get("isDefault"), value ? 1 : 0);
+    }
+
+    public static Specification<ObjectType> isAssigned(boolean value) {
+        return (root, query, cb) -> cb.equal(root.get("isAssigned"), value ? 1 : 0);
+    }
+
+    /**
+     * Rango de fechas inclusivo; cualquiera de los extremos puede ser null
+     */
+    public static Specification<ObjectType> dateBetween(String attribute, LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.<LocalDate>get(attribute), from, to);
+            }
+            return from != null
+                    ? cb.greaterThanOrEqualTo(root.<LocalDate>get(attribute), from)
+                    : cb.lessThanOrEqualTo(root.<LocalDate>get(attribute), to);
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package com.sigapi.catalog.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Acceso JDBC directo a las imágenes direccionadas por contenido (tabla sigapisymbolimage)
+ * y a la referencia que guarda cada tipo de símbolo.
+ * El contador de referencias se modifica con sentencias atómicas, sin cargar las imágenes en el contexto JPA,
+ * y los cambios de referencia devuelven la imagen anterior en la misma sentencia, sin bloquear la fila antes.
+ */
+@Repository
+public class SymbolImageJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String acquireSql;
+    private final String acquireBatchSql;
+    private final String decrementSql;
+    private final String deleteUnreferencedSql;
+    private final String assignSql;
+    private final String deleteSymbolTypeSql;
+
+    public SymbolImageJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        String prefix = StringUtils.hasText(schema) ? schema + "." : "";
+        String images = prefix + "sigapisymbolimage";
+        String symbolTypes = prefix + "sigapisymboltype";
+        this.decrementSql = "UPDATE " + images + " SET refcount = refcount - ? WHERE imagehash = ?";
+        this.deleteUnreferencedSql = "DELETE FROM " + images + " WHERE imagehash = ? AND refcount <= 0";
+        if (DatabasePlatform.of(jdbcTemplate.getDataSource()) == DatabasePlatform.H2) {
+            this.acquireBatchSql = "MERGE INTO " + images + " i USING (VALUES (CAST(? AS VARCHAR(64)),"
+                    + " CAST(? AS VARBINARY), CAST(? AS VARCHAR(100)), CAST(? AS INTEGER), CAST(? AS DATE)))"
+                    + " v(imagehash, content, mediatype, refcount, createdate) ON i.imagehash = v.imagehash"
+                    + " WHEN MATCHED THEN UPDATE SET refcount = i.refcount + v.refcount,"
+                    + " content = COALESCE(i.content, v.content)"
+                    + " WHEN NOT MATCHED THEN INSERT (imagehash, content, mediatype, refcount, createdate)"
+                    + " VALUES (v.imagehash, v.content, v.mediatype, v.refcount, v.createdate)";
+            this.acquireSql = "SELECT refcount FROM FINAL TABLE (" + acquireBatchSql + ")";
+            this.assignSql = "SELECT apiname, imagehash FROM OLD TABLE (UPDATE " + symbolTypes
+                    + " SET imagehash = ?, lastupdate = ? WHERE idsymbol = ?)";
+            this.deleteSymbolTypeSql = "SELECT apiname, imagehash FROM OLD TABLE (DELETE FROM " + symbolTypes
+                    + " WHERE idsymbol = ?)";
+        } else {
+            this.acquireBatchSql = "INSERT INTO " + images + " AS i (imagehash, content, mediatype, refcount, createdate)"
+                    + " VALUES (?, ?, ?, ?, ?) ON CONFLICT (imagehash) DO UPDATE"
+                    + " SET refcount = i.refcount + EXCLUDED.refcount, content = COALESCE(i.content, EXCLUDED.content)";
+            this.acquireSql = acquireBatchSql + " RETURNING refcount";
+            // RETURNING solo da los valores nuevos: el anterior se lee en la misma sentencia, con la fila bloqueada
+            this.assignSql = "UPDATE " + symbolTypes + " s SET imagehash = ?, lastupdate = ?"
+                    + " FROM (SELECT idsymbol, imagehash FROM " + symbolTypes + " WHERE idsymbol = ? FOR UPDATE) old"
+                    + " WHERE s.idsymbol = old.idsymbol RETURNING s.apiname, old.imagehash";
+            this.deleteSymbolTypeSql = "DELETE FROM " + symbolTypes + " WHERE idsymbol = ? RETURNING apiname, imagehash";
+        }
+    }
+
+    /**
+     * Añade una referencia a la imagen con el hash dado, insertándola si aún no existe.
+     * Es una sola sentencia de inserción con resolución de conflicto: dos transacciones que suben
+     * la misma imagen a la vez no fallan por clave duplicada, la segunda espera e incrementa el contador.
+     *
+     * @param content contenido a guardar en la fila, o null si se guarda en otro almacén
+     * @return true si la imagen se ha insertado, false si ya existía
+     */
+    public boolean acquire(String hash, byte[] content, String mediaType) {
+        Integer refCount = jdbcTemplate.query(acquireSql, ps -> bind(ps, new AcquiredImage(hash, content, mediaType, 1)),
+                rs -> rs.next() ? rs.getInt(1) : null);
+        return refCount != null && refCount == 1;
+    }
+
+    /**
+     * Añade varias referencias a cada imagen en un único lote JDBC, con una sentencia por imagen distinta
+     */
+    public void acquireAll(List<AcquiredImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(acquireBatchSql, images, images.size(), this::bind);
+    }
+
+    private void bind(PreparedStatement ps, AcquiredImage image) throws SQLException {
+        ps.setString(1, image.hash());
+        ps.setBytes(2, image.content());
+        ps.setString(3, image.mediaType());
+        ps.setInt(4, image.references());
+        ps.setDate(5, Date.valueOf(LocalDate.now()));
+    }
+
+    /**
+     * Quita una referencia a la imagen y la elimina cuando ya no la referencia ningún tipo de símbolo.
+     * Debe llamarse después de escribir las filas que dejaban de apuntar a ella.
+     *
+     * @return true si la imagen se ha eliminado
+     */
+    public boolean release(String hash) {
+        return !releaseAll(Map.of(hash, 1)).isEmpty();
+    }
+
+    /**
+     * Quita el número de referencias indicado a cada imagen, en dos lotes JDBC (contadores y borrado)
+     *
+     * @return hashes de las imágenes eliminadas por quedar sin referencias
+     */
+    public List<String> releaseAll(Map<String, Integer> references) {
+        if (references.isEmpty()) {
+            return List.of();
+        }
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(references.entrySet());
+        jdbcTemplate.batchUpdate(decrementSql, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setString(2, entry.getKey());
+        });
+        int[][] deleted = jdbcTemplate.batchUpdate(deleteUnreferencedSql, entries, entries.size(),
+                (ps, entry) -> ps.setString(1, entry.getKey()));
+        List<String> released = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (deleted[0][i] > 0) {
+                released.add(entries.get(i).getKey());
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Apunta el tipo de símbolo a la imagen dada en una sola sentencia
+     *
+     * @return apiName del tipo de símbolo y hash de la imagen que tenía antes, o vacío si no existe
+     */
+    public Optional<ImageReference> assign(Integer symbolTypeId, String hash) {
+        return single(jdbcTemplate.query(assignSql, (rs, rowNum) -> new ImageReference(rs.getString(1), rs.getString(2)),
+                hash, Date.valueOf(LocalDate.now()), symbolTypeId));
+    }
+
+    /**
+     * Elimina un tipo de símbolo en una sola sentencia
+     *
+     * @return apiName del tipo de símbolo eliminado y hash de la imagen que tenía, o vacío si no existía
+     */
+    public Optional<ImageReference> deleteSymbolType(Integer symbolTypeId) {
+        return single(jdbcTemplate.query(deleteSymbolTypeSql,
+                (rs, rowNum) -> new ImageReference(rs.getString(1), rs.getString(2)), symbolTypeId));
+    }
+
+    private static Optional<ImageReference> single(List<ImageReference> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    /**
+     * Tipo de símbolo (por su apiName) y la imagen que referenciaba, o null si no tenía
+     */
+    public record ImageReference(String apiName, String imageHash) {
+    }
+
+    /**
+     * Imagen a adquirir y número de referencias que se le añaden
+     *
+     * @param content contenido a guardar si la fila no existe, o null si se guarda en otro almacén
+     */
+    public record AcquiredImage(String hash, byte[] content, String mediaType, int references) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.SymbolImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository de lectura para las imágenes de símbolo direccionadas por contenido.
+ * Las escrituras y el contador de referencias van por SymbolImageJdbcRepository.
+ */
+@Repository
+public interface SymbolImageRepository extends JpaRepository<SymbolImage, String> {
+
+    /**
+     * Total de bytes de imagen almacenados en la base de datos (cada imagen distinta cuenta una vez).
+     * Las imágenes guardadas en ficheros no cuentan. Es SQL nativo porque en JPQL OCTET_LENGTH
+     * solo admite texto, no byte[].
+     */
+    @Query(value = "SELECT COALESCE(SUM(OCTET_LENGTH(content)), 0) FROM {h-schema}sigapisymbolimage",
+            nativeQuery = true)
+    long sumImageBytes();
+
+    /**
+     * Hashes de todas las imágenes, para recorrerlas al migrar de almacén
+     */
+    @Query("SELECT i.imageHash FROM SymbolImage i ORDER BY i.imageHash")
+    List<String> findAllHashes();
+}
@@ -1,18 +1,35 @@
 package com.sigapi.catalog.repository;
 
+import com.sigapi.catalog.entity.SymbolImage;
 import com.sigapi.catalog.entity.SymbolType;
+import com.sigapi.catalog.repository.projection.SymbolTypeImageRow;
+import com.sigapi.catalog.repository.projection.SymbolTypeSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository para la entidad SymbolType
  */
 @Repository
-public interface SymbolTypeRepository extends JpaRepository<SymbolType, Integer> {
+public interface SymbolTypeRepository extends JpaRepository<SymbolType, Integer>, SymbolTypeRepositoryCustom {
+
+    /**
+     * Selección de la proyección resumida (sin leer la imagen)
+     */
+    String SUMMARY_SELECT = "SELECT new com.sigapi.catalog.repository.projection.SymbolTypeSummary("
+            + "s.idSymbol, s.apiName, s.symbolName, s.symbolType, s.symbolOrigName, s.createDate, "
+            + "s.isDefault, s.isAssigned, s.lastUpdate, s.imageHash) "
+            + "FROM SymbolType s ";
 
     /**
      * Busca tipo de símbolo por nombre de API
@@ -39,16 +56,94 @@ public interface SymbolTypeRepository extends JpaRepository<SymbolType, Integer>
      */
     List<SymbolType> findByIsAssigned(Integer isAssigned);
 
-    /**
-     * Verifica si existe un tipo de símbolo con el apiName
-     */
-    boolean existsByApiName(String apiName);
-
     /**
      * Obtiene todos los tipos de símbolo por defecto y asignados
      */
     @Query("SELECT s FROM SymbolType s WHERE s.isDefault = 1 OR s.isAssigned = 1")
     List<SymbolType> findAllDefaultOrAssigned();
-}
 
+    /**
+     * Obtiene un tipo de símbolo por ID sin cargar la imagen
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.idSymbol = :id")
+    Optional<SymbolTypeSummary> findSummaryById(@Param("id") Integer id);
+
+    /**
+     * Obtiene todos los tipos de símbolo sin cargar las imágenes
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY s.idSymbol")
+    List<SymbolTypeSummary> findAllSummaries();
 
+    /**
+     * Busca tipos de símbolo por nombre sin cargar las imágenes
+     */
+    @Query(SUMMARY_SELECT + "WHERE LOWER(s.symbolName) LIKE LOWER(CONCAT('%', :symbolName, '%')) ORDER BY s.idSymbol")
+    List<SymbolTypeSummary> findSummariesBySymbolName(@Param("symbolName") String symbolName);
+
+    /**
+     * Busca tipos de símbolo por tipo sin cargar las imágenes
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.symbolType = :symbolType ORDER BY s.idSymbol")
+    List<SymbolTypeSummary> findSummariesBySymbolType(@Param("symbolType") String symbolType);
+
+    /**
+     * Obtiene los tipos de símbolo por defecto y asignados sin cargar las imágenes
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.isDefault = 1 OR s.isAssigned = 1 ORDER BY s.idSymbol")
+    List<SymbolTypeSummary> findAllDefaultOrAssignedSummaries();
+
+    /**
+     * Obtiene el hash de la imagen de un tipo de símbolo sin cargarla
+     */
+    @Query("SELECT s.imageHash FROM SymbolType s WHERE s.idSymbol = :id AND s.imageHash IS NOT NULL")
+    Optional<String> findImageHashById(@Param("id") Integer id);
+
+    /**
+     * Obtiene el hash de la imagen de un tipo de símbolo por apiName sin cargarla
+     */
+    @Query("SELECT s.imageHash FROM SymbolType s WHERE s.apiName = :apiName AND s.imageHash IS NOT NULL")
+    Optional<String> findImageHashByApiName(@Param("apiName") String apiName);
+
+    /**
+     * Obtiene únicamente la imagen de un tipo de símbolo
+     */
+    @Query("SELECT i FROM SymbolType s JOIN s.symbolImage i WHERE s.idSymbol = :id")
+    Optional<SymbolImage> findImageById(@Param("id") Integer id);
+
+    /**
+     * Obtiene únicamente la imagen de un tipo de símbolo por apiName
+     */
+    @Query("SELECT i FROM SymbolType s JOIN s.symbolImage i WHERE s.apiName = :apiName")
+    Optional<SymbolImage> findImageByApiName(@Param("apiName") String apiName);
+
+    /**
+     * Devuelve, de los apiName dados, los que ya existen (una sola consulta para cargas masivas)
+     */
+    @Query("SELECT s.apiName FROM SymbolType s WHERE s.apiName IN :apiNames")
+    List<String> findExistingApiNames(@Param("apiNames") Collection<String> apiNames);
+
+    /**
+     * Busca los tipos de símbolo con cualquiera de los apiName dados
+     */
+    List<SymbolType> findByApiNameIn(Collection<String> apiNames);
+
+    /**
+     * Recorre todos los resúmenes (sin imagen) con un cursor de servidor.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY s.idSymbol")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<SymbolTypeSummary> streamAllSummaries();
+
+    /**
+     * Recorre todos los tipos de símbolo con el contenido de su imagen en una sola consulta, con un cursor
+     * de servidor y un fetch size pequeño para acotar la memoria por las imágenes.
+     * Debe consumirse dentro de una transacción.
+     */
+    @Query("SELECT new com.sigapi.catalog.repository.projection.SymbolTypeImageRow("
+            + "s.idSymbol, s.apiName, s.symbolName, s.symbolType, s.symbolOrigName, s.createDate, "
+            + "s.isDefault, s.isAssigned, s.lastUpdate, s.imageHash, i.content) "
+            + "FROM SymbolType s LEFT JOIN s.symbolImage i ORDER BY s.idSymbol")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "20"))
+    Stream<SymbolTypeImageRow> streamAllWithImages();
+}
@@ -0,0 +1,23 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.SymbolType;
+import com.sigapi.catalog.repository.projection.SymbolTypeSummary;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Consultas dinámicas de SymbolType con paginación keyset
+ */
+public interface SymbolTypeRepositoryCustom {
+
+    /**
+     * Obtiene una página de proyecciones resumidas (sin imagen) que cumplen el filtro
+     */
+    List<SymbolTypeSummary> findSummaries(Specification<SymbolType> filter, KeysetRequest page);
+
+    /**
+     * Cuenta los tipos de símbolo que cumplen el filtro
+     */
+    long countMatching(Specification<SymbolType> filter);
+}
@@ -0,0 +1,62 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.SymbolType;
+import com.sigapi.catalog.repository.projection.SymbolTypeSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Implementación con Criteria API de las consultas dinámicas de SymbolType
+ */
+public class SymbolTypeRepositoryImpl implements SymbolTypeRepositoryCustom {
+
+    private static final String ID = "idSymbol";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SymbolTypeSummary> findSummaries(Specification<SymbolType> filter, KeysetRequest page) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SymbolTypeSummary> query = cb.createQuery(SymbolTypeSummary.class);
+        Root<SymbolType> root = query.from(SymbolType.class);
+
+        query.select(cb.construct(SymbolTypeSummary.class,
+                root.get(ID),
+                root.get("apiName"),
+                root.get("symbolName"),
+                root.get("symbolType"),
+                root.get("symbolOrigName"),
+                root.get("createDate"),
+                root.get("isDefault"),
+                root.get("isAssigned"),
+                root.get("lastUpdate"),
+                root.get("imageHash")));
+
+        Predicate filterPredicate = filter != null ? filter.toPredicate(root, query, cb) : null;
+        query.where(KeysetQueries.nonNull(filterPredicate, KeysetQueries.after(cb, root, ID, page)));
+        query.orderBy(KeysetQueries.orderBy(cb, root, ID, page));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(page.limit())
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(Specification<SymbolType> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<SymbolType> root = query.from(SymbolType.class);
+        query.select(cb.count(root));
+        Predicate filterPredicate = filter != null ? filter.toPredicate(root, query, cb) : null;
+        query.where(KeysetQueries.nonNull(filterPredicate));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
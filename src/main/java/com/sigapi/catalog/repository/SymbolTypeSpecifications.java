@@ -0,0 +1,57 @@
+package com.sigapi.catalog.repository;
+
+import com.sigapi.catalog.entity.SymbolType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros reutilizables para consultas dinámicas de SymbolType
+ */
+public final class SymbolTypeSpecifications {
+
+    private SymbolTypeSpecifications() {
+    }
+
+    public static Specification<SymbolType> symbolNameContains(String text) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("symbolName")), "%" + text.toLowerCase() + "%");
+    }
+
+    public static Specification<SymbolType> anyNameContains(String text) {
+        String pattern = "%" + text.toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("symbolName")), pattern),
+                cb.like(cb.lower(root.get("symbolOrigName")), pattern),
+                cb.like(cb.lower(root.get("apiName")), pattern));
+    }
+
+    public static Specification<SymbolType> hasSymbolType(String symbolType) {
+        return (root, query, cb) -> cb.equal(root.get("symbolType"), symbolType);
+    }
+
+    public static Specification<SymbolType> isDefaultOrAssigned() {
+        return (root, query, cb) -> cb.or(cb.equal(root.get("isDefault"), 1), cb.equal(root.get("isAssigned"), 1));
+    }
+
+    public static Specification<SymbolType> isDefault(boolean value) {
+        return (root, query, cb) -> cb.equal(root.get("isDefault"), value ? 1 : 0);
+    }
+
+    public static Specification<SymbolType> isAssigned(boolean value) {
+        return (root, query, cb) -> cb.equal(root.get("isAssigned"), value ? 1 : 0);
+    }
+
+    /**
+     * Rango de fechas inclusivo; cualquiera de los extremos puede ser null
+     */
+    public static Specification<SymbolType> dateBetween(String attribute, LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.<LocalDate>get(attribute), from, to);
+            }
+            return from != null
+                    ? cb.greaterThanOrEqualTo(root.<LocalDate>get(attribute), from)
+                    : cb.lessThanOrEqualTo(root.<LocalDate>get(attribute), to);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.sigapi.catalog.repository.projection;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección de SymbolType con el contenido de su imagen, leída con un JOIN en la misma consulta.
+ * No es una entidad: no queda en el contexto de persistencia al recorrer un cursor.
+ */
+@Getter
+public class SymbolTypeImageRow extends SymbolTypeSummary {
+
+    /**
+     * Contenido guardado en sigapisymbolimage; null si no hay imagen o está en otro almacén
+     */
+    private final byte[] content;
+
+    public SymbolTypeImageRow(Integer idSymbol, String apiName, String symbolName, String symbolType,
+                              String symbolOrigName, LocalDate createDate, Integer isDefault, Integer isAssigned,
+                              LocalDate lastUpdate, String imageHash, byte[] content) {
+        super(idSymbol, apiName, symbolName, symbolType, symbolOrigName, createDate, isDefault, isAssigned,
+                lastUpdate, imageHash);
+        this.content = content;
+    }
+}
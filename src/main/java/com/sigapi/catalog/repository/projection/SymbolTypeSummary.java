@@ -0,0 +1,30 @@
+package com.sigapi.catalog.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección ligera de SymbolType para consultas de listado.
+ * No incluye la imagen; solo el hash de la imagen referenciada, si la hay.
+ */
+@Getter
+@AllArgsConstructor
+public class SymbolTypeSummary {
+
+    private final Integer idSymbol;
+    private final String apiName;
+    private final String symbolName;
+    private final String symbolType;
+    private final String symbolOrigName;
+    private final LocalDate createDate;
+    private final Integer isDefault;
+    private final Integer isAssigned;
+    private final LocalDate lastUpdate;
+    private final String imageHash;
+
+    public Boolean getHasImage() {
+        return imageHash != null;
+    }
+}
@@ -0,0 +1,238 @@
+package com.sigapi.catalog.search;
+
+import com.sigapi.catalog.dto.SuggestionResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Índice de prefijos en memoria para autocompletado.
+ *
+ * Los términos de todos los campos se guardan en un único array ordenado por su texto en minúsculas;
+ * los términos que empiezan por un prefijo ocupan un rango contiguo que se localiza con búsqueda binaria.
+ * Las altas y bajas insertan o desplazan posiciones del array sin reconstruirlo.
+ */
+@Slf4j
+public class PrefixIndex<T> {
+
+    private static final Comparator<Term> ORDER = Comparator.comparing(Term::key)
+            .thenComparingInt(Term::id)
+            .thenComparing(Term::field);
+
+    private final String name;
+    private final Function<T, Integer> idOf;
+    private final Map<String, Function<T, String>> fields;
+    private final Supplier<List<T>> loader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Term[]> termsById = new HashMap<>();
+    private Term[] terms = new Term[0];
+    private int size;
+    private volatile boolean loaded;
+
+    /**
+     * @param fields nombre del campo expuesto en la sugerencia y función que obtiene su valor
+     */
+    public PrefixIndex(String name, Function<T, Integer> idOf, Map<String, Function<T, String>> fields,
+                       Supplier<List<T>> loader) {
+        this.name = name;
+        this.idOf = idOf;
+        this.fields = new LinkedHashMap<>(fields);
+        this.loader = loader;
+    }
+
+    /**
+     * Devuelve hasta limit términos distintos que empiezan por el prefijo, en orden alfabético
+     */
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        ensureLoaded();
+        String key = normalize(prefix);
+
+        lock.readLock().lock();
+        try {
+            List<SuggestionResponse> result = new ArrayList<>(Math.min(limit, size));
+            Set<String> seen = new HashSet<>();
+            for (int i = lowerBound(key); i < size && result.size() < limit; i++) {
+                Term term = terms[i];
+                if (!term.key().startsWith(key)) {
+                    break;
+                }
+                if (seen.add(term.field() + '\u0000' + term.value())) {
+                    result.add(new SuggestionResponse(term.value(), term.field(), term.id()));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Reconstruye el índice desde el loader
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            rebuild(loader.get());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Descarta el índice; la siguiente consulta lo vuelve a cargar
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            terms = new Term[0];
+            size = 0;
+            termsById.clear();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta o reemplaza los términos de un elemento. No hace nada si el índice no se ha cargado.
+     */
+    public void upsert(T item) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Integer id = idOf.apply(item);
+            removeTerms(termsById.remove(id));
+            Term[] itemTerms = termsOf(item);
+            for (Term term : itemTerms) {
+                insert(term);
+            }
+            termsById.put(id, itemTerms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina los términos de un elemento. No hace nada si el índice no se ha cargado.
+     */
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                removeTerms(termsById.remove(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                rebuild(loader.get());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuild(List<T> items) {
+        termsById.clear();
+        List<Term> all = new ArrayList<>(items.size() * fields.size());
+        for (T item : items) {
+            Term[] itemTerms = termsOf(item);
+            termsById.put(idOf.apply(item), itemTerms);
+            all.addAll(Arrays.asList(itemTerms));
+        }
+        all.sort(ORDER);
+        terms = all.toArray(new Term[0]);
+        size = terms.length;
+        loaded = true;
+        log.debug("Índice de prefijos {} construido: {} términos", name, size);
+    }
+
+    private Term[] termsOf(T item) {
+        Integer id = idOf.apply(item);
+        List<Term> result = new ArrayList<>(fields.size());
+        fields.forEach((field, getter) -> {
+            String value = getter.apply(item);
+            if (value != null && !value.isBlank()) {
+                result.add(new Term(normalize(value), value, field, id));
+            }
+        });
+        return result.toArray(new Term[0]);
+    }
+
+    private void insert(Term term) {
+        int pos = Arrays.binarySearch(terms, 0, size, term, ORDER);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == terms.length) {
+            terms = Arrays.copyOf(terms, Math.max(16, size + (size >> 1)));
+        }
+        System.arraycopy(terms, insertAt, terms, insertAt + 1, size - insertAt);
+        terms[insertAt] = term;
+        size++;
+    }
+
+    private void removeTerms(Term[] itemTerms) {
+        if (itemTerms == null) {
+            return;
+        }
+        for (Term term : itemTerms) {
+            int pos = Arrays.binarySearch(terms, 0, size, term, ORDER);
+            if (pos >= 0) {
+                System.arraycopy(terms, pos + 1, terms, pos, size - pos - 1);
+                terms[--size] = null;
+            }
+        }
+    }
+
+    /**
+     * Primera posición cuya clave es mayor o igual que el prefijo
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].key().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Term(String key, String value, String field, int id) {
+    }
+}
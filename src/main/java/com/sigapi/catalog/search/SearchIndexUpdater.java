@@ -0,0 +1,82 @@
+package com.sigapi.catalog.search;
+
+import com.sigapi.catalog.cache.CatalogRevisionUpdater;
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.event.CatalogChangeType;
+import com.sigapi.catalog.event.ObjectTypeChangedEvent;
+import com.sigapi.catalog.event.SymbolTypeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Aplica los cambios confirmados sobre los índices de búsqueda y autocompletado
+ * y los reconstruye periódicamente para recoger cambios hechos por otras instancias.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexUpdater {
+
+    private final TrigramIndex<SymbolTypeResponse> symbolTypeSearchIndex;
+    private final TrigramIndex<ObjectTypeResponse> objectTypeSearchIndex;
+    private final PrefixIndex<SymbolTypeResponse> symbolTypeSuggestIndex;
+    private final PrefixIndex<ObjectTypeResponse> objectTypeSuggestIndex;
+    private final CatalogProperties properties;
+
+    @TransactionalEventListener
+    @Order(CatalogRevisionUpdater.INVALIDATION_ORDER)
+    public void onSymbolTypeChanged(SymbolTypeChangedEvent event) {
+        if (event.type() == CatalogChangeType.BULK) {
+            symbolTypeSearchIndex.invalidate();
+            symbolTypeSuggestIndex.invalidate();
+        } else if (event.type() == CatalogChangeType.DELETED) {
+            symbolTypeSearchIndex.remove(event.id());
+            symbolTypeSuggestIndex.remove(event.id());
+        } else {
+            symbolTypeSearchIndex.upsert(event.current());
+            symbolTypeSuggestIndex.upsert(event.current());
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(CatalogRevisionUpdater.INVALIDATION_ORDER)
+    public void onObjectTypeChanged(ObjectTypeChangedEvent event) {
+        if (event.type() == CatalogChangeType.BULK) {
+            objectTypeSearchIndex.invalidate();
+            objectTypeSuggestIndex.invalidate();
+        } else if (event.type() == CatalogChangeType.DELETED) {
+            objectTypeSearchIndex.remove(event.id());
+            objectTypeSuggestIndex.remove(event.id());
+        } else {
+            objectTypeSearchIndex.upsert(event.current());
+            objectTypeSuggestIndex.upsert(event.current());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.search.refresh-interval:PT5M}",
+            initialDelayString = "${catalog.search.refresh-interval:PT5M}")
+    public void refresh() {
+        if (!properties.getSearch().isEnabled()) {
+            return;
+        }
+        if (symbolTypeSearchIndex.isLoaded()) {
+            symbolTypeSearchIndex.reload();
+        }
+        if (objectTypeSearchIndex.isLoaded()) {
+            objectTypeSearchIndex.reload();
+        }
+        if (symbolTypeSuggestIndex.isLoaded()) {
+            symbolTypeSuggestIndex.reload();
+        }
+        if (objectTypeSuggestIndex.isLoaded()) {
+            objectTypeSuggestIndex.reload();
+        }
+        log.debug("Índices de búsqueda reconstruidos");
+    }
+}
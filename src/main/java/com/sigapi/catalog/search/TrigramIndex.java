@@ -0,0 +1,243 @@
+package com.sigapi.catalog.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Índice de trigramas en memoria para búsquedas por subcadena (equivalente a LOWER(campo) LIKE '%q%').
+ *
+ * Cada elemento se indexa por los trigramas de sus campos en minúsculas. Una consulta intersecta
+ * las listas de IDs de sus trigramas, empezando por la más corta, y verifica los candidatos
+ * contra el texto real. Las consultas de menos de tres caracteres recorren todos los elementos.
+ * El primer campo es el nombre principal; el resto solo se consulta si se piden todos los campos.
+ * Los resultados se devuelven ordenados por ID.
+ */
+@Slf4j
+public class TrigramIndex<T> {
+
+    private static final int GRAM = 3;
+
+    private final String name;
+    private final Function<T, Integer> idOf;
+    private final List<Function<T, String>> fields;
+    private final Supplier<List<T>> loader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Integer, Entry<T>> entries = new TreeMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private volatile boolean loaded;
+
+    public TrigramIndex(String name, Function<T, Integer> idOf, List<Function<T, String>> fields,
+                        Supplier<List<T>> loader) {
+        this.name = name;
+        this.idOf = idOf;
+        this.fields = List.copyOf(fields);
+        this.loader = loader;
+    }
+
+    /**
+     * Busca los elementos cuyo nombre principal (o cualquier campo, si allFields) contiene el texto
+     */
+    public List<T> search(String query, boolean allFields) {
+        ensureLoaded();
+        String text = normalize(query);
+        int fieldCount = allFields ? fields.size() : 1;
+
+        lock.readLock().lock();
+        try {
+            List<T> result = new ArrayList<>();
+            if (text.length() < GRAM) {
+                for (Entry<T> entry : entries.values()) {
+                    if (entry.matches(text, fieldCount)) {
+                        result.add(entry.item());
+                    }
+                }
+                return result;
+            }
+            for (int id : candidates(text)) {
+                Entry<T> entry = entries.get(id);
+                if (entry != null && entry.matches(text, fieldCount)) {
+                    result.add(entry.item());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Reconstruye el índice desde el loader. La lectura se hace bajo el bloqueo de escritura
+     * para no perder cambios aplicados en paralelo.
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            rebuild(loader.get());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Descarta el índice; la siguiente búsqueda lo vuelve a cargar
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta o reemplaza un elemento. No hace nada si el índice no se ha cargado.
+     */
+    public void upsert(T item) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Integer id = idOf.apply(item);
+            unindex(entries.remove(id));
+            index(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un elemento por ID. No hace nada si el índice no se ha cargado.
+     */
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                unindex(entries.remove(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                rebuild(loader.get());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuild(List<T> items) {
+        entries.clear();
+        postings.clear();
+        items.forEach(this::index);
+        loaded = true;
+        log.debug("Índice de trigramas {} construido: {} elementos, {} trigramas", name, entries.size(), postings.size());
+    }
+
+    /**
+     * IDs que contienen todos los trigramas del texto, intersectando primero las listas más cortas
+     */
+    private int[] candidates(String text) {
+        List<PostingList> lists = new ArrayList<>();
+        for (long gram : trigrams(text)) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).intersect(result);
+        }
+        return result;
+    }
+
+    private void index(T item) {
+        Integer id = idOf.apply(item);
+        String[] texts = new String[fields.size()];
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i < texts.length; i++) {
+            String value = fields.get(i).apply(item);
+            texts[i] = value != null ? normalize(value) : null;
+            if (texts[i] != null) {
+                grams.addAll(trigrams(texts[i]));
+            }
+        }
+        long[] keys = grams.stream().mapToLong(Long::longValue).toArray();
+        for (long gram : keys) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+        entries.put(id, new Entry<>(item, texts, keys));
+    }
+
+    private void unindex(Entry<T> entry) {
+        if (entry == null) {
+            return;
+        }
+        Integer id = idOf.apply(entry.item());
+        for (long gram : entry.grams()) {
+            PostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<Long> trigrams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry<T>(T item, String[] texts, long[] grams) {
+
+        boolean matches(String text, int fieldCount) {
+            for (int i = 0; i < fieldCount; i++) {
+                if (texts[i] != null && texts[i].contains(text)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.BatchLookupRequest;
+import com.sigapi.catalog.dto.BatchLookupResponse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolución de consultas por lotes compartida por los servicios
+ */
+final class BatchLookup {
+
+    private BatchLookup() {
+    }
+
+    /**
+     * Resuelve los IDs y apiNames de la petición con una consulta por tipo de clave
+     * y compone la respuesta en el orden de la petición
+     */
+    static <V> BatchLookupResponse<V> resolve(BatchLookupRequest request, int maxKeys, Function<V, Integer> idOf,
+                                              Function<List<Integer>, Map<Integer, V>> byIds,
+                                              Function<List<String>, Map<String, V>> byApiNames) {
+        List<Integer> ids = distinct(request.getIds());
+        List<String> apiNames = distinct(request.getApiNames());
+        if (ids.isEmpty() && apiNames.isEmpty()) {
+            throw new IllegalArgumentException("La consulta por lotes no contiene IDs ni apiNames");
+        }
+        if (ids.size() + apiNames.size() > maxKeys) {
+            throw new IllegalArgumentException("La consulta por lotes admite como máximo " + maxKeys + " claves");
+        }
+
+        Map<Integer, V> foundById = ids.isEmpty() ? Map.of() : byIds.apply(ids);
+        Map<String, V> foundByApiName = apiNames.isEmpty() ? Map.of() : byApiNames.apply(apiNames);
+
+        List<V> items = new ArrayList<>(ids.size() + apiNames.size());
+        Set<Integer> added = new HashSet<>();
+        List<Integer> notFoundIds = new ArrayList<>();
+        for (Integer id : ids) {
+            V value = foundById.get(id);
+            if (value == null) {
+                notFoundIds.add(id);
+            } else if (added.add(id)) {
+                items.add(value);
+            }
+        }
+        List<String> notFoundApiNames = new ArrayList<>();
+        for (String apiName : apiNames) {
+            V value = foundByApiName.get(apiName);
+            if (value == null) {
+                notFoundApiNames.add(apiName);
+            } else if (added.add(idOf.apply(value))) {
+                items.add(value);
+            }
+        }
+        return BatchLookupResponse.<V>builder()
+                .items(items)
+                .notFoundIds(notFoundIds)
+                .notFoundApiNames(notFoundApiNames)
+                .build();
+    }
+
+    private static <K> List<K> distinct(List<K> keys) {
+        if (keys == null) {
+            return List.of();
+        }
+        Set<K> unique = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (key != null && !(key instanceof String text && text.isBlank())) {
+                unique.add(key);
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+}
@@ -0,0 +1,170 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.BulkItemResult;
+import com.sigapi.catalog.dto.BulkItemStatus;
+import com.sigapi.catalog.dto.BulkResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Utilidades compartidas por los servicios para las cargas masivas
+ */
+final class BulkOperations {
+
+    /**
+     * Número máximo de parámetros por cláusula IN
+     */
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private BulkOperations() {
+    }
+
+    /**
+     * Rechaza peticiones vacías o que superan el máximo configurado
+     */
+    static void checkSize(List<?> requests, int maxItems) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("La carga masiva no contiene elementos");
+        }
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    "La carga masiva admite como máximo " + maxItems + " elementos");
+        }
+    }
+
+    /**
+     * Valida cada elemento y detecta apiName repetidos dentro de la petición.
+     *
+     * @return mensaje de error por posición; las posiciones válidas no aparecen
+     */
+    static <T> Map<Integer, String> validate(List<T> requests, Validator validator, Function<T, String> apiNameOf) {
+        Map<Integer, String> errors = new HashMap<>();
+        Map<String, Integer> firstIndex = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            T request = requests.get(i);
+            if (request == null) {
+                errors.put(i, "El elemento está vacío");
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                errors.put(i, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            Integer previous = firstIndex.putIfAbsent(apiNameOf.apply(request), i);
+            if (previous != null) {
+                errors.put(i, "apiName repetido en la petición (posición " + previous + ")");
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Ejecuta una consulta IN por bloques para no exceder el límite de parámetros del driver
+     */
+    static <K, T> List<T> queryInChunks(List<K> keys, Function<List<K>, List<T>> query) {
+        List<T> rows = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += IN_CLAUSE_SIZE) {
+            rows.addAll(query.apply(keys.subList(from, Math.min(from + IN_CLAUSE_SIZE, keys.size()))));
+        }
+        return rows;
+    }
+
+    /**
+     * Inserta las entidades en bloques JDBC de flushSize filas. Los IDs se toman antes del generador
+     * de Hibernate, con la misma secuencia y reserva que usan las inserciones JPA.
+     * La inserción omite las filas cuyo apiName ya existe (otra petición puede haberlo insertado después
+     * de la comprobación previa) en lugar de fallar, porque una violación de restricción marcaría
+     * la transacción entera para rollback. Debe llamarse dentro de una transacción.
+     *
+     * @param insert inserta un bloque y devuelve, por posición, si cada fila se ha insertado
+     * @return entidades no insertadas, por identidad y sin ID; las demás tienen su ID asignado
+     */
+    static <E> Set<E> insertInBatches(Collection<E> entities, int flushSize, EntityManager entityManager,
+                                      Function<List<E>, boolean[]> insert) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        Set<E> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<E> batch = new ArrayList<>(flushSize);
+        for (E entity : entities) {
+            batch.add(entity);
+            if (batch.size() == flushSize) {
+                insertBatch(batch, session, insert, rejected);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch, session, insert, rejected);
+        }
+        return rejected;
+    }
+
+    private static <E> void insertBatch(List<E> batch, SessionImplementor session,
+                                        Function<List<E>, boolean[]> insert, Set<E> rejected) {
+        for (E entity : batch) {
+            EntityPersister persister = session.getEntityPersister(null, entity);
+            Object id = ((BeforeExecutionGenerator) persister.getGenerator())
+                    .generate(session, entity, null, EventType.INSERT);
+            persister.setIdentifier(entity, id, session);
+        }
+        boolean[] inserted = insert.apply(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            if (!inserted[i]) {
+                E entity = batch.get(i);
+                session.getEntityPersister(null, entity).setIdentifier(entity, null, session);
+                rejected.add(entity);
+            }
+        }
+        batch.clear();
+    }
+
+    static BulkItemResult result(int index, String apiName, BulkItemStatus status, Integer id) {
+        return BulkItemResult.builder()
+                .index(index)
+                .apiName(apiName)
+                .status(status)
+                .id(id)
+                .build();
+    }
+
+    static BulkItemResult failed(int index, String apiName, String message) {
+        return BulkItemResult.builder()
+                .index(index)
+                .apiName(apiName)
+                .status(BulkItemStatus.FAILED)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Construye el resumen de la carga a partir de los resultados por posición
+     */
+    static BulkResponse toResponse(List<BulkItemResult> results) {
+        Map<BulkItemStatus, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(BulkItemResult::getStatus, Collectors.counting()));
+        return BulkResponse.builder()
+                .total(results.size())
+                .created(counts.getOrDefault(BulkItemStatus.CREATED, 0L).intValue())
+                .updated(counts.getOrDefault(BulkItemStatus.UPDATED, 0L).intValue())
+                .failed(counts.getOrDefault(BulkItemStatus.FAILED, 0L).intValue())
+                .items(results)
+                .build();
+    }
+}
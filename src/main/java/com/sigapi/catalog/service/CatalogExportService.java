@@ -0,0 +1,189 @@
+package com.sigapi.catalog.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sigapi.catalog.dto.ExportFormat;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.entity.ObjectType;
+import com.sigapi.catalog.mapper.ObjectTypeMapper;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import com.sigapi.catalog.repository.ObjectTypeRepository;
+import com.sigapi.catalog.repository.SymbolTypeRepository;
+import com.sigapi.catalog.util.CsvWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportación del catálogo completo en memoria constante.
+ *
+ * Las filas se leen con un cursor de servidor dentro de una transacción de solo lectura y cada una
+ * se escribe en la respuesta y se descarta antes de leer la siguiente.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char CSV_DELIMITER = ',';
+
+    private final SymbolTypeRepository symbolTypeRepository;
+    private final ObjectTypeRepository objectTypeRepository;
+    private final SymbolTypeMapper symbolTypeMapper;
+    private final ObjectTypeMapper objectTypeMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Escribe todos los tipos de símbolo. Con includeImages la imagen se lee con un JOIN en la misma consulta
+     * (proyección, no entidades); sin includeImages no se lee la tabla de imágenes.
+     */
+    public void exportSymbolTypes(OutputStream out, ExportFormat format, boolean includeImages) {
+        log.info("Exportando tipos de símbolo ({}, imágenes: {})", format, includeImages);
+        long rows = inReadOnlyTransaction(() -> {
+            if (includeImages) {
+                try (Stream<SymbolTypeResponse> responses = symbolTypeRepository.streamAllWithImages()
+                        .map(symbolTypeMapper::toResponse)) {
+                    return write(out, format, responses, true);
+                }
+            }
+            try (Stream<SymbolTypeResponse> summaries = symbolTypeRepository.streamAllSummaries()
+                    .map(symbolTypeMapper::toResponse)) {
+                return write(out, format, summaries, false);
+            }
+        });
+        log.info("Exportación de tipos de símbolo completada: {} filas", rows);
+    }
+
+    /**
+     * Escribe todos los tipos de objeto
+     */
+    public void exportObjectTypes(OutputStream out, ExportFormat format) {
+        log.info("Exportando ObjectTypes ({})", format);
+        long rows = inReadOnlyTransaction(() -> {
+            try (Stream<ObjectType> entities = objectTypeRepository.streamAll()) {
+                Stream<ObjectTypeResponse> responses = entities.map(entity -> {
+                    ObjectTypeResponse response = objectTypeMapper.toResponse(entity);
+                    entityManager.detach(entity);
+                    return response;
+                });
+                return switch (format) {
+                    case NDJSON -> writeNdjson(out, responses.iterator(), ObjectTypeResponse.class);
+                    case CSV -> writeObjectTypesCsv(out, responses.iterator());
+                };
+            }
+        });
+        log.info("Exportación de ObjectTypes completada: {} filas", rows);
+    }
+
+    private long write(OutputStream out, ExportFormat format, Stream<SymbolTypeResponse> responses,
+                       boolean includeImages) {
+        return switch (format) {
+            case NDJSON -> writeNdjson(out, responses.iterator(), SymbolTypeResponse.class);
+            case CSV -> writeSymbolTypesCsv(out, responses.iterator(), includeImages);
+        };
+    }
+
+    private <T> long writeNdjson(OutputStream out, Iterator<T> rows, Class<T> type) {
+        ObjectWriter writer = objectMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        long count = 0;
+        try {
+            while (rows.hasNext()) {
+                writer.writeValue(buffered, rows.next());
+                buffered.write('\n');
+                count++;
+            }
+            buffered.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private long writeSymbolTypesCsv(OutputStream out, Iterator<SymbolTypeResponse> rows, boolean includeImages) {
+        CsvWriter csv = csvWriter(out);
+        long count = 0;
+        try {
+            if (includeImages) {
+                csv.writeRow("idSymbol", "apiName", "symbolName", "symbolType", "symbolOrigName", "createDate",
+                        "isDefault", "isAssigned", "lastUpdate", "hasImage", "symbolImageBase64");
+            } else {
+                csv.writeRow("idSymbol", "apiName", "symbolName", "symbolType", "symbolOrigName", "createDate",
+                        "isDefault", "isAssigned", "lastUpdate", "hasImage");
+            }
+            while (rows.hasNext()) {
+                SymbolTypeResponse row = rows.next();
+                if (includeImages) {
+                    csv.writeRow(row.getIdSymbol(), row.getApiName(), row.getSymbolName(), row.getSymbolType(),
+                            row.getSymbolOrigName(), row.getCreateDate(), row.getIsDefault(), row.getIsAssigned(),
+                            row.getLastUpdate(), row.getHasImage(), row.getSymbolImageBase64());
+                } else {
+                    csv.writeRow(row.getIdSymbol(), row.getApiName(), row.getSymbolName(), row.getSymbolType(),
+                            row.getSymbolOrigName(), row.getCreateDate(), row.getIsDefault(), row.getIsAssigned(),
+                            row.getLastUpdate(), row.getHasImage());
+                }
+                count++;
+            }
+            csv.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private long writeObjectTypesCsv(OutputStream out, Iterator<ObjectTypeResponse> rows) {
+        CsvWriter csv = csvWriter(out);
+        long count = 0;
+        try {
+            csv.writeRow("idObject", "apiName", "objectName", "objectOrigName", "createDate",
+                    "isDefault", "isAssigned", "lastUpdate");
+            while (rows.hasNext()) {
+                ObjectTypeResponse row = rows.next();
+                csv.writeRow(row.getIdObject(), row.getApiName(), row.getObjectName(), row.getObjectOrigName(),
+                        row.getCreateDate(), row.getIsDefault(), row.getIsAssigned(), row.getLastUpdate());
+                count++;
+            }
+            csv.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private static CsvWriter csvWriter(OutputStream out) {
+        return new CsvWriter(new OutputStreamWriter(new BufferedOutputStream(out, BUFFER_SIZE),
+                StandardCharsets.UTF_8), CSV_DELIMITER);
+    }
+
+    /**
+     * El cursor de servidor de PostgreSQL solo se usa con autocommit desactivado, es decir, dentro de una transacción
+     */
+    private long inReadOnlyTransaction(ExportTask task) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        Long rows = template.execute(status -> task.run());
+        return rows != null ? rows : 0;
+    }
+
+    @FunctionalInterface
+    private interface ExportTask {
+        long run();
+    }
+}
@@ -0,0 +1,352 @@
+package com.sigapi.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.BulkItemResult;
+import com.sigapi.catalog.dto.BulkItemStatus;
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.ImportJobResponse;
+import com.sigapi.catalog.dto.ObjectTypeRequest;
+import com.sigapi.catalog.dto.SymbolTypeRequest;
+import com.sigapi.catalog.exception.ImportTooLargeException;
+import com.sigapi.catalog.exception.ResourceNotFoundException;
+import com.sigapi.catalog.importer.CsvRecordReader;
+import com.sigapi.catalog.importer.ImportFormat;
+import com.sigapi.catalog.importer.NdjsonRecordReader;
+import com.sigapi.catalog.importer.RecordFormatException;
+import com.sigapi.catalog.importer.RecordReader;
+import com.sigapi.catalog.util.LimitedInputStream;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Importación de catálogos desde ficheros CSV o NDJSON.
+ *
+ * El fichero recibido se vuelca a un temporal y se procesa en segundo plano en memoria constante:
+ * se lee registro a registro, se valida con las mismas reglas que las peticiones y se guarda
+ * en bloques de tamaño fijo, cada uno en su propia transacción (upsert por apiName).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogImportService {
+
+    /**
+     * Columna con la ruta de la imagen, relativa a catalog.import-jobs.image-dir
+     */
+    static final String IMAGE_FILE_COLUMN = "symbolImageFile";
+
+    /**
+     * Caracteres Base64 acumulados a partir de los cuales se guarda el bloque aunque no esté lleno
+     */
+    private static final long MAX_CHUNK_IMAGE_CHARS = 16L * 1024 * 1024;
+
+    private final SymbolTypeService symbolTypeService;
+    private final ObjectTypeService objectTypeService;
+    private final SymbolImageService symbolImageService;
+    private final ObjectMapper objectMapper;
+    private final CatalogProperties properties;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void startExecutor() {
+        CatalogProperties.ImportJobs config = properties.getImportJobs();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("catalog-import-");
+        executor.setCorePoolSize(config.getConcurrency());
+        executor.setMaxPoolSize(config.getConcurrency());
+        executor.setQueueCapacity(config.getQueueCapacity());
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Recibe un fichero de tipos de símbolo y encola su importación
+     */
+    public ImportJobResponse submitSymbolTypes(InputStream content, ImportFormat format, char delimiter) {
+        return submit("symbol-types", content, format, delimiter, this::importSymbolTypes);
+    }
+
+    /**
+     * Recibe un fichero de tipos de objeto y encola su importación
+     */
+    public ImportJobResponse submitObjectTypes(InputStream content, ImportFormat format, char delimiter) {
+        return submit("object-types", content, format, delimiter, this::importObjectTypes);
+    }
+
+    /**
+     * Estado y progreso de un trabajo de importación
+     */
+    public ImportJobResponse getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Importación", "jobId", jobId);
+        }
+        return job.toResponse();
+    }
+
+    private ImportJobResponse submit(String catalog, InputStream content, ImportFormat format, char delimiter,
+                                     ImportTask task) {
+        CatalogProperties.ImportJobs config = properties.getImportJobs();
+        pruneFinishedJobs(config);
+
+        Path file = spool(content, config.getMaxFileSize().toBytes());
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), catalog, format, config.getMaxErrors());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, file, format, delimiter, task));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(file);
+            throw e;
+        }
+
+        log.info("Importación {} de {} encolada ({})", job.getId(), catalog, format);
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job, Path file, ImportFormat format, char delimiter, ImportTask task) {
+        job.start();
+        log.info("Importación {} iniciada", job.getId());
+        try (RecordReader reader = openReader(file, format, delimiter)) {
+            task.run(job, reader);
+            job.complete();
+            ImportJobResponse summary = job.toResponse();
+            log.info("Importación {} completada: {} procesados, {} creados, {} actualizados, {} con error",
+                    job.getId(), summary.getProcessed(), summary.getCreated(), summary.getUpdated(), summary.getFailed());
+        } catch (Exception e) {
+            log.error("Importación {} interrumpida", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void importSymbolTypes(ImportJob job, RecordReader reader) throws IOException {
+        int chunkSize = properties.getImportJobs().getChunkSize();
+        List<SymbolTypeRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> lines = new ArrayList<>(chunkSize);
+        List<String> imageFiles = new ArrayList<>(chunkSize);
+        long imageChars = 0;
+
+        Map<String, String> record;
+        while ((record = nextRecord(job, reader)) != null) {
+            String imageFile = record.remove(IMAGE_FILE_COLUMN);
+            SymbolTypeRequest request = bind(job, reader.getLine(), record, SymbolTypeRequest.class);
+            if (request == null) {
+                continue;
+            }
+            chunk.add(request);
+            lines.add(reader.getLine());
+            imageFiles.add(imageFile);
+            if (request.getSymbolImageBase64() != null) {
+                imageChars += request.getSymbolImageBase64().length();
+            }
+            if (chunk.size() >= chunkSize || imageChars >= MAX_CHUNK_IMAGE_CHARS) {
+                saveSymbolTypes(job, chunk, lines, imageFiles);
+                imageChars = 0;
+            }
+        }
+        saveSymbolTypes(job, chunk, lines, imageFiles);
+    }
+
+    private void importObjectTypes(ImportJob job, RecordReader reader) throws IOException {
+        int chunkSize = properties.getImportJobs().getChunkSize();
+        List<ObjectTypeRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> lines = new ArrayList<>(chunkSize);
+
+        Map<String, String> record;
+        while ((record = nextRecord(job, reader)) != null) {
+            ObjectTypeRequest request = bind(job, reader.getLine(), record, ObjectTypeRequest.class);
+            if (request == null) {
+                continue;
+            }
+            chunk.add(request);
+            lines.add(reader.getLine());
+            if (chunk.size() >= chunkSize) {
+                saveChunk(job, chunk, lines, objectTypeService::bulkSave);
+            }
+        }
+        saveChunk(job, chunk, lines, objectTypeService::bulkSave);
+    }
+
+    /**
+     * Guarda un bloque de tipos de símbolo y después sube, en streaming, las imágenes referenciadas
+     */
+    private void saveSymbolTypes(ImportJob job, List<SymbolTypeRequest> chunk, List<Long> lines,
+                                 List<String> imageFiles) {
+        BulkResponse result = saveChunk(job, chunk, lines, symbolTypeService::bulkSave);
+        if (result != null) {
+            for (BulkItemResult item : result.getItems()) {
+                String imageFile = imageFiles.get(item.getIndex());
+                if (imageFile != null && item.getStatus() != BulkItemStatus.FAILED) {
+                    uploadImageFile(job, lines.get(item.getIndex()), item, imageFile);
+                }
+            }
+        }
+        imageFiles.clear();
+    }
+
+    /**
+     * Guarda un bloque en su propia transacción y registra sus errores.
+     * Si el bloque completo falla se marcan todos sus registros y la importación continúa.
+     */
+    private <R> BulkResponse saveChunk(ImportJob job, List<R> chunk, List<Long> lines,
+                                       ChunkWriter<R> writer) {
+        if (chunk.isEmpty()) {
+            return null;
+        }
+        BulkResponse result = null;
+        try {
+            result = writer.save(chunk, true);
+            job.chunkSaved(result);
+            for (BulkItemResult item : result.getItems()) {
+                if (item.getStatus() == BulkItemStatus.FAILED) {
+                    job.error(lines.get(item.getIndex()), item.getApiName(), item.getMessage());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Importación {}: bloque rechazado por la base de datos", job.getId(), e);
+            for (Long line : lines) {
+                job.rejected(line, null, "Bloque no guardado: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        chunk.clear();
+        lines.clear();
+        return result;
+    }
+
+    private void uploadImageFile(ImportJob job, long line, BulkItemResult item, String imageFile) {
+        try {
+            Path path = resolveImageFile(imageFile);
+            try (InputStream content = Files.newInputStream(path)) {
+                symbolImageService.uploadImage(item.getId(), content, Files.size(path));
+            }
+        } catch (IOException e) {
+            job.error(line, item.getApiName(), "No se pudo leer la imagen '" + imageFile + "': " + e.getMessage());
+        } catch (RuntimeException e) {
+            job.error(line, item.getApiName(), "Imagen '" + imageFile + "' no importada: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resuelve una imagen referenciada sin permitir salir del directorio configurado
+     */
+    private Path resolveImageFile(String imageFile) {
+        String imageDir = properties.getImportJobs().getImageDir();
+        if (imageDir == null || imageDir.isBlank()) {
+            throw new IllegalArgumentException("No se ha configurado catalog.import-jobs.image-dir");
+        }
+        Path base = Path.of(imageDir).toAbsolutePath().normalize();
+        Path path = base.resolve(imageFile).normalize();
+        if (!path.startsWith(base)) {
+            throw new IllegalArgumentException("La ruta está fuera del directorio de imágenes");
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("El fichero no existe");
+        }
+        return path;
+    }
+
+    private Map<String, String> nextRecord(ImportJob job, RecordReader reader) throws IOException {
+        while (true) {
+            try {
+                return reader.next();
+            } catch (RecordFormatException e) {
+                job.rejected(e.getLine(), null, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Convierte las columnas de un registro en la petición; los errores de tipo se informan como rechazo
+     */
+    private <R> R bind(ImportJob job, long line, Map<String, String> record, Class<R> type) {
+        try {
+            return objectMapper.convertValue(record, type);
+        } catch (IllegalArgumentException e) {
+            String reason = e.getMessage() != null ? e.getMessage().lines().findFirst().orElse("") : "";
+            job.rejected(line, record.get("apiName"), "Valor no válido: " + reason);
+            return null;
+        }
+    }
+
+    private RecordReader openReader(Path file, ImportFormat format, char delimiter) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvRecordReader(reader, delimiter);
+            case NDJSON -> new NdjsonRecordReader(reader, objectMapper);
+        };
+    }
+
+    /**
+     * Vuelca el cuerpo de la petición a un fichero temporal sin cargarlo en memoria
+     */
+    private static Path spool(InputStream content, long maxBytes) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("catalog-import-", ".tmp");
+            Files.copy(new LimitedInputStream(content, maxBytes, ImportTooLargeException::new),
+                    file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("No se pudo recibir el fichero de importación", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private void pruneFinishedJobs(CatalogProperties.ImportJobs config) {
+        LocalDateTime limit = LocalDateTime.now().minus(config.getRetention());
+        jobs.values().removeIf(job -> job.isFinishedBefore(limit));
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el fichero temporal {}", file, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ImportTask {
+        void run(ImportJob job, RecordReader reader) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<R> {
+        BulkResponse save(List<R> chunk, boolean upsert);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.CatalogSortField;
+import com.sigapi.catalog.dto.CursorPage;
+import com.sigapi.catalog.dto.CursorPageRequest;
+import com.sigapi.catalog.dto.PageInfo;
+import com.sigapi.catalog.repository.KeysetCursor;
+import com.sigapi.catalog.repository.KeysetRequest;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilidades compartidas por los servicios para la paginación por cursor
+ */
+final class CursorPages {
+
+    private CursorPages() {
+    }
+
+    /**
+     * Resuelve y valida el tamaño de página solicitado
+     */
+    static int resolveLimit(CursorPageRequest request, CatalogProperties.Pagination pagination) {
+        int limit = request.getLimit() != null ? request.getLimit() : pagination.getDefaultLimit();
+        if (limit < 1 || limit > pagination.getMaxLimit()) {
+            throw new IllegalArgumentException(
+                    "El parámetro limit debe estar entre 1 y " + pagination.getMaxLimit());
+        }
+        return limit;
+    }
+
+    /**
+     * Construye la petición keyset. Pide una fila más de la necesaria para saber si hay más páginas.
+     */
+    static KeysetRequest keysetRequest(CursorPageRequest request, CatalogSortField sort,
+                                       String sortAttribute, int limit) {
+        KeysetCursor after = null;
+        if (request.getCursor() != null) {
+            after = KeysetCursor.decode(request.getCursor());
+            if (!sortKey(request, sort).equals(after.sort())) {
+                throw new IllegalArgumentException(
+                        "El cursor se generó con otra ordenación: '" + after.sort() + "'");
+            }
+        }
+        return new KeysetRequest(sortAttribute, request.isDescending(), after, limit + 1);
+    }
+
+    /**
+     * Recorta las filas leídas al tamaño de página y genera el cursor siguiente
+     */
+    static <T> CursorPage<T> toPage(List<T> rows, int limit, CursorPageRequest request, CatalogSortField sort,
+                                    Function<T, Integer> idOf, Function<T, String> sortValueOf, Long total) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            T last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(sortKey(request, sort), idOf.apply(last), sortValueOf.apply(last)).encode();
+        }
+        PageInfo page = PageInfo.builder()
+                .limit(limit)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .total(total)
+                .build();
+        return new CursorPage<>(items, page);
+    }
+
+    private static String sortKey(CursorPageRequest request, CatalogSortField sort) {
+        return sort.getParam() + ":" + (request.isDescending() ? "desc" : "asc");
+    }
+}
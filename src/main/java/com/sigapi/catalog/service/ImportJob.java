@@ -0,0 +1,113 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.ImportError;
+import com.sigapi.catalog.dto.ImportJobResponse;
+import com.sigapi.catalog.dto.ImportJobStatus;
+import com.sigapi.catalog.importer.ImportFormat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progreso de un trabajo de importación. Lo actualiza el hilo de importación y lo leen las consultas de estado.
+ */
+class ImportJob {
+
+    private final String id;
+    private final String catalog;
+    private final ImportFormat format;
+    private final int maxErrors;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final List<ImportError> errors = new ArrayList<>();
+    private ImportJobStatus status = ImportJobStatus.QUEUED;
+    private long processed;
+    private long created;
+    private long updated;
+    private long failed;
+    private boolean errorsTruncated;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+
+    ImportJob(String id, String catalog, ImportFormat format, int maxErrors) {
+        this.id = id;
+        this.catalog = catalog;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    synchronized void start() {
+        status = ImportJobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Registra un registro rechazado antes de llegar a la base de datos
+     */
+    synchronized void rejected(long line, String apiName, String reason) {
+        processed++;
+        failed++;
+        error(line, apiName, reason);
+    }
+
+    /**
+     * Acumula el resultado de un bloque guardado
+     */
+    synchronized void chunkSaved(BulkResponse result) {
+        processed += result.getTotal();
+        created += result.getCreated();
+        updated += result.getUpdated();
+        failed += result.getFailed();
+    }
+
+    /**
+     * Añade un error al informe sin alterar los contadores
+     */
+    synchronized void error(long line, String apiName, String reason) {
+        if (errors.size() < maxErrors) {
+            errors.add(new ImportError(line, apiName, reason));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    synchronized void complete() {
+        status = ImportJobStatus.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized void fail(String reason) {
+        status = ImportJobStatus.FAILED;
+        finishedAt = LocalDateTime.now();
+        message = reason;
+    }
+
+    synchronized boolean isFinishedBefore(LocalDateTime instant) {
+        return finishedAt != null && finishedAt.isBefore(instant);
+    }
+
+    synchronized ImportJobResponse toResponse() {
+        return ImportJobResponse.builder()
+                .jobId(id)
+                .catalog(catalog)
+                .format(format.name())
+                .status(status)
+                .processed(processed)
+                .created(created)
+                .updated(updated)
+                .failed(failed)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .message(message)
+                .errors(List.copyOf(errors))
+                .errorsTruncated(errorsTruncated)
+                .build();
+    }
+}
@@ -1,20 +1,62 @@
 package com.sigapi.catalog.service;
 
+import com.sigapi.catalog.cache.CatalogSnapshotHolder;
+import com.sigapi.catalog.cache.LookupCache;
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.BatchLookupRequest;
+import com.sigapi.catalog.dto.BatchLookupResponse;
+import com.sigapi.catalog.dto.BulkItemResult;
+import com.sigapi.catalog.dto.BulkItemStatus;
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.CatalogSortField;
+import com.sigapi.catalog.dto.CursorPage;
+import com.sigapi.catalog.dto.CursorPageRequest;
+import com.sigapi.catalog.dto.ObjectTypeFilter;
 import com.sigapi.catalog.dto.ObjectTypeRequest;
 import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SuggestionResponse;
 import com.sigapi.catalog.entity.ObjectType;
+import com.sigapi.catalog.event.ObjectTypeChangedEvent;
 import com.sigapi.catalog.exception.DuplicateResourceException;
 import com.sigapi.catalog.exception.ResourceNotFoundException;
 import com.sigapi.catalog.mapper.ObjectTypeMapper;
+import com.sigapi.catalog.repository.CatalogInsertJdbcRepository;
+import com.sigapi.catalog.repository.KeysetRequest;
 import com.sigapi.catalog.repository.ObjectTypeRepository;
+import com.sigapi.catalog.search.PrefixIndex;
+import com.sigapi.catalog.search.TrigramIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.sigapi.catalog.metrics.CatalogMetrics.ENTITY;
+import static com.sigapi.catalog.metrics.CatalogMetrics.OBJECT_TYPE;
+import static com.sigapi.catalog.metrics.CatalogMetrics.OPERATION;
+import static com.sigapi.catalog.metrics.CatalogMetrics.OPERATION_TIMER;
+import static com.sigapi.catalog.repository.ObjectTypeSpecifications.anyNameContains;
+import static com.sigapi.catalog.repository.ObjectTypeSpecifications.dateBetween;
+import static com.sigapi.catalog.repository.ObjectTypeSpecifications.isAssigned;
+import static com.sigapi.catalog.repository.ObjectTypeSpecifications.isDefault;
+import static com.sigapi.catalog.repository.ObjectTypeSpecifications.isDefaultOrAssigned;
+import static com.sigapi.catalog.repository.ObjectTypeSpecifications.objectNameContains;
+
 /**
  * Servicio para la lógica de negocio de ObjectType
  */
@@ -23,124 +65,381 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ObjectTypeService {
 
+    private static final Map<CatalogSortField, String> SORT_ATTRIBUTES = Map.of(
+            CatalogSortField.ID, "idObject",
+            CatalogSortField.API_NAME, "apiName",
+            CatalogSortField.NAME, "objectName");
+
     private final ObjectTypeRepository repository;
+    private final CatalogInsertJdbcRepository insertRepository;
     private final ObjectTypeMapper mapper;
+    private final LookupCache<ObjectTypeResponse> objectTypeCache;
+    private final CatalogSnapshotHolder<ObjectTypeResponse> objectTypeSnapshot;
+    private final TrigramIndex<ObjectTypeResponse> objectTypeSearchIndex;
+    private final PrefixIndex<ObjectTypeResponse> objectTypeSuggestIndex;
+    private final CatalogProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final EntityManager entityManager;
 
     /**
      * Crea un nuevo tipo de objeto
      */
     @Transactional
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "create"})
     public ObjectTypeResponse create(ObjectTypeRequest request) {
-        log.info("Creando nuevo ObjectType con apiName: {}", request.getApiName());
-        
-        if (repository.existsByApiName(request.getApiName())) {
-            throw new DuplicateResourceException(
-                    "Ya existe un ObjectType con apiName: '" + request.getApiName() + "'");
-        }
+        log.debug("Creando nuevo ObjectType con apiName: {}", request.getApiName());
         
         ObjectType entity = mapper.toEntity(request);
-        ObjectType saved = repository.save(entity);
+        ObjectType saved = saveAndFlush(entity, request.getApiName());
+        ObjectTypeResponse response = mapper.toResponse(saved);
+        eventPublisher.publishEvent(ObjectTypeChangedEvent.created(response));
         
-        log.info("ObjectType creado exitosamente con ID: {}", saved.getIdObject());
-        return mapper.toResponse(saved);
+        log.debug("ObjectType creado exitosamente con ID: {}", saved.getIdObject());
+        return response;
+    }
+
+    /**
+     * Crea tipos de objeto en bloque. Con upsert los apiName existentes se actualizan;
+     * sin él se informan como duplicados. Los duplicados se comprueban con una sola consulta
+     * y las inserciones se envían en lotes JDBC. Los elementos inválidos no abortan el resto.
+     */
+    @Transactional
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "bulkSave"})
+    public BulkResponse bulkSave(List<ObjectTypeRequest> requests, boolean upsert) {
+        log.info("Carga masiva de {} ObjectTypes (upsert: {})", requests != null ? requests.size() : 0, upsert);
+        BulkOperations.checkSize(requests, properties.getBulk().getMaxItems());
+
+        Map<Integer, String> errors = BulkOperations.validate(requests, validator, ObjectTypeRequest::getApiName);
+        List<String> apiNames = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (!errors.containsKey(i)) {
+                apiNames.add(requests.get(i).getApiName());
+            }
+        }
+
+        Map<String, ObjectType> existingEntities = new HashMap<>();
+        Set<String> existingApiNames = new HashSet<>();
+        if (upsert) {
+            BulkOperations.queryInChunks(apiNames, repository::findByApiNameIn)
+                    .forEach(entity -> existingEntities.put(entity.getApiName(), entity));
+        } else {
+            existingApiNames.addAll(BulkOperations.queryInChunks(apiNames, repository::findExistingApiNames));
+        }
+
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        Map<Integer, ObjectType> creates = new LinkedHashMap<>();
+        Map<Integer, ObjectType> updates = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ObjectTypeRequest request = requests.get(i);
+            String apiName = request != null ? request.getApiName() : null;
+            if (errors.containsKey(i)) {
+                results[i] = BulkOperations.failed(i, apiName, errors.get(i));
+                continue;
+            }
+            ObjectType existing = existingEntities.get(apiName);
+            if (existing != null) {
+                mapper.updateEntity(existing, request);
+                updates.put(i, existing);
+            } else if (existingApiNames.contains(apiName)) {
+                results[i] = BulkOperations.failed(i, apiName, "Ya existe un ObjectType con apiName: '" + apiName + "'");
+            } else {
+                creates.put(i, mapper.toEntity(request));
+            }
+        }
+
+        // Las actualizaciones son entidades gestionadas: se envían antes de limpiar el contexto
+        repository.flush();
+        entityManager.clear();
+        Set<ObjectType> rejected = BulkOperations.insertInBatches(
+                creates.values(), properties.getBulk().getFlushSize(), entityManager, insertRepository::insertObjectTypes);
+
+        creates.forEach((i, entity) -> results[i] = rejected.contains(entity)
+                ? BulkOperations.failed(i, entity.getApiName(),
+                        "Ya existe un ObjectType con apiName: '" + entity.getApiName() + "'")
+                : BulkOperations.result(i, entity.getApiName(), BulkItemStatus.CREATED, entity.getIdObject()));
+        updates.forEach((i, entity) -> results[i] = BulkOperations.result(
+                i, entity.getApiName(), BulkItemStatus.UPDATED, entity.getIdObject()));
+        if (creates.size() > rejected.size() || !updates.isEmpty()) {
+            eventPublisher.publishEvent(ObjectTypeChangedEvent.bulk());
+        }
+
+        log.info("Carga masiva de ObjectTypes completada: {} creados, {} actualizados",
+                creates.size() - rejected.size(), updates.size());
+        return BulkOperations.toResponse(Arrays.asList(results));
     }
 
     /**
      * Obtiene todos los tipos de objeto
      */
     @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "list"})
     public List<ObjectTypeResponse> findAll() {
-        log.info("Obteniendo todos los ObjectTypes");
+        log.debug("Obteniendo todos los ObjectTypes");
+        if (properties.getSnapshot().isEnabled()) {
+            return objectTypeSnapshot.get().getItems();
+        }
         return repository.findAll().stream()
                 .map(mapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Obtiene todos los tipos de objeto, paginados por cursor si se indica limit o cursor
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "list"})
+    public CursorPage<ObjectTypeResponse> findAll(CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            return findPage(null, pageRequest);
+        }
+        return CursorPage.unpaged(findAll());
+    }
+
     /**
      * Obtiene un tipo de objeto por ID
      */
     @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "getById"})
     public ObjectTypeResponse findById(Integer id) {
-        log.info("Buscando ObjectType con ID: {}", id);
-        ObjectType entity = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "ObjectType no encontrado con id: '" + id + "'"));
-        return mapper.toResponse(entity);
+        log.debug("Buscando ObjectType con ID: {}", id);
+        return objectTypeCache.getById(id, () -> {
+            ObjectType entity = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "ObjectType no encontrado con id: '" + id + "'"));
+            return mapper.toResponse(entity);
+        });
+    }
+
+    /**
+     * Resuelve varios tipos de objeto por ID y/o apiName en una sola llamada, usando la caché
+     * y una consulta IN para los que no están cacheados
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "batch"})
+    public BatchLookupResponse<ObjectTypeResponse> getBatch(BatchLookupRequest request) {
+        log.debug("Consulta por lotes de ObjectTypes");
+        return BatchLookup.resolve(request, properties.getBatch().getMaxKeys(), ObjectTypeResponse::getIdObject,
+                ids -> objectTypeCache.getAllById(ids, missing -> BulkOperations.queryInChunks(
+                        List.copyOf(missing), repository::findAllById).stream().map(mapper::toResponse).toList()),
+                apiNames -> objectTypeCache.getAllByApiName(apiNames, missing -> BulkOperations.queryInChunks(
+                        List.copyOf(missing), repository::findByApiNameIn).stream().map(mapper::toResponse).toList()));
     }
 
     /**
      * Obtiene un tipo de objeto por apiName
      */
     @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "getByApiName"})
     public ObjectTypeResponse findByApiName(String apiName) {
-        log.info("Buscando ObjectType con apiName: {}", apiName);
-        ObjectType entity = repository.findByApiName(apiName)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "ObjectType no encontrado con apiName: '" + apiName + "'"));
-        return mapper.toResponse(entity);
+        log.debug("Buscando ObjectType con apiName: {}", apiName);
+        return objectTypeCache.getByApiName(apiName, () -> {
+            ObjectType entity = repository.findByApiName(apiName)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "ObjectType no encontrado con apiName: '" + apiName + "'"));
+            return mapper.toResponse(entity);
+        });
     }
 
     /**
      * Busca tipos de objeto por nombre (parcial)
      */
     @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "search"})
     public List<ObjectTypeResponse> searchByObjectName(String name) {
-        log.info("Buscando ObjectTypes con nombre que contenga: {}", name);
+        return searchByObjectName(name, false);
+    }
+
+    /**
+     * Busca tipos de objeto por nombre o, con allFields, también por objectOrigName y apiName.
+     * Con catalog.search.enabled se resuelve con el índice de trigramas sin consultar la tabla.
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "search"})
+    public List<ObjectTypeResponse> searchByObjectName(String name, boolean allFields) {
+        log.debug("Buscando ObjectTypes con nombre que contenga: {}", name);
+        if (properties.getSearch().isEnabled()) {
+            return objectTypeSearchIndex.search(name, allFields);
+        }
+        if (allFields) {
+            KeysetRequest all = new KeysetRequest("idObject", false, null, Integer.MAX_VALUE);
+            return repository.findPage(anyNameContains(name), all).stream()
+                    .map(mapper::toResponse)
+                    .collect(Collectors.toList());
+        }
         return repository.findByObjectNameContainingIgnoreCase(name).stream()
                 .map(mapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca tipos de objeto por nombre, paginados por cursor si se indica limit o cursor
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "search"})
+    public CursorPage<ObjectTypeResponse> searchByObjectName(String name, boolean allFields,
+                                                            CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            return findPage(allFields ? anyNameContains(name) : objectNameContains(name), pageRequest);
+        }
+        return CursorPage.unpaged(searchByObjectName(name, allFields));
+    }
+
+    /**
+     * Filtra tipos de objeto combinando en una sola consulta todos los criterios indicados
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "filter"})
+    public CursorPage<ObjectTypeResponse> filter(ObjectTypeFilter filter, CursorPageRequest pageRequest) {
+        log.debug("Filtrando ObjectTypes: {}", filter);
+        Specification<ObjectType> specification = toSpecification(filter);
+        if (pageRequest.isPaged()) {
+            return findPage(specification, pageRequest);
+        }
+        KeysetRequest all = new KeysetRequest("idObject", false, null, Integer.MAX_VALUE);
+        return CursorPage.unpaged(repository.findPage(specification, all).stream()
+                .map(mapper::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Autocompletado: valores de apiName y objectName que empiezan por el prefijo, sin consultar la base de datos
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "suggest"})
+    public List<SuggestionResponse> suggest(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        CatalogProperties.Search search = properties.getSearch();
+        int size = limit != null ? Math.max(1, Math.min(limit, search.getSuggestMaxLimit()))
+                : search.getSuggestDefaultLimit();
+        return objectTypeSuggestIndex.suggest(prefix.trim(), size);
+    }
+
     /**
      * Obtiene tipos de objeto por defecto o asignados
      */
     @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "defaultOrAssigned"})
     public List<ObjectTypeResponse> findDefaultOrAssigned() {
-        log.info("Buscando ObjectTypes por defecto o asignados");
+        log.debug("Buscando ObjectTypes por defecto o asignados");
+        if (properties.getSnapshot().isEnabled()) {
+            return objectTypeSnapshot.get().getDefaultOrAssigned();
+        }
         return repository.findByIsDefaultOrIsAssigned().stream()
                 .map(mapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Obtiene tipos de objeto por defecto o asignados, paginados por cursor si se indica limit o cursor
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "defaultOrAssigned"})
+    public CursorPage<ObjectTypeResponse> findDefaultOrAssigned(CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            return findPage(isDefaultOrAssigned(), pageRequest);
+        }
+        return CursorPage.unpaged(findDefaultOrAssigned());
+    }
+
     /**
      * Actualiza un tipo de objeto existente
      */
     @Transactional
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "update"})
     public ObjectTypeResponse update(Integer id, ObjectTypeRequest request) {
-        log.info("Actualizando ObjectType con ID: {}", id);
+        log.debug("Actualizando ObjectType con ID: {}", id);
         
         ObjectType entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "ObjectType no encontrado con id: '" + id + "'"));
         
-        // Validar que el apiName no esté duplicado (si cambió)
-        if (!entity.getApiName().equals(request.getApiName()) && 
-            repository.existsByApiName(request.getApiName())) {
-            throw new DuplicateResourceException(
-                    "Ya existe un ObjectType con apiName: '" + request.getApiName() + "'");
-        }
-        
+        String previousApiName = entity.getApiName();
         mapper.updateEntity(entity, request);
-        ObjectType updated = repository.save(entity);
+        ObjectType updated = saveAndFlush(entity, request.getApiName());
+        ObjectTypeResponse response = mapper.toResponse(updated);
+        eventPublisher.publishEvent(ObjectTypeChangedEvent.updated(previousApiName, response));
         
-        log.info("ObjectType actualizado exitosamente con ID: {}", id);
-        return mapper.toResponse(updated);
+        log.debug("ObjectType actualizado exitosamente con ID: {}", id);
+        return response;
     }
 
     /**
      * Elimina un tipo de objeto
      */
     @Transactional
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, OBJECT_TYPE, OPERATION, "delete"})
     public void delete(Integer id) {
-        log.info("Eliminando ObjectType con ID: {}", id);
+        log.debug("Eliminando ObjectType con ID: {}", id);
         
-        if (!repository.existsById(id)) {
+        if (repository.deleteByIdReturningCount(id) == 0) {
             throw new ResourceNotFoundException(
                     "ObjectType no encontrado con id: '" + id + "'");
         }
-        
-        repository.deleteById(id);
-        log.info("ObjectType eliminado exitosamente con ID: {}", id);
+        eventPublisher.publishEvent(ObjectTypeChangedEvent.deleted(id, null));
+        log.debug("ObjectType eliminado exitosamente con ID: {}", id);
     }
-}
 
+    /**
+     * Lee una página keyset de tipos de objeto
+     */
+    private CursorPage<ObjectTypeResponse> findPage(Specification<ObjectType> filter, CursorPageRequest pageRequest) {
+        CatalogSortField sort = CatalogSortField.fromParam(pageRequest.getSort());
+        int limit = CursorPages.resolveLimit(pageRequest, properties.getPagination());
+        KeysetRequest keyset = CursorPages.keysetRequest(pageRequest, sort, SORT_ATTRIBUTES.get(sort), limit);
+
+        List<ObjectTypeResponse> rows = repository.findPage(filter, keyset).stream()
+                .map(mapper::toResponse)
+                .collect(Collectors.toList());
+        Long total = pageRequest.isIncludeTotal() ? repository.countMatching(filter) : null;
+        return CursorPages.toPage(rows, limit, pageRequest, sort,
+                ObjectTypeResponse::getIdObject, response -> sortValue(sort, response), total);
+    }
+
+    private static String sortValue(CatalogSortField sort, ObjectTypeResponse response) {
+        return switch (sort) {
+            case ID -> null;
+            case API_NAME -> response.getApiName();
+            case NAME -> response.getObjectName();
+        };
+    }
+
+    /**
+     * Combina con AND los criterios informados del filtro; null si no hay ninguno
+     */
+    private static Specification<ObjectType> toSpecification(ObjectTypeFilter filter) {
+        List<Specification<ObjectType>> criteria = new ArrayList<>();
+        if (filter.getIsDefault() != null) {
+            criteria.add(isDefault(filter.getIsDefault()));
+        }
+        if (filter.getIsAssigned() != null) {
+            criteria.add(isAssigned(filter.getIsAssigned()));
+        }
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            criteria.add(objectNameContains(filter.getName().trim()));
+        }
+        if (filter.getCreatedFrom() != null || filter.getCreatedTo() != null) {
+            criteria.add(dateBetween("createDate", filter.getCreatedFrom(), filter.getCreatedTo()));
+        }
+        if (filter.getUpdatedFrom() != null || filter.getUpdatedTo() != null) {
+            criteria.add(dateBetween("lastUpdate", filter.getUpdatedFrom(), filter.getUpdatedTo()));
+        }
+        return criteria.isEmpty() ? null : Specification.allOf(criteria);
+    }
+
+    /**
+     * Escribe la entidad en una sola sentencia; la restricción UNIQUE de apiname detecta los duplicados
+     * sin consulta previa y sin carrera entre comprobación e inserción
+     */
+    private ObjectType saveAndFlush(ObjectType entity, String apiName) {
+        try {
+            return repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolations.isUniqueViolation(e)) {
+                throw new DuplicateResourceException("Ya existe un ObjectType con apiName: '" + apiName + "'");
+            }
+            throw e;
+        }
+    }
+}
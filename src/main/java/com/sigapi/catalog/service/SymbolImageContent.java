@@ -0,0 +1,66 @@
+package com.sigapi.catalog.service;
+
+import lombok.Getter;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Contenido binario de la imagen de un símbolo junto con sus metadatos HTTP.
+ * El contenido está en memoria o, con el almacén en ficheros, en un fichero que se envía sin cargarlo.
+ */
+@Getter
+public class SymbolImageContent {
+
+    /**
+     * Bytes de la imagen, o null si está en un fichero
+     */
+    private final byte[] content;
+    private final Path file;
+    private final long length;
+    private final MediaType mediaType;
+    private final String eTag;
+
+    public SymbolImageContent(byte[] content, MediaType mediaType, String eTag) {
+        this.content = content;
+        this.file = null;
+        this.length = content.length;
+        this.mediaType = mediaType;
+        this.eTag = eTag;
+    }
+
+    public SymbolImageContent(Path file, long length, MediaType mediaType, String eTag) {
+        this.content = null;
+        this.file = file;
+        this.length = length;
+        this.mediaType = mediaType;
+        this.eTag = eTag;
+    }
+
+    /**
+     * Bytes de la imagen, leyendo el fichero si es necesario
+     */
+    public byte[] readContent() {
+        if (content != null) {
+            return content;
+        }
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la imagen " + file, e);
+        }
+    }
+
+    /**
+     * Cuerpo de la respuesta: los ficheros se copian al socket por bloques, sin cargarlos enteros
+     */
+    public Resource toResource() {
+        return content != null ? new ByteArrayResource(content) : new FileSystemResource(file);
+    }
+}
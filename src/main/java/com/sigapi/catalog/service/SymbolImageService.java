@@ -0,0 +1,391 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.cache.CatalogRevision;
+import com.sigapi.catalog.cache.ImageETagRegistry;
+import com.sigapi.catalog.cache.ThumbnailCache;
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.entity.SymbolImage;
+import com.sigapi.catalog.event.SymbolImageReleasedEvent;
+import com.sigapi.catalog.event.SymbolTypeChangedEvent;
+import com.sigapi.catalog.exception.ImageTooLargeException;
+import com.sigapi.catalog.exception.ResourceNotFoundException;
+import com.sigapi.catalog.exception.UnsupportedImageException;
+import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import com.sigapi.catalog.repository.SymbolImageJdbcRepository;
+import com.sigapi.catalog.repository.SymbolImageRepository;
+import com.sigapi.catalog.repository.SymbolTypeRepository;
+import com.sigapi.catalog.storage.ImageBlobStore;
+import com.sigapi.catalog.util.ImageMediaTypes;
+import com.sigapi.catalog.util.ImageThumbnails;
+import com.sigapi.catalog.util.LimitedInputStream;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio para servir las imágenes binarias de los tipos de símbolo
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SymbolImageService {
+
+    private final SymbolTypeRepository repository;
+    private final SymbolImageRepository imageRepository;
+    private final SymbolImageJdbcRepository jdbcRepository;
+    private final SymbolTypeMapper mapper;
+    private final CatalogProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogRevision symbolTypeRevision;
+    private final ImageETagRegistry symbolImageETagRegistry;
+    private final ThumbnailCache symbolThumbnailCache;
+    private final EntityManager entityManager;
+    private final ImageBlobStore imageBlobStore;
+
+    /**
+     * ETag de la imagen servida anteriormente por ID, o null si no se conoce
+     */
+    public String findKnownETagById(Integer id) {
+        return symbolImageETagRegistry.get(idKey(id));
+    }
+
+    /**
+     * ETag de la imagen servida anteriormente por apiName, o null si no se conoce
+     */
+    public String findKnownETagByApiName(String apiName) {
+        return symbolImageETagRegistry.get(apiNameKey(apiName));
+    }
+
+    /**
+     * Obtiene la imagen de un tipo de símbolo por ID
+     */
+    public SymbolImageContent getImageById(Integer id) {
+        long revision = symbolTypeRevision.current();
+        SymbolImage image = repository.findImageById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Imagen no encontrada para SymbolType con id: '" + id + "'"));
+        return register(idKey(id), revision, toContent(image));
+    }
+
+    /**
+     * Obtiene la imagen de un tipo de símbolo por apiName
+     */
+    public SymbolImageContent getImageByApiName(String apiName) {
+        long revision = symbolTypeRevision.current();
+        SymbolImage image = repository.findImageByApiName(apiName)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Imagen no encontrada para SymbolType con apiName: '" + apiName + "'"));
+        return register(apiNameKey(apiName), revision, toContent(image));
+    }
+
+    /**
+     * ETag de la imagen con el hash dado, que es el propio hash. Comprueba que la imagen existe
+     * sin cargar su contenido, para no responder 304 a un hash desconocido.
+     */
+    public String getETagByHash(String hash) {
+        if (!imageRepository.existsById(hash)) {
+            throw new ResourceNotFoundException("SymbolImage", "imageHash", hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Obtiene una imagen por su hash. El contenido de un hash no cambia nunca,
+     * por lo que la respuesta se puede cachear como inmutable.
+     */
+    public SymbolImageContent getImageByHash(String hash) {
+        return imageRepository.findById(hash)
+                .map(this::toContent)
+                .orElseThrow(() -> new ResourceNotFoundException("SymbolImage", "imageHash", hash));
+    }
+
+    /**
+     * Añade una referencia a la imagen con el contenido dado, guardándola si es la primera vez que se ve.
+     * Debe ejecutarse en la transacción que asocia la imagen al tipo de símbolo.
+     *
+     * @return referencia a la imagen (no carga sus bytes)
+     */
+    @Transactional
+    public SymbolImage acquire(byte[] image) {
+        String hash = sha256Hex(image);
+        boolean inline = imageBlobStore.isInline();
+        if (jdbcRepository.acquire(hash, inline ? image : null, ImageMediaTypes.detect(image).toString())) {
+            log.debug("Imagen nueva guardada: {} ({} bytes)", hash, image.length);
+        }
+        if (!inline) {
+            // Idempotente: también repone el contenido si faltaba en el almacén
+            imageBlobStore.put(hash, image);
+            putAfterCommit(Map.of(hash, image));
+        }
+        return entityManager.getReference(SymbolImage.class, hash);
+    }
+
+    /**
+     * Añade una referencia por cada imagen dada, agrupando las repetidas: un solo lote JDBC
+     * con una sentencia por imagen distinta, en lugar de una por elemento.
+     *
+     * @return referencia a cada imagen, en el mismo orden
+     */
+    @Transactional
+    public List<SymbolImage> acquireAll(List<byte[]> images) {
+        boolean inline = imageBlobStore.isInline();
+        List<String> hashes = new ArrayList<>(images.size());
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        Map<String, Integer> references = new HashMap<>();
+        for (byte[] image : images) {
+            String hash = sha256Hex(image);
+            hashes.add(hash);
+            contents.putIfAbsent(hash, image);
+            references.merge(hash, 1, Integer::sum);
+        }
+        jdbcRepository.acquireAll(contents.entrySet().stream()
+                .map(e -> new SymbolImageJdbcRepository.AcquiredImage(e.getKey(), inline ? e.getValue() : null,
+                        ImageMediaTypes.detect(e.getValue()).toString(), references.get(e.getKey())))
+                .toList());
+        if (!inline) {
+            contents.forEach(imageBlobStore::put);
+            putAfterCommit(contents);
+        }
+        return hashes.stream().map(hash -> entityManager.getReference(SymbolImage.class, hash)).toList();
+    }
+
+    /**
+     * Vuelve a guardar el contenido cuando la fila ya es visible. Si el fichero existía, put no lo ha escrito,
+     * y el ImageBlobCleaner de otra transacción que liberó la misma imagen puede haberlo borrado antes de
+     * ver la fila nueva; el borrado de ImageBlobCleaner y este put no se intercalan.
+     */
+    private void putAfterCommit(Map<String, byte[]> contents) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                contents.forEach(imageBlobStore::put);
+            }
+        });
+    }
+
+    /**
+     * Quita una referencia a la imagen y la elimina si ya no la usa ningún tipo de símbolo.
+     * Debe llamarse después de escribir el cambio que deja de referenciarla.
+     */
+    @Transactional
+    public void release(String hash) {
+        if (jdbcRepository.release(hash)) {
+            log.debug("Imagen sin referencias eliminada: {}", hash);
+            eventPublisher.publishEvent(new SymbolImageReleasedEvent(hash));
+        }
+    }
+
+    /**
+     * Quita una referencia por cada hash dado (un hash repetido pierde varias), en lotes JDBC
+     */
+    @Transactional
+    public void releaseAll(List<String> hashes) {
+        Map<String, Integer> references = new LinkedHashMap<>();
+        hashes.forEach(hash -> references.merge(hash, 1, Integer::sum));
+        for (String hash : jdbcRepository.releaseAll(references)) {
+            log.debug("Imagen sin referencias eliminada: {}", hash);
+            eventPublisher.publishEvent(new SymbolImageReleasedEvent(hash));
+        }
+    }
+
+    /**
+     * Apunta el tipo de símbolo a una imagen ya adquirida, sin bloquear antes su fila
+     *
+     * @return hash de la imagen que tenía antes, o null si no tenía; se libera después con release
+     */
+    @Transactional
+    public String assign(Integer id, SymbolImage image) {
+        return jdbcRepository.assign(id, image.getImageHash())
+                .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "id", id))
+                .imageHash();
+    }
+
+    /**
+     * ETag de la miniatura servida anteriormente por ID, o null si no se conoce
+     */
+    public String findKnownThumbnailETagById(Integer id, int size) {
+        return symbolImageETagRegistry.get(thumbnailKey(idKey(id), size));
+    }
+
+    /**
+     * ETag de la miniatura servida anteriormente por apiName, o null si no se conoce
+     */
+    public String findKnownThumbnailETagByApiName(String apiName, int size) {
+        return symbolImageETagRegistry.get(thumbnailKey(apiNameKey(apiName), size));
+    }
+
+    /**
+     * Obtiene la imagen de un tipo de símbolo por ID reducida al tamaño indicado.
+     * Solo se consulta el hash de la imagen; la miniatura se comparte con getThumbnailByHash.
+     */
+    public SymbolImageContent getThumbnailById(Integer id, int size) {
+        checkThumbnailSize(size);
+        long revision = symbolTypeRevision.current();
+        String hash = repository.findImageHashById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Imagen no encontrada para SymbolType con id: '" + id + "'"));
+        return register(thumbnailKey(idKey(id), size), revision, getThumbnailByHash(hash, size));
+    }
+
+    /**
+     * Obtiene la imagen de un tipo de símbolo por apiName reducida al tamaño indicado
+     */
+    public SymbolImageContent getThumbnailByApiName(String apiName, int size) {
+        checkThumbnailSize(size);
+        long revision = symbolTypeRevision.current();
+        String hash = repository.findImageHashByApiName(apiName)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Imagen no encontrada para SymbolType con apiName: '" + apiName + "'"));
+        return register(thumbnailKey(apiNameKey(apiName), size), revision, getThumbnailByHash(hash, size));
+    }
+
+    /**
+     * Obtiene una imagen por su hash reducida al tamaño indicado.
+     * La miniatura se genera en la primera petición y queda en memoria mientras exista la imagen.
+     */
+    public SymbolImageContent getThumbnailByHash(String hash, int size) {
+        checkThumbnailSize(size);
+        return symbolThumbnailCache.get(hash, size, () -> toThumbnail(getImageByHash(hash), size));
+    }
+
+    /**
+     * Reemplaza la imagen de un tipo de símbolo leyendo el contenido como stream.
+     * Rechaza el contenido si excede el tamaño máximo o no es una imagen. La imagen se lee completa
+     * (acotada por el tamaño máximo) para calcular su hash; si ya existe no se vuelve a guardar.
+     *
+     * @param declaredLength longitud declarada por el cliente, o -1 si es desconocida
+     */
+    @Transactional
+    public SymbolTypeResponse uploadImage(Integer id, InputStream content, long declaredLength) {
+        long maxBytes = properties.getImage().getMaxSize().toBytes();
+        if (declaredLength > maxBytes) {
+            throw new ImageTooLargeException(maxBytes);
+        }
+        byte[] image;
+        try {
+            image = new LimitedInputStream(content, maxBytes).readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la imagen recibida", e);
+        }
+        if (image.length == 0) {
+            throw new UnsupportedImageException("La imagen recibida está vacía");
+        }
+        if (!ImageMediaTypes.isImage(image)) {
+            throw new UnsupportedImageException(
+                    "El contenido recibido no es una imagen soportada (PNG, JPEG, GIF, BMP, WebP o SVG)");
+        }
+
+        // Si el ID no existe assign lanza la excepción y la transacción deshace la referencia adquirida
+        String previousHash = assign(id, acquire(image));
+        if (previousHash != null) {
+            release(previousHash);
+        }
+
+        SymbolTypeResponse response = repository.findSummaryById(id)
+                .map(mapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "id", id));
+        eventPublisher.publishEvent(SymbolTypeChangedEvent.updated(response.getApiName(), response));
+
+        log.debug("Imagen actualizada para tipo de símbolo con ID: {}", id);
+        return response;
+    }
+
+    /**
+     * El hash del contenido sirve como ETag: no hace falta recalcularlo en cada petición.
+     * Las imágenes grandes del almacén en ficheros se devuelven como fichero, sin leerlas al heap.
+     */
+    private SymbolImageContent toContent(SymbolImage image) {
+        String hash = image.getImageHash();
+        MediaType mediaType = MediaType.parseMediaType(image.getMediaType());
+        Path file = imageBlobStore.file(hash);
+        if (file != null) {
+            long length = fileSize(file);
+            if (length >= properties.getImage().getStorage().getSendfileMinSize().toBytes()) {
+                return new SymbolImageContent(file, length, mediaType, hash);
+            }
+        }
+        byte[] content = imageBlobStore.read(image);
+        if (content == null) {
+            throw new ResourceNotFoundException("Contenido no encontrado en el almacén para la imagen '" + hash + "'");
+        }
+        return new SymbolImageContent(content, mediaType, hash);
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la imagen " + file, e);
+        }
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private void checkThumbnailSize(int size) {
+        if (!properties.getImage().getThumbnailSizes().contains(size)) {
+            throw new IllegalArgumentException("Tamaño de miniatura no soportado: " + size
+                    + " (permitidos: " + properties.getImage().getThumbnailSizes() + ")");
+        }
+    }
+
+    /**
+     * Las imágenes que ImageIO no puede decodificar (SVG, WebP) o que ya caben en el tamaño se sirven tal cual
+     */
+    private SymbolImageContent toThumbnail(SymbolImageContent image, int size) {
+        byte[] thumbnail = ImageThumbnails.resize(image.readContent(), size);
+        if (thumbnail == null) {
+            return image;
+        }
+        log.debug("Miniatura de {} px generada: {} -> {} bytes", size, image.getLength(), thumbnail.length);
+        // La miniatura se deriva del original, así que su hash más el tamaño la identifica
+        return new SymbolImageContent(thumbnail, MediaType.IMAGE_PNG, image.getETag() + "-" + size);
+    }
+
+    private SymbolImageContent register(String key, long revision, SymbolImageContent content) {
+        symbolImageETagRegistry.put(key, revision, content.getETag());
+        return content;
+    }
+
+    private static String idKey(Integer id) {
+        return "id:" + id;
+    }
+
+    private static String apiNameKey(String apiName) {
+        return "api-name:" + apiName;
+    }
+
+    private static String thumbnailKey(String imageKey, int size) {
+        return imageKey + ":size:" + size;
+    }
+}
@@ -1,18 +1,67 @@
 package com.sigapi.catalog.service;
 
+import com.sigapi.catalog.cache.CatalogSnapshotHolder;
+import com.sigapi.catalog.cache.LookupCache;
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.BatchLookupRequest;
+import com.sigapi.catalog.dto.BatchLookupResponse;
+import com.sigapi.catalog.dto.BulkItemResult;
+import com.sigapi.catalog.dto.BulkItemStatus;
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.CatalogSortField;
+import com.sigapi.catalog.dto.CursorPage;
+import com.sigapi.catalog.dto.CursorPageRequest;
+import com.sigapi.catalog.dto.SuggestionResponse;
+import com.sigapi.catalog.dto.SymbolTypeFilter;
 import com.sigapi.catalog.dto.SymbolTypeRequest;
 import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.entity.SymbolImage;
 import com.sigapi.catalog.entity.SymbolType;
+import com.sigapi.catalog.event.SymbolTypeChangedEvent;
 import com.sigapi.catalog.exception.DuplicateResourceException;
+import com.sigapi.catalog.exception.ImageTooLargeException;
 import com.sigapi.catalog.exception.ResourceNotFoundException;
 import com.sigapi.catalog.mapper.SymbolTypeMapper;
+import com.sigapi.catalog.repository.CatalogInsertJdbcRepository;
+import com.sigapi.catalog.repository.KeysetRequest;
+import com.sigapi.catalog.repository.SymbolImageJdbcRepository;
 import com.sigapi.catalog.repository.SymbolTypeRepository;
+import com.sigapi.catalog.search.PrefixIndex;
+import com.sigapi.catalog.search.TrigramIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.sigapi.catalog.metrics.CatalogMetrics.ENTITY;
+import static com.sigapi.catalog.metrics.CatalogMetrics.OPERATION;
+import static com.sigapi.catalog.metrics.CatalogMetrics.OPERATION_TIMER;
+import static com.sigapi.catalog.metrics.CatalogMetrics.SYMBOL_TYPE;
+import static com.sigapi.catalog.repository.SymbolTypeSpecifications.anyNameContains;
+import static com.sigapi.catalog.repository.SymbolTypeSpecifications.dateBetween;
+import static com.sigapi.catalog.repository.SymbolTypeSpecifications.hasSymbolType;
+import static com.sigapi.catalog.repository.SymbolTypeSpecifications.isAssigned;
+import static com.sigapi.catalog.repository.SymbolTypeSpecifications.isDefault;
+import static com.sigapi.catalog.repository.SymbolTypeSpecifications.isDefaultOrAssigned;
+import static com.sigapi.catalog.repository.SymbolTypeSpecifications.symbolNameContains;
 
 /**
  * Servicio para gestionar tipos de símbolos
@@ -23,117 +72,514 @@ import java.util.List;
 @Transactional
 public class SymbolTypeService {
 
+    private static final Map<CatalogSortField, String> SORT_ATTRIBUTES = Map.of(
+            CatalogSortField.ID, "idSymbol",
+            CatalogSortField.API_NAME, "apiName",
+            CatalogSortField.NAME, "symbolName");
+
     private final SymbolTypeRepository repository;
     private final SymbolTypeMapper mapper;
+    private final CatalogProperties properties;
+    private final LookupCache<SymbolTypeResponse> symbolTypeCache;
+    private final CatalogSnapshotHolder<SymbolTypeResponse> symbolTypeSnapshot;
+    private final TrigramIndex<SymbolTypeResponse> symbolTypeSearchIndex;
+    private final PrefixIndex<SymbolTypeResponse> symbolTypeSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final SymbolImageService imageService;
+    private final SymbolImageJdbcRepository imageJdbcRepository;
+    private final CatalogInsertJdbcRepository insertRepository;
 
     /**
      * Crea un nuevo tipo de símbolo
      */
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "create"})
     public SymbolTypeResponse create(SymbolTypeRequest request) {
-        log.info("Creando tipo de símbolo: {}", request.getApiName());
-
-        if (repository.existsByApiName(request.getApiName())) {
-            throw new DuplicateResourceException("SymbolType", "apiName", request.getApiName());
-        }
+        log.debug("Creando tipo de símbolo: {}", request.getApiName());
+        validateImageSize(request);
+        byte[] image = mapper.decodeImage(request);
 
         SymbolType entity = mapper.toEntity(request);
-        SymbolType saved = repository.save(entity);
+        replaceImage(entity, image);
+        SymbolType saved = saveAndFlush(entity, request.getApiName());
+        eventPublisher.publishEvent(SymbolTypeChangedEvent.created(mapper.toSummaryResponse(saved)));
         
-        log.info("Tipo de símbolo creado exitosamente con ID: {}", saved.getIdSymbol());
+        log.debug("Tipo de símbolo creado exitosamente con ID: {}", saved.getIdSymbol());
         return mapper.toResponse(saved);
     }
 
+    /**
+     * Crea tipos de símbolo en bloque. Con upsert los apiName existentes se actualizan;
+     * sin él se informan como duplicados. Los duplicados se comprueban con una sola consulta
+     * y las inserciones se envían en lotes JDBC. Los elementos inválidos no abortan el resto.
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "bulkSave"})
+    public BulkResponse bulkSave(List<SymbolTypeRequest> requests, boolean upsert) {
+        log.info("Carga masiva de {} tipos de símbolo (upsert: {})", requests != null ? requests.size() : 0, upsert);
+        BulkOperations.checkSize(requests, properties.getBulk().getMaxItems());
+
+        Map<Integer, String> errors = BulkOperations.validate(requests, validator, SymbolTypeRequest::getApiName);
+        List<String> apiNames = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (!errors.containsKey(i)) {
+                apiNames.add(requests.get(i).getApiName());
+            }
+        }
+
+        Map<String, SymbolType> existingEntities = new HashMap<>();
+        Set<String> existingApiNames = new HashSet<>();
+        if (upsert) {
+            BulkOperations.queryInChunks(apiNames, repository::findByApiNameIn)
+                    .forEach(entity -> existingEntities.put(entity.getApiName(), entity));
+        } else {
+            existingApiNames.addAll(BulkOperations.queryInChunks(apiNames, repository::findExistingApiNames));
+        }
+
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        Map<Integer, SymbolType> creates = new LinkedHashMap<>();
+        Map<Integer, SymbolType> updates = new LinkedHashMap<>();
+        List<SymbolType> imageOwners = new ArrayList<>();
+        List<byte[]> images = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            SymbolTypeRequest request = requests.get(i);
+            String apiName = request != null ? request.getApiName() : null;
+            if (errors.containsKey(i)) {
+                results[i] = BulkOperations.failed(i, apiName, errors.get(i));
+                continue;
+            }
+            try {
+                validateImageSize(request);
+                byte[] image = mapper.decodeImage(request);
+                SymbolType existing = existingEntities.get(apiName);
+                if (existing != null) {
+                    mapper.updateEntityFromRequest(existing, request);
+                    addImage(imageOwners, images, existing, image);
+                    updates.put(i, existing);
+                } else if (existingApiNames.contains(apiName)) {
+                    results[i] = BulkOperations.failed(i, apiName,
+                            new DuplicateResourceException("SymbolType", "apiName", apiName).getMessage());
+                } else {
+                    SymbolType entity = mapper.toEntity(request);
+                    addImage(imageOwners, images, entity, image);
+                    creates.put(i, entity);
+                }
+            } catch (IllegalArgumentException | ImageTooLargeException e) {
+                results[i] = BulkOperations.failed(i, apiName, e.getMessage());
+            }
+        }
+
+        // Una sola adquisición por imagen distinta del lote, antes de escribir las filas que la referencian
+        List<SymbolImage> acquired = imageService.acquireAll(images);
+        List<String> releasedImages = new ArrayList<>();
+        for (int k = 0; k < imageOwners.size(); k++) {
+            String previousHash = replaceImage(imageOwners.get(k), acquired.get(k));
+            if (previousHash != null) {
+                releasedImages.add(previousHash);
+            }
+        }
+
+        // Las actualizaciones son entidades gestionadas: se envían antes de limpiar el contexto
+        repository.flush();
+        entityManager.clear();
+        Set<SymbolType> rejected = BulkOperations.insertInBatches(
+                creates.values(), properties.getBulk().getFlushSize(), entityManager, insertRepository::insertSymbolTypes);
+        // Las filas rechazadas no llegan a usar la referencia que se adquirió para su imagen
+        rejected.forEach(entity -> {
+            if (entity.getSymbolImage() != null) {
+                releasedImages.add(entity.getSymbolImage().getImageHash());
+            }
+        });
+        imageService.releaseAll(releasedImages);
+
+        creates.forEach((i, entity) -> results[i] = rejected.contains(entity)
+                ? BulkOperations.failed(i, entity.getApiName(),
+                        new DuplicateResourceException("SymbolType", "apiName", entity.getApiName()).getMessage())
+                : BulkOperations.result(i, entity.getApiName(), BulkItemStatus.CREATED, entity.getIdSymbol()));
+        updates.forEach((i, entity) -> results[i] = BulkOperations.result(
+                i, entity.getApiName(), BulkItemStatus.UPDATED, entity.getIdSymbol()));
+        if (creates.size() > rejected.size() || !updates.isEmpty()) {
+            eventPublisher.publishEvent(SymbolTypeChangedEvent.bulk());
+        }
+
+        log.info("Carga masiva de tipos de símbolo completada: {} creados, {} actualizados",
+                creates.size() - rejected.size(), updates.size());
+        return BulkOperations.toResponse(Arrays.asList(results));
+    }
+
     /**
      * Obtiene un tipo de símbolo por ID
      */
     @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "getById"})
     public SymbolTypeResponse getById(Integer id) {
-        SymbolType entity = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "id", id));
-        return mapper.toResponse(entity);
+        return symbolTypeCache.getById(id, () -> {
+            SymbolType entity = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "id", id));
+            return mapper.toResponse(entity);
+        });
     }
 
     /**
-     * Obtiene todos los tipos de símbolo
+     * Obtiene todos los tipos de símbolo.
+     * Si includeImages es false no se lee la columna de imagen.
      */
     @Transactional(readOnly = true)
-    public List<SymbolTypeResponse> getAll() {
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "list"})
+    public List<SymbolTypeResponse> getAll(boolean includeImages) {
+        if (!includeImages) {
+            if (properties.getSnapshot().isEnabled()) {
+                return symbolTypeSnapshot.get().getItems();
+            }
+            return mapper.toSummaryResponseList(repository.findAllSummaries());
+        }
         List<SymbolType> entities = repository.findAll();
         return mapper.toResponseList(entities);
     }
 
+    /**
+     * Obtiene todos los tipos de símbolo, paginados por cursor si se indica limit o cursor
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "list"})
+    public CursorPage<SymbolTypeResponse> getAll(boolean includeImages, CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            return findPage(null, includeImages, pageRequest);
+        }
+        return CursorPage.unpaged(getAll(includeImages));
+    }
+
+    /**
+     * Resuelve varios tipos de símbolo por ID y/o apiName en una sola llamada, usando la caché
+     * y una consulta IN para los que no están cacheados
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "batch"})
+    public BatchLookupResponse<SymbolTypeResponse> getBatch(BatchLookupRequest request) {
+        return BatchLookup.resolve(request, properties.getBatch().getMaxKeys(), SymbolTypeResponse::getIdSymbol,
+                ids -> symbolTypeCache.getAllById(ids, missing -> BulkOperations.queryInChunks(
+                        List.copyOf(missing), repository::findAllById).stream().map(mapper::toResponse).toList()),
+                apiNames -> symbolTypeCache.getAllByApiName(apiNames, missing -> BulkOperations.queryInChunks(
+                        List.copyOf(missing), repository::findByApiNameIn).stream().map(mapper::toResponse).toList()));
+    }
+
     /**
      * Busca tipo de símbolo por apiName
      */
     @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "getByApiName"})
     public SymbolTypeResponse getByApiName(String apiName) {
-        SymbolType entity = repository.findByApiName(apiName)
-                .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "apiName", apiName));
-        return mapper.toResponse(entity);
+        return symbolTypeCache.getByApiName(apiName, () -> {
+            SymbolType entity = repository.findByApiName(apiName)
+                    .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "apiName", apiName));
+            return mapper.toResponse(entity);
+        });
     }
 
     /**
      * Busca tipos de símbolo por nombre
      */
     @Transactional(readOnly = true)
-    public List<SymbolTypeResponse> searchByName(String symbolName) {
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "search"})
+    public List<SymbolTypeResponse> searchByName(String symbolName, boolean includeImages) {
+        return searchByName(symbolName, includeImages, false);
+    }
+
+    /**
+     * Busca tipos de símbolo por nombre o, con allFields, también por symbolOrigName y apiName.
+     * Con catalog.search.enabled se resuelve con el índice de trigramas sin consultar la tabla.
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "search"})
+    public List<SymbolTypeResponse> searchByName(String symbolName, boolean includeImages, boolean allFields) {
+        if (properties.getSearch().isEnabled()) {
+            List<SymbolTypeResponse> matches = symbolTypeSearchIndex.search(symbolName, allFields);
+            return includeImages ? withImages(matches) : matches;
+        }
+        if (allFields) {
+            KeysetRequest all = new KeysetRequest("idSymbol", false, null, Integer.MAX_VALUE);
+            List<SymbolTypeResponse> summaries = mapper.toSummaryResponseList(
+                    repository.findSummaries(anyNameContains(symbolName), all));
+            return includeImages ? withImages(summaries) : summaries;
+        }
+        if (!includeImages) {
+            return mapper.toSummaryResponseList(repository.findSummariesBySymbolName(symbolName));
+        }
         List<SymbolType> entities = repository.findBySymbolNameContainingIgnoreCase(symbolName);
         return mapper.toResponseList(entities);
     }
 
+    /**
+     * Busca tipos de símbolo por nombre, paginados por cursor si se indica limit o cursor
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "search"})
+    public CursorPage<SymbolTypeResponse> searchByName(String symbolName, boolean includeImages, boolean allFields,
+                                                       CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            return findPage(allFields ? anyNameContains(symbolName) : symbolNameContains(symbolName),
+                    includeImages, pageRequest);
+        }
+        return CursorPage.unpaged(searchByName(symbolName, includeImages, allFields));
+    }
+
     /**
      * Busca tipos de símbolo por tipo
      */
     @Transactional(readOnly = true)
-    public List<SymbolTypeResponse> getByType(String symbolType) {
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "byType"})
+    public List<SymbolTypeResponse> getByType(String symbolType, boolean includeImages) {
+        if (!includeImages) {
+            if (properties.getSnapshot().isEnabled()) {
+                return symbolTypeSnapshot.get().getByType(symbolType);
+            }
+            return mapper.toSummaryResponseList(repository.findSummariesBySymbolType(symbolType));
+        }
         List<SymbolType> entities = repository.findBySymbolType(symbolType);
         return mapper.toResponseList(entities);
     }
 
+    /**
+     * Busca tipos de símbolo por tipo, paginados por cursor si se indica limit o cursor
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "byType"})
+    public CursorPage<SymbolTypeResponse> getByType(String symbolType, boolean includeImages,
+                                                    CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            return findPage(hasSymbolType(symbolType), includeImages, pageRequest);
+        }
+        return CursorPage.unpaged(getByType(symbolType, includeImages));
+    }
+
+    /**
+     * Filtra tipos de símbolo combinando en una sola consulta todos los criterios indicados
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "filter"})
+    public CursorPage<SymbolTypeResponse> filter(SymbolTypeFilter filter, boolean includeImages,
+                                                 CursorPageRequest pageRequest) {
+        Specification<SymbolType> specification = toSpecification(filter);
+        if (pageRequest.isPaged()) {
+            return findPage(specification, includeImages, pageRequest);
+        }
+        KeysetRequest all = new KeysetRequest("idSymbol", false, null, Integer.MAX_VALUE);
+        List<SymbolTypeResponse> summaries = mapper.toSummaryResponseList(repository.findSummaries(specification, all));
+        return CursorPage.unpaged(includeImages ? withImages(summaries) : summaries);
+    }
+
+    /**
+     * Autocompletado: valores de apiName y symbolName que empiezan por el prefijo, sin consultar la base de datos
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "suggest"})
+    public List<SuggestionResponse> suggest(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        CatalogProperties.Search search = properties.getSearch();
+        int size = limit != null ? Math.max(1, Math.min(limit, search.getSuggestMaxLimit()))
+                : search.getSuggestDefaultLimit();
+        return symbolTypeSuggestIndex.suggest(prefix.trim(), size);
+    }
+
     /**
      * Obtiene tipos de símbolo por defecto o asignados
      */
     @Transactional(readOnly = true)
-    public List<SymbolTypeResponse> getAllDefaultOrAssigned() {
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "defaultOrAssigned"})
+    public List<SymbolTypeResponse> getAllDefaultOrAssigned(boolean includeImages) {
+        if (!includeImages) {
+            if (properties.getSnapshot().isEnabled()) {
+                return symbolTypeSnapshot.get().getDefaultOrAssigned();
+            }
+            return mapper.toSummaryResponseList(repository.findAllDefaultOrAssignedSummaries());
+        }
         List<SymbolType> entities = repository.findAllDefaultOrAssigned();
         return mapper.toResponseList(entities);
     }
 
+    /**
+     * Obtiene tipos de símbolo por defecto o asignados, paginados por cursor si se indica limit o cursor
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "defaultOrAssigned"})
+    public CursorPage<SymbolTypeResponse> getAllDefaultOrAssigned(boolean includeImages,
+                                                                  CursorPageRequest pageRequest) {
+        if (pageRequest.isPaged()) {
+            return findPage(isDefaultOrAssigned(), includeImages, pageRequest);
+        }
+        return CursorPage.unpaged(getAllDefaultOrAssigned(includeImages));
+    }
+
     /**
      * Actualiza un tipo de símbolo
      */
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "update"})
     public SymbolTypeResponse update(Integer id, SymbolTypeRequest request) {
-        log.info("Actualizando tipo de símbolo con ID: {}", id);
+        log.debug("Actualizando tipo de símbolo con ID: {}", id);
+        validateImageSize(request);
+        byte[] image = mapper.decodeImage(request);
 
         SymbolType entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "id", id));
 
-        // Validar apiName único si cambió
-        if (!entity.getApiName().equals(request.getApiName()) && 
-            repository.existsByApiName(request.getApiName())) {
-            throw new DuplicateResourceException("SymbolType", "apiName", request.getApiName());
-        }
-
+        String previousApiName = entity.getApiName();
         mapper.updateEntityFromRequest(entity, request);
-        SymbolType updated = repository.save(entity);
+        String previousHash = null;
+        if (image != null) {
+            // La imagen anterior se obtiene al cambiar la referencia, no de la entidad leída antes
+            SymbolImage symbolImage = imageService.acquire(image);
+            previousHash = imageService.assign(id, symbolImage);
+            entity.setSymbolImage(symbolImage);
+        }
+        SymbolType updated = saveAndFlush(entity, request.getApiName());
+        if (previousHash != null) {
+            imageService.release(previousHash);
+        }
+        eventPublisher.publishEvent(SymbolTypeChangedEvent.updated(previousApiName, mapper.toSummaryResponse(updated)));
         
-        log.info("Tipo de símbolo actualizado exitosamente con ID: {}", id);
+        log.debug("Tipo de símbolo actualizado exitosamente con ID: {}", id);
         return mapper.toResponse(updated);
     }
 
     /**
      * Elimina un tipo de símbolo
      */
+    @Timed(value = OPERATION_TIMER, extraTags = {ENTITY, SYMBOL_TYPE, OPERATION, "delete"})
     public void delete(Integer id) {
-        log.info("Eliminando tipo de símbolo con ID: {}", id);
-        
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("SymbolType", "id", id);
+        log.debug("Eliminando tipo de símbolo con ID: {}", id);
+
+        // Una sola sentencia borra la fila y devuelve la imagen que referenciaba
+        SymbolImageJdbcRepository.ImageReference deleted = imageJdbcRepository.deleteSymbolType(id)
+                .orElseThrow(() -> new ResourceNotFoundException("SymbolType", "id", id));
+        if (deleted.imageHash() != null) {
+            imageService.release(deleted.imageHash());
         }
-        
-        repository.deleteById(id);
-        log.info("Tipo de símbolo eliminado exitosamente con ID: {}", id);
+        eventPublisher.publishEvent(SymbolTypeChangedEvent.deleted(id, deleted.apiName()));
+        log.debug("Tipo de símbolo eliminado exitosamente con ID: {}", id);
+    }
+
+    /**
+     * Lee una página keyset de proyecciones resumidas y, si se pide, añade las imágenes
+     */
+    private CursorPage<SymbolTypeResponse> findPage(Specification<SymbolType> filter, boolean includeImages,
+                                                    CursorPageRequest pageRequest) {
+        CatalogSortField sort = CatalogSortField.fromParam(pageRequest.getSort());
+        int limit = CursorPages.resolveLimit(pageRequest, properties.getPagination());
+        KeysetRequest keyset = CursorPages.keysetRequest(pageRequest, sort, SORT_ATTRIBUTES.get(sort), limit);
+
+        List<SymbolTypeResponse> rows = mapper.toSummaryResponseList(repository.findSummaries(filter, keyset));
+        Long total = pageRequest.isIncludeTotal() ? repository.countMatching(filter) : null;
+        CursorPage<SymbolTypeResponse> page = CursorPages.toPage(rows, limit, pageRequest, sort,
+                SymbolTypeResponse::getIdSymbol, response -> sortValue(sort, response), total);
+
+        if (!includeImages) {
+            return page;
+        }
+        return new CursorPage<>(withImages(page.items()), page.page());
     }
-}
 
+    private static String sortValue(CatalogSortField sort, SymbolTypeResponse response) {
+        return switch (sort) {
+            case ID -> null;
+            case API_NAME -> response.getApiName();
+            case NAME -> response.getSymbolName();
+        };
+    }
 
+    /**
+     * Combina con AND los criterios informados del filtro; null si no hay ninguno
+     */
+    private static Specification<SymbolType> toSpecification(SymbolTypeFilter filter) {
+        List<Specification<SymbolType>> criteria = new ArrayList<>();
+        if (filter.getSymbolType() != null && !filter.getSymbolType().isBlank()) {
+            criteria.add(hasSymbolType(filter.getSymbolType().trim()));
+        }
+        if (filter.getIsDefault() != null) {
+            criteria.add(isDefault(filter.getIsDefault()));
+        }
+        if (filter.getIsAssigned() != null) {
+            criteria.add(isAssigned(filter.getIsAssigned()));
+        }
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            criteria.add(symbolNameContains(filter.getName().trim()));
+        }
+        if (filter.getCreatedFrom() != null || filter.getCreatedTo() != null) {
+            criteria.add(dateBetween("createDate", filter.getCreatedFrom(), filter.getCreatedTo()));
+        }
+        if (filter.getUpdatedFrom() != null || filter.getUpdatedTo() != null) {
+            criteria.add(dateBetween("lastUpdate", filter.getUpdatedFrom(), filter.getUpdatedTo()));
+        }
+        return criteria.isEmpty() ? null : Specification.allOf(criteria);
+    }
+
+    /**
+     * Escribe la entidad en una sola sentencia; la restricción UNIQUE de apiname detecta los duplicados
+     * sin consulta previa y sin carrera entre comprobación e inserción
+     */
+    private SymbolType saveAndFlush(SymbolType entity, String apiName) {
+        try {
+            return repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolations.isUniqueViolation(e)) {
+                throw new DuplicateResourceException("SymbolType", "apiName", apiName);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Asocia la imagen decodificada de la petición, si la hay, añadiéndole una referencia.
+     *
+     * @return hash de la imagen que deja de usar la entidad; se libera después de escribirla
+     */
+    private String replaceImage(SymbolType entity, byte[] image) {
+        return image != null ? replaceImage(entity, imageService.acquire(image)) : null;
+    }
+
+    /**
+     * Asocia una imagen ya adquirida
+     *
+     * @return hash de la imagen que deja de usar la entidad; se libera después de escribirla
+     */
+    private static String replaceImage(SymbolType entity, SymbolImage image) {
+        SymbolImage previous = entity.getSymbolImage();
+        entity.setSymbolImage(image);
+        return previous != null ? previous.getImageHash() : null;
+    }
+
+    /**
+     * Anota la imagen decodificada de una fila del lote, si la hay, para adquirirla junto con las demás
+     */
+    private static void addImage(List<SymbolType> owners, List<byte[]> images, SymbolType entity, byte[] image) {
+        if (image != null) {
+            owners.add(entity);
+            images.add(image);
+        }
+    }
+
+    /**
+     * Sustituye los resúmenes por respuestas completas (con imagen), manteniendo el orden
+     */
+    private List<SymbolTypeResponse> withImages(List<SymbolTypeResponse> summaries) {
+        List<Integer> ids = summaries.stream().map(SymbolTypeResponse::getIdSymbol).toList();
+        Map<Integer, SymbolType> entities = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(SymbolType::getIdSymbol, Function.identity()));
+        return ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Rechaza imágenes Base64 que superan el tamaño máximo antes de decodificarlas
+     */
+    private void validateImageSize(SymbolTypeRequest request) {
+        String base64 = request.getSymbolImageBase64();
+        long maxBytes = properties.getImage().getMaxSize().toBytes();
+        if (base64 != null && (long) base64.length() / 4 * 3 > maxBytes) {
+            throw new ImageTooLargeException(maxBytes);
+        }
+    }
+}
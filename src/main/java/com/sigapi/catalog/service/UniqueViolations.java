@@ -0,0 +1,31 @@
+package com.sigapi.catalog.service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * Detección de violaciones de restricciones UNIQUE en las escrituras
+ */
+final class UniqueViolations {
+
+    /**
+     * SQLSTATE estándar de unique_violation (PostgreSQL y H2)
+     */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueViolations() {
+    }
+
+    /**
+     * Indica si la excepción la provocó una clave duplicada y no otra restricción (NOT NULL, FK...)
+     */
+    static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
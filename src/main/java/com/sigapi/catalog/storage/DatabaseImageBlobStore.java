@@ -0,0 +1,62 @@
+package com.sigapi.catalog.storage;
+
+import com.sigapi.catalog.entity.SymbolImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Almacén por defecto: el contenido se guarda en la columna content de sigapisymbolimage.
+ * Al añadir una imagen nueva el contenido se inserta con la fila, así que put solo se usa al migrar.
+ */
+public class DatabaseImageBlobStore implements ImageBlobStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateSql;
+    private final String selectSql;
+    private final String clearSql;
+
+    /**
+     * @param table tabla sigapisymbolimage, calificada con el schema si lo hay
+     */
+    public DatabaseImageBlobStore(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateSql = "UPDATE " + table + " SET content = ? WHERE imagehash = ? AND content IS NULL";
+        this.selectSql = "SELECT content FROM " + table + " WHERE imagehash = ? AND content IS NOT NULL";
+        this.clearSql = "UPDATE " + table + " SET content = NULL WHERE imagehash = ?";
+    }
+
+    @Override
+    public ImageStorageType type() {
+        return ImageStorageType.DATABASE;
+    }
+
+    @Override
+    public boolean isInline() {
+        return true;
+    }
+
+    @Override
+    public void put(String hash, byte[] content) {
+        jdbcTemplate.update(updateSql, content, hash);
+    }
+
+    @Override
+    public byte[] read(String hash) {
+        List<byte[]> rows = jdbcTemplate.query(selectSql, (rs, rowNum) -> rs.getBytes(1), hash);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * El contenido ya se ha leído con la entidad: no se vuelve a consultar
+     */
+    @Override
+    public byte[] read(SymbolImage image) {
+        return image.getContent() != null ? image.getContent() : read(image.getImageHash());
+    }
+
+    @Override
+    public void delete(String hash) {
+        jdbcTemplate.update(clearSql, hash);
+    }
+}
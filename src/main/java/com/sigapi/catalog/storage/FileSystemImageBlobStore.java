@@ -0,0 +1,132 @@
+package com.sigapi.catalog.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Almacén en un directorio local: un fichero por imagen, con el hash como nombre.
+ *
+ * Los ficheros se reparten en subdirectorios por los dos primeros caracteres del hash
+ * (directorio/ab/abcd...) y se escriben en un temporal que se renombra de forma atómica,
+ * así que un lector nunca ve un fichero a medias. Los ficheros se pueden servir con sendfile.
+ * put y deleteIf se excluyen por hash dentro de la instancia.
+ */
+@Slf4j
+public class FileSystemImageBlobStore implements ImageBlobStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path directory;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public FileSystemImageBlobStore(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    @Override
+    public ImageStorageType type() {
+        return ImageStorageType.FILESYSTEM;
+    }
+
+    @Override
+    public void put(String hash, byte[] content) {
+        Path target = pathOf(hash);
+        synchronized (lockOf(hash)) {
+            write(hash, target, content);
+        }
+    }
+
+    private void write(String hash, Path target, byte[] content) {
+        if (Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try {
+                Files.write(temp, content);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar la imagen " + hash + " en " + directory, e);
+        }
+        log.debug("Imagen {} guardada en {} ({} bytes)", hash, target, content.length);
+    }
+
+    @Override
+    public byte[] read(String hash) {
+        try {
+            return Files.readAllBytes(pathOf(hash));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la imagen " + hash, e);
+        }
+    }
+
+    /**
+     * Devuelve null también si el hash no tiene el formato esperado, sin tocar el disco
+     */
+    @Override
+    public Path file(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return null;
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    @Override
+    public void delete(String hash) {
+        try {
+            Files.deleteIfExists(pathOf(hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo eliminar la imagen " + hash, e);
+        }
+    }
+
+    @Override
+    public boolean deleteIf(String hash, BooleanSupplier condition) {
+        Path path = pathOf(hash);
+        synchronized (lockOf(hash)) {
+            if (!condition.getAsBoolean()) {
+                return false;
+            }
+            try {
+                return Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo eliminar la imagen " + hash, e);
+            }
+        }
+    }
+
+    /**
+     * Bloqueo del hash, ya validado por pathOf; los hashes se reparten por sus dos primeros caracteres
+     */
+    private Object lockOf(String hash) {
+        return locks[Integer.parseInt(hash, 0, 2, 16) % LOCK_STRIPES];
+    }
+
+    /**
+     * Valida el hash antes de usarlo como nombre de fichero, para que no pueda salir del directorio
+     */
+    private Path pathOf(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Hash de imagen no válido: '" + hash + "'");
+        }
+        return directory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+}
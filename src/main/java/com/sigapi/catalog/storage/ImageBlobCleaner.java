@@ -0,0 +1,38 @@
+package com.sigapi.catalog.storage;
+
+import com.sigapi.catalog.event.SymbolImageReleasedEvent;
+import com.sigapi.catalog.repository.SymbolImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Borra del almacén el contenido de las imágenes que se han quedado sin referencias.
+ *
+ * Se ejecuta tras el commit, de modo que un rollback no deja filas apuntando a ficheros borrados.
+ * Una transacción que vuelve a guardar la misma imagen a la vez puede no haber escrito el fichero
+ * (ya existía) ni haber confirmado aún su fila: por eso SymbolImageService lo repone tras su commit,
+ * y la comprobación de la fila y el borrado se hacen sin que esa reposición pueda intercalarse.
+ * El almacén en base de datos no necesita limpieza: el contenido se elimina con la fila.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageBlobCleaner {
+
+    private final ImageBlobStore imageBlobStore;
+    private final SymbolImageRepository imageRepository;
+
+    @TransactionalEventListener
+    public void onImageReleased(SymbolImageReleasedEvent event) {
+        if (imageBlobStore.isInline()) {
+            return;
+        }
+        // Otra transacción puede haber vuelto a guardar la misma imagen después del commit
+        if (!imageBlobStore.deleteIf(event.imageHash(), () -> !imageRepository.existsById(event.imageHash()))) {
+            return;
+        }
+        log.debug("Contenido de la imagen {} eliminado del almacén {}", event.imageHash(), imageBlobStore.type());
+    }
+}
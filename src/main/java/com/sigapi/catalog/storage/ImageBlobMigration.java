@@ -0,0 +1,79 @@
+package com.sigapi.catalog.storage;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.repository.SymbolImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Comando de migración del contenido de las imágenes entre almacenes.
+ *
+ * Se activa arrancando con catalog.image.storage.migrate-from: mueve cada imagen de ese almacén al
+ * configurado en catalog.image.storage.type y termina la aplicación. Cada imagen se escribe en el destino
+ * antes de borrarla del origen, así que el proceso se puede interrumpir y relanzar sin perder contenido.
+ * Con esta propiedad la aplicación arranca sin servidor web (ImageBlobMigrationEnvironment).
+ */
+@Component
+@ConditionalOnProperty(prefix = "catalog.image.storage", name = "migrate-from")
+@RequiredArgsConstructor
+@Slf4j
+public class ImageBlobMigration implements ApplicationRunner {
+
+    private static final int PROGRESS_INTERVAL = 500;
+
+    private final CatalogProperties properties;
+    private final SymbolImageRepository imageRepository;
+    private final DatabaseImageBlobStore databaseImageBlobStore;
+    private final FileSystemImageBlobStore fileSystemImageBlobStore;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        CatalogProperties.Image.Storage storage = properties.getImage().getStorage();
+        ImageStorageType from = storage.getMigrateFrom();
+        ImageStorageType to = storage.getType();
+        if (from == to) {
+            throw new IllegalStateException("El almacén de origen y el de destino son el mismo: " + from);
+        }
+        ImageBlobStore source = storeOf(from);
+        ImageBlobStore target = storeOf(to);
+
+        List<String> hashes = imageRepository.findAllHashes();
+        log.info("Migrando {} imágenes de {} a {}", hashes.size(), from, to);
+        int moved = 0;
+        int missing = 0;
+        for (String hash : hashes) {
+            byte[] content = source.read(hash);
+            if (content == null) {
+                // Ya migrada en una ejecución anterior, o sin contenido en el origen
+                missing++;
+                continue;
+            }
+            target.put(hash, content);
+            source.delete(hash);
+            if (++moved % PROGRESS_INTERVAL == 0) {
+                log.info("Migración de imágenes: {}/{}", moved, hashes.size());
+            }
+        }
+        log.info("Migración de imágenes de {} a {} completada: {} movidas, {} sin contenido en el origen",
+                from, to, moved, missing);
+
+        // Cierra el contexto (tareas programadas y pool de conexiones); la JVM termina al volver de main
+        SpringApplication.exit(context);
+    }
+
+    private ImageBlobStore storeOf(ImageStorageType type) {
+        return switch (type) {
+            case DATABASE -> databaseImageBlobStore;
+            case FILESYSTEM -> fileSystemImageBlobStore;
+        };
+    }
+}
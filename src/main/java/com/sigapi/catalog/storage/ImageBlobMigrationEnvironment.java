@@ -0,0 +1,29 @@
+package com.sigapi.catalog.storage;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Arranca sin servidor web cuando se lanza la migración de imágenes entre almacenes (ImageBlobMigration).
+ * Así ninguna petición se atiende con el contenido a medio mover, y la migración no compite con el puerto
+ * de una instancia que ya esté sirviendo.
+ */
+public class ImageBlobMigrationEnvironment implements EnvironmentPostProcessor {
+
+    static final String MIGRATE_FROM = "catalog.image.storage.migrate-from";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!Binder.get(environment).bind(MIGRATE_FROM, String.class).isBound()) {
+            return;
+        }
+        environment.getPropertySources().addFirst(new MapPropertySource("imageBlobMigration",
+                Map.of("spring.main.web-application-type", WebApplicationType.NONE.name())));
+    }
+}
@@ -0,0 +1,72 @@
+package com.sigapi.catalog.storage;
+
+import com.sigapi.catalog.entity.SymbolImage;
+
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Almacén del contenido de las imágenes de símbolo, direccionado por su hash SHA-256.
+ *
+ * Los metadatos y el contador de referencias siempre están en sigapisymbolimage;
+ * el almacén solo guarda los bytes. Como el contenido de un hash no cambia, guardar es idempotente.
+ */
+public interface ImageBlobStore {
+
+    /**
+     * Tipo de almacén (catalog.image.storage.type)
+     */
+    ImageStorageType type();
+
+    /**
+     * Indica si el contenido vive en la propia fila de sigapisymbolimage,
+     * de modo que se inserta y se elimina junto con ella
+     */
+    default boolean isInline() {
+        return false;
+    }
+
+    /**
+     * Guarda el contenido de la imagen; si ya está guardado no hace nada
+     */
+    void put(String hash, byte[] content);
+
+    /**
+     * Lee el contenido, o null si no está en este almacén
+     */
+    byte[] read(String hash);
+
+    /**
+     * Lee el contenido de una imagen ya cargada desde la base de datos
+     */
+    default byte[] read(SymbolImage image) {
+        return read(image.getImageHash());
+    }
+
+    /**
+     * Fichero con el contenido, para enviarlo sin copiarlo al heap, o null si el almacén no usa ficheros
+     * o la imagen no está guardada
+     */
+    default Path file(String hash) {
+        return null;
+    }
+
+    /**
+     * Elimina el contenido; no hace nada si no existe
+     */
+    void delete(String hash);
+
+    /**
+     * Elimina el contenido si se cumple la condición. Los almacenes con contenido fuera de la base de datos
+     * evalúan la condición y borran sin que un put del mismo hash pueda intercalarse.
+     *
+     * @return true si se ha eliminado
+     */
+    default boolean deleteIf(String hash, BooleanSupplier condition) {
+        if (!condition.getAsBoolean()) {
+            return false;
+        }
+        delete(hash);
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sigapi.catalog.storage;
+
+/**
+ * Almacenes disponibles para el contenido de las imágenes de símbolo
+ */
+public enum ImageStorageType {
+    /**
+     * Columna content de sigapisymbolimage
+     */
+    DATABASE,
+    /**
+     * Ficheros en un directorio local, uno por hash
+     */
+    FILESYSTEM
+}
@@ -0,0 +1,67 @@
+package com.sigapi.catalog.storage;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprobación al arrancar de la migración de la antigua columna symbolimage a sigapisymbolimage.
+ *
+ * Hibernate (ddl-auto=update) crea la tabla de imágenes y la columna imagehash, pero no mueve los datos:
+ * sin migrar, los tipos de símbolo existentes se servirían sin imagen. Mientras la columna exista el arranque
+ * falla, salvo con catalog.image.migrate-legacy-column=true, que ejecuta la migración en una transacción.
+ * Se ejecuta después de que Hibernate actualice el esquema y antes de atender peticiones.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class SymbolImageColumnMigration implements InitializingBean {
+
+    static final String SCRIPT = "db/migrate-symbolimage-column.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogProperties properties;
+    private final String schema;
+
+    public SymbolImageColumnMigration(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CatalogProperties properties,
+            @Value("${spring.jpa.properties.hibernate.default_schema:aris71adm}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.schema = schema;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+        if (!properties.getImage().isMigrateLegacyColumn()) {
+            throw new IllegalStateException("La tabla " + schema + ".sigapisymboltype aún tiene la columna symbolimage:"
+                    + " ejecute " + SCRIPT + " o arranque una vez con catalog.image.migrate-legacy-column=true");
+        }
+        log.info("Migrando las imágenes de la columna symbolimage a sigapisymbolimage");
+        transactionTemplate.executeWithoutResult(status ->
+                new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(jdbcTemplate.getDataSource()));
+        log.info("Migración de la columna symbolimage completada");
+    }
+
+    private boolean hasLegacyColumn() {
+        Integer columns = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns"
+                + " WHERE LOWER(table_schema) = LOWER(?) AND LOWER(table_name) = 'sigapisymboltype'"
+                + " AND LOWER(column_name) = 'symbolimage'", Integer.class, schema);
+        return columns != null && columns > 0;
+    }
+}
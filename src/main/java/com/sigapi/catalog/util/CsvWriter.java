@@ -0,0 +1,49 @@
+package com.sigapi.catalog.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escribe filas CSV (RFC 4180). Los valores con separador, comillas o saltos de línea se entrecomillan.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+    private final char delimiter;
+
+    public CsvWriter(Writer writer, char delimiter) {
+        this.writer = writer;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Escribe una fila; los valores null se escriben como celdas vacías
+     */
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(delimiter);
+            }
+            if (values[i] != null) {
+                writeValue(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(String value) throws IOException {
+        boolean quote = value.indexOf(delimiter) >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
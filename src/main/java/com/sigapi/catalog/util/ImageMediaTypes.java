@@ -0,0 +1,71 @@
+package com.sigapi.catalog.util;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utilidad para detectar el tipo de contenido de una imagen a partir de sus primeros bytes
+ */
+public final class ImageMediaTypes {
+
+    public static final MediaType IMAGE_BMP = MediaType.parseMediaType("image/bmp");
+    public static final MediaType IMAGE_WEBP = MediaType.parseMediaType("image/webp");
+    public static final MediaType IMAGE_SVG = MediaType.parseMediaType("image/svg+xml");
+
+    private ImageMediaTypes() {
+    }
+
+    /**
+     * Detecta el tipo de imagen por su firma. Devuelve application/octet-stream si no se reconoce.
+     */
+    public static MediaType detect(byte[] header) {
+        if (header == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        if (startsWith(header, 0x89, 'P', 'N', 'G')) {
+            return MediaType.IMAGE_PNG;
+        }
+        if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (startsWith(header, 'G', 'I', 'F', '8')) {
+            return MediaType.IMAGE_GIF;
+        }
+        if (startsWith(header, 'B', 'M')) {
+            return IMAGE_BMP;
+        }
+        if (startsWith(header, 'R', 'I', 'F', 'F') && header.length >= 12
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return IMAGE_WEBP;
+        }
+        if (isSvg(header)) {
+            return IMAGE_SVG;
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    /**
+     * Indica si los bytes corresponden a un formato de imagen reconocido
+     */
+    public static boolean isImage(byte[] header) {
+        return !MediaType.APPLICATION_OCTET_STREAM.equals(detect(header));
+    }
+
+    private static boolean startsWith(byte[] data, int... signature) {
+        if (data.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((data[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSvg(byte[] data) {
+        String start = new String(data, 0, Math.min(data.length, 256), StandardCharsets.UTF_8).stripLeading();
+        return start.startsWith("<svg") || (start.startsWith("<?xml") && start.contains("<svg"));
+    }
+}
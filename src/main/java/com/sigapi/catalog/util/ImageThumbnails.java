@@ -0,0 +1,98 @@
+package com.sigapi.catalog.util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Genera miniaturas PNG con javax.imageio (Spring Boot arranca con java.awt.headless=true).
+ *
+ * La reducción se hace en pasos sucesivos a la mitad con interpolación bilineal, que conserva mejor
+ * los trazos finos de los símbolos que un único escalado a 16 px.
+ */
+public final class ImageThumbnails {
+
+    /**
+     * Píxeles máximos de la imagen de origen que se aceptan decodificar (protección frente a imágenes
+     * pequeñas en bytes pero enormes en dimensiones)
+     */
+    private static final long MAX_SOURCE_PIXELS = 16_000_000L;
+
+    private ImageThumbnails() {
+    }
+
+    /**
+     * Reduce la imagen para que quepa en un cuadrado de size x size conservando la proporción.
+     *
+     * @return PNG redimensionado, o null si el formato no se puede decodificar (SVG, WebP...),
+     * la imagen ya cabe en ese tamaño o es demasiado grande para decodificarla
+     */
+    public static byte[] resize(byte[] source, int size) {
+        BufferedImage image = read(source);
+        if (image == null || (image.getWidth() <= size && image.getHeight() <= size)) {
+            return null;
+        }
+
+        double scale = Math.min((double) size / image.getWidth(), (double) size / image.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = scale(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(current, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static BufferedImage read(byte[] source) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Imagen corrupta o no soportada por el decodificador: se sirve la original
+            return null;
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
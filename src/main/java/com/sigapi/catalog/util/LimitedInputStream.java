@@ -0,0 +1,72 @@
+package com.sigapi.catalog.util;
+
+import com.sigapi.catalog.exception.ImageTooLargeException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongFunction;
+
+/**
+ * InputStream que corta la lectura cuando se supera un número máximo de bytes
+ */
+public class LimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private final LongFunction<? extends RuntimeException> onLimitExceeded;
+    private long count;
+
+    public LimitedInputStream(InputStream in, long maxBytes) {
+        this(in, maxBytes, ImageTooLargeException::new);
+    }
+
+    /**
+     * @param onLimitExceeded crea la excepción lanzada al superar el límite a partir de maxBytes
+     */
+    public LimitedInputStream(InputStream in, long maxBytes, LongFunction<? extends RuntimeException> onLimitExceeded) {
+        super(in);
+        this.maxBytes = maxBytes;
+        this.onLimitExceeded = onLimitExceeded;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            checkLimit(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            checkLimit(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        checkLimit(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private void checkLimit(long read) {
+        count += read;
+        if (count > maxBytes) {
+            throw onLimitExceeded.apply(maxBytes);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sigapi.catalog.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.file.Path;
+
+/**
+ * Utilidad para delegar en Tomcat el envío de un fichero con sendfile (FileChannel.transferTo):
+ * el contenido pasa del disco al socket sin copiarse al heap. La respuesta no debe llevar cuerpo;
+ * Tomcat envía el fichero cuando la petición termina.
+ */
+public final class Sendfile {
+
+    public static final String SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    public static final String FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    public static final String START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    public static final String END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private Sendfile() {
+    }
+
+    /**
+     * Indica si el conector admite sendfile para esta petición. Las peticiones Range se dejan a Spring MVC,
+     * que es quien resuelve las respuestas 206.
+     */
+    public static boolean isSupported(HttpServletRequest request) {
+        return Boolean.TRUE.equals(request.getAttribute(SUPPORT_ATTRIBUTE))
+                && request.getHeader(HttpHeaders.RANGE) == null;
+    }
+
+    /**
+     * Pide a Tomcat que envíe el fichero completo como cuerpo de la respuesta
+     */
+    public static void prepare(HttpServletRequest request, Path file, long length) {
+        request.setAttribute(FILENAME_ATTRIBUTE, file.toAbsolutePath().toString());
+        request.setAttribute(START_ATTRIBUTE, 0L);
+        request.setAttribute(END_ATTRIBUTE, length);
+    }
+
+    /**
+     * Bytes que Tomcat enviará con sendfile en esta petición, o 0 si no se usa
+     */
+    public static long length(HttpServletRequest request) {
+        if (request.getAttribute(FILENAME_ATTRIBUTE) == null) {
+            return 0;
+        }
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        Object end = request.getAttribute(END_ATTRIBUTE);
+        return start instanceof Long s && end instanceof Long e ? e - s : 0;
+    }
+}
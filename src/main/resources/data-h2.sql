@@ -0,0 +1,15 @@
+-- Datos de ejemplo del perfil dev (H2), los mismos que data.sql.
+-- Los IDs salen de la secuencia de la entidad para no chocar con los que asigna Hibernate.
+
+INSERT INTO aris71adm.sigapisymboltype (idsymbol, apiname, symbolname, symboltype, symbolorigname, createdate, isdefault, isassigned)
+VALUES
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_FUNC_DEFAULT', 'Función (rectángulo)', 'FUNCTION', 'Function (rectangle)', CURRENT_DATE, 1, 1),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_FUNC_ROUNDED', 'Función (redondeada)', 'FUNCTION', 'Function (rounded)', CURRENT_DATE, 1, 0),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_EVENT_START', 'Evento inicio', 'EVENT', 'Start event', CURRENT_DATE, 1, 1),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_EVENT_END', 'Evento fin', 'EVENT', 'End event', CURRENT_DATE, 1, 1),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_EVENT_INTERMEDIATE', 'Evento intermedio', 'EVENT', 'Intermediate event', CURRENT_DATE, 1, 0),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_DECISION', 'Decisión (rombo)', 'DECISION', 'Decision (diamond)', CURRENT_DATE, 1, 1),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_ORG_UNIT', 'Unidad organizativa', 'ORGANIZATIONAL', 'Organizational unit', CURRENT_DATE, 1, 0),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_DATA_OBJECT', 'Objeto de datos', 'DATA', 'Data object', CURRENT_DATE, 1, 0),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_DOCUMENT', 'Documento', 'DATA', 'Document', CURRENT_DATE, 1, 0),
+    (NEXT VALUE FOR aris71adm.sigapisymboltype_idsymbol_seq, 'SYM_PROCESS', 'Proceso', 'PROCESS', 'Process', CURRENT_DATE, 1, 1);
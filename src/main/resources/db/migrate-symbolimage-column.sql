@@ -0,0 +1,36 @@
+-- Migración de la antigua columna symbolimage (una imagen por fila) a sigapisymbolimage (una fila por imagen distinta).
+-- Debe ejecutarse una vez, con la versión nueva ya desplegada en el esquema (tabla sigapisymbolimage
+-- y columna imagehash creadas por schema.sql o por Hibernate), antes de servir tráfico:
+--
+--   psql -v ON_ERROR_STOP=1 --single-transaction -f src/main/resources/db/migrate-symbolimage-column.sql
+--
+-- o arrancando una vez con catalog.image.migrate-legacy-column=true (SymbolImageColumnMigration).
+-- Mientras la columna exista la aplicación no arranca, para no servir los símbolos sin su imagen.
+-- Es repetible si se interrumpe: solo la última sentencia elimina la columna. sha256() requiere PostgreSQL 11.
+
+ALTER TABLE aris71adm.sigapisymboltype ADD COLUMN IF NOT EXISTS imagehash VARCHAR(64);
+
+UPDATE aris71adm.sigapisymboltype SET imagehash = encode(sha256(symbolimage), 'hex')
+    WHERE symbolimage IS NOT NULL AND imagehash IS NULL;
+
+-- El tipo de contenido se detecta por la firma, como en ImageMediaTypes
+INSERT INTO aris71adm.sigapisymbolimage (imagehash, content, mediatype, refcount, createdate)
+    SELECT DISTINCT ON (imagehash) imagehash, symbolimage,
+           CASE
+               WHEN substring(symbolimage FROM 1 FOR 4) = '\x89504e47'::bytea THEN 'image/png'
+               WHEN substring(symbolimage FROM 1 FOR 3) = '\xffd8ff'::bytea THEN 'image/jpeg'
+               WHEN substring(symbolimage FROM 1 FOR 4) = '\x47494638'::bytea THEN 'image/gif'
+               WHEN substring(symbolimage FROM 1 FOR 2) = '\x424d'::bytea THEN 'image/bmp'
+               WHEN substring(symbolimage FROM 9 FOR 4) = '\x57454250'::bytea THEN 'image/webp'
+               WHEN position('\x3c737667'::bytea IN substring(symbolimage FROM 1 FOR 512)) > 0
+                   THEN 'image/svg+xml'
+               ELSE 'application/octet-stream'
+           END,
+           0, CURRENT_DATE
+    FROM aris71adm.sigapisymboltype WHERE imagehash IS NOT NULL AND symbolimage IS NOT NULL
+    ON CONFLICT (imagehash) DO NOTHING;
+
+UPDATE aris71adm.sigapisymbolimage i
+    SET refcount = (SELECT COUNT(*) FROM aris71adm.sigapisymboltype s WHERE s.imagehash = i.imagehash);
+
+ALTER TABLE aris71adm.sigapisymboltype DROP COLUMN symbolimage;
@@ -0,0 +1,15 @@
+-- Índices del perfil dev (H2). Las tablas las crea Hibernate; este script se ejecuta después.
+-- Equivalen a los de schema.sql salvo los parciales y los GIN de trigramas, que H2 no soporta.
+
+CREATE INDEX IF NOT EXISTS idx_symboltype_symboltype ON aris71adm.sigapisymboltype(symboltype);
+CREATE INDEX IF NOT EXISTS idx_symboltype_imagehash ON aris71adm.sigapisymboltype(imagehash);
+CREATE INDEX IF NOT EXISTS idx_symboltype_type_id ON aris71adm.sigapisymboltype(symboltype, idsymbol);
+CREATE INDEX IF NOT EXISTS idx_symboltype_type_createdate ON aris71adm.sigapisymboltype(symboltype, createdate);
+CREATE INDEX IF NOT EXISTS idx_symboltype_type_lastupdate ON aris71adm.sigapisymboltype(symboltype, lastupdate);
+CREATE INDEX IF NOT EXISTS idx_symboltype_createdate ON aris71adm.sigapisymboltype(createdate, idsymbol);
+CREATE INDEX IF NOT EXISTS idx_symboltype_lastupdate ON aris71adm.sigapisymboltype(lastupdate, idsymbol);
+CREATE INDEX IF NOT EXISTS idx_symboltype_symbolname_id ON aris71adm.sigapisymboltype(symbolname, idsymbol);
+
+CREATE INDEX IF NOT EXISTS idx_objecttype_createdate ON aris71adm.sigapiobjecttype(createdate, idobject);
+CREATE INDEX IF NOT EXISTS idx_objecttype_lastupdate ON aris71adm.sigapiobjecttype(lastupdate, idobject);
+CREATE INDEX IF NOT EXISTS idx_objecttype_objectname_id ON aris71adm.sigapiobjecttype(objectname, idobject);
@@ -13,7 +13,17 @@ CREATE TABLE IF NOT EXISTS aris71adm.sigapisymboltype (
     isdefault INTEGER DEFAULT 0,
     isassigned INTEGER DEFAULT 0,
     lastupdate DATE,
-    symbolimage BYTEA
+    imagehash VARCHAR(64)
+);
+
+-- Tabla: sigapisymbolimage
+-- Imágenes de símbolo direccionadas por contenido: una fila por imagen distinta, compartida por los símbolos
+CREATE TABLE IF NOT EXISTS aris71adm.sigapisymbolimage (
+    imagehash VARCHAR(64) PRIMARY KEY,
+    content BYTEA,
+    mediatype VARCHAR(100) NOT NULL,
+    refcount INTEGER NOT NULL,
+    createdate DATE
 );
 
 COMMENT ON TABLE aris71adm.sigapisymboltype IS 'Catálogo de tipos de símbolos de ARIS';
@@ -22,10 +32,61 @@ COMMENT ON COLUMN aris71adm.sigapisymboltype.apiname IS 'Nombre técnico de API
 COMMENT ON COLUMN aris71adm.sigapisymboltype.symbolname IS 'Nombre del símbolo';
 COMMENT ON COLUMN aris71adm.sigapisymboltype.symboltype IS 'Clasificación del símbolo (FUNCTION, EVENT, etc.)';
 COMMENT ON COLUMN aris71adm.sigapisymboltype.symbolorigname IS 'Nombre original del símbolo (inglés)';
-COMMENT ON COLUMN aris71adm.sigapisymboltype.symbolimage IS 'Imagen del símbolo en formato binario';
+COMMENT ON COLUMN aris71adm.sigapisymboltype.imagehash IS 'SHA-256 de la imagen del símbolo (sigapisymbolimage)';
+
+COMMENT ON TABLE aris71adm.sigapisymbolimage IS 'Imágenes de símbolo deduplicadas por contenido';
+COMMENT ON COLUMN aris71adm.sigapisymbolimage.imagehash IS 'SHA-256 del contenido en hexadecimal (también ETag)';
+COMMENT ON COLUMN aris71adm.sigapisymbolimage.content IS 'Contenido de la imagen; NULL si está en el almacén de ficheros';
+COMMENT ON COLUMN aris71adm.sigapisymbolimage.refcount IS 'Número de tipos de símbolo que referencian la imagen';
+
+-- Las tablas con la antigua columna symbolimage se migran aparte con db/migrate-symbolimage-column.sql
+-- (ver README): la aplicación no arranca mientras la columna exista.
+
+ALTER TABLE aris71adm.sigapisymboltype DROP CONSTRAINT IF EXISTS fk_symboltype_image;
+ALTER TABLE aris71adm.sigapisymboltype ADD CONSTRAINT fk_symboltype_image
+    FOREIGN KEY (imagehash) REFERENCES aris71adm.sigapisymbolimage(imagehash);
 
 -- Índices para mejorar el rendimiento
 CREATE INDEX IF NOT EXISTS idx_symboltype_apiname ON aris71adm.sigapisymboltype(apiname);
 CREATE INDEX IF NOT EXISTS idx_symboltype_symboltype ON aris71adm.sigapisymboltype(symboltype);
 CREATE INDEX IF NOT EXISTS idx_symboltype_isdefault ON aris71adm.sigapisymboltype(isdefault);
 CREATE INDEX IF NOT EXISTS idx_symboltype_isassigned ON aris71adm.sigapisymboltype(isassigned);
+-- Búsqueda de las filas que referencian una imagen (contador de referencias y claves foráneas)
+CREATE INDEX IF NOT EXISTS idx_symboltype_imagehash ON aris71adm.sigapisymboltype(imagehash);
+
+-- Índices para el filtro combinado (/filter) y la paginación keyset por ID.
+-- Compuestos: la igualdad va primero y el ID al final para servir ORDER BY idsymbol sin ordenar.
+CREATE INDEX IF NOT EXISTS idx_symboltype_type_id ON aris71adm.sigapisymboltype(symboltype, idsymbol);
+CREATE INDEX IF NOT EXISTS idx_symboltype_type_createdate ON aris71adm.sigapisymboltype(symboltype, createdate);
+CREATE INDEX IF NOT EXISTS idx_symboltype_type_lastupdate ON aris71adm.sigapisymboltype(symboltype, lastupdate);
+CREATE INDEX IF NOT EXISTS idx_symboltype_createdate ON aris71adm.sigapisymboltype(createdate, idsymbol);
+CREATE INDEX IF NOT EXISTS idx_symboltype_lastupdate ON aris71adm.sigapisymboltype(lastupdate, idsymbol);
+-- Paginación keyset ordenada por nombre (sort=name): el ID desempata los nombres repetidos
+CREATE INDEX IF NOT EXISTS idx_symboltype_symbolname_id ON aris71adm.sigapisymboltype(symbolname, idsymbol);
+-- Parciales: pocas filas tienen isdefault = 1 o isassigned = 1
+CREATE INDEX IF NOT EXISTS idx_symboltype_default_id ON aris71adm.sigapisymboltype(symboltype, idsymbol) WHERE isdefault = 1;
+CREATE INDEX IF NOT EXISTS idx_symboltype_assigned_id ON aris71adm.sigapisymboltype(symboltype, idsymbol) WHERE isassigned = 1;
+CREATE INDEX IF NOT EXISTS idx_symboltype_default_or_assigned ON aris71adm.sigapisymboltype(idsymbol)
+    WHERE isdefault = 1 OR isassigned = 1;
+
+CREATE INDEX IF NOT EXISTS idx_objecttype_createdate ON aris71adm.sigapiobjecttype(createdate, idobject);
+CREATE INDEX IF NOT EXISTS idx_objecttype_lastupdate ON aris71adm.sigapiobjecttype(lastupdate, idobject);
+CREATE INDEX IF NOT EXISTS idx_objecttype_objectname_id ON aris71adm.sigapiobjecttype(objectname, idobject);
+CREATE INDEX IF NOT EXISTS idx_objecttype_default_id ON aris71adm.sigapiobjecttype(idobject) WHERE isdefault = 1;
+CREATE INDEX IF NOT EXISTS idx_objecttype_assigned_id ON aris71adm.sigapiobjecttype(idobject) WHERE isassigned = 1;
+CREATE INDEX IF NOT EXISTS idx_objecttype_default_or_assigned ON aris71adm.sigapiobjecttype(idobject)
+    WHERE isdefault = 1 OR isassigned = 1;
+
+-- Búsqueda por texto contenido (LOWER(nombre) LIKE '%q%'): índices GIN de trigramas (requiere pg_trgm)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_symboltype_symbolname_trgm ON aris71adm.sigapisymboltype
+    USING gin (lower(symbolname) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_objecttype_objectname_trgm ON aris71adm.sigapiobjecttype
+    USING gin (lower(objectname) gin_trgm_ops);
+
+-- Las entidades reservan IDs en bloques de 50 (allocationSize) para poder agrupar inserciones en lotes JDBC
+ALTER SEQUENCE IF EXISTS aris71adm.sigapisymboltype_idsymbol_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS aris71adm.sigapiobjecttype_idobject_seq INCREMENT BY 50;
+
+-- El contenido puede estar fuera de la base de datos (catalog.image.storage.type=filesystem)
+ALTER TABLE aris71adm.sigapisymbolimage ALTER COLUMN content DROP NOT NULL;
@@ -0,0 +1,69 @@
+package com.sigapi.catalog.reactive;
+
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.service.SymbolImageContent;
+import com.sigapi.catalog.service.SymbolTypeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lecturas R2DBC de imágenes guardadas en el almacén de ficheros: la fila de sigapisymbolimage no tiene contenido
+ */
+@SpringBootTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///testdb",
+        "catalog.image.storage.type=filesystem",
+        "catalog.image.storage.directory=target/reactive-test-images"
+})
+@ActiveProfiles({"dev", "reactive"})
+class ReactiveFileSystemImageReadTest {
+
+    @Autowired
+    private ReactiveSymbolTypeRepository repository;
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Integer> created = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreated() {
+        created.forEach(symbolTypeService::delete);
+        created.clear();
+    }
+
+    @Test
+    void imagesAreReadFromTheBlobStore() throws IOException {
+        byte[] image = png(21);
+        SymbolTypeResponse saved = symbolTypeService.create(request("REACTIVE_FS", image));
+        created.add(saved.getIdSymbol());
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM aris71adm.sigapisymbolimage WHERE imagehash = ?",
+                byte[].class, saved.getImageHash())).isNull();
+
+        SymbolImageContent content = repository.findImageByApiName("REACTIVE_FS").block();
+        SymbolTypeResponse row = repository.findById(saved.getIdSymbol()).block();
+        List<SymbolTypeResponse> listed = repository.searchByName("Símbolo REACTIVE_FS", true).collectList().block();
+
+        assertThat(content).isNotNull();
+        assertThat(content.readContent()).isEqualTo(image);
+        assertThat(content.getETag()).isEqualTo(saved.getImageHash());
+        assertThat(Base64.getDecoder().decode(row.getSymbolImageBase64())).isEqualTo(image);
+        assertThat(listed).singleElement()
+                .satisfies(item -> assertThat(Base64.getDecoder().decode(item.getSymbolImageBase64())).isEqualTo(image));
+    }
+}
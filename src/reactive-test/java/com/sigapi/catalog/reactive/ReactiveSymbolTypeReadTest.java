@@ -0,0 +1,125 @@
+package com.sigapi.catalog.reactive;
+
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.service.SymbolTypeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Lecturas R2DBC de tipos de símbolo contra la misma base H2 en memoria que usa JPA en el perfil dev.
+ * Los datos se escriben con el servicio JPA y se confirman, porque R2DBC lee con sus propias conexiones.
+ */
+@SpringBootTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///testdb")
+@ActiveProfiles({"dev", "reactive"})
+@AutoConfigureMockMvc
+class ReactiveSymbolTypeReadTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R'};
+
+    @Autowired
+    private ReactiveSymbolTypeRepository repository;
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Integer> created = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreated() {
+        created.forEach(symbolTypeService::delete);
+        created.clear();
+    }
+
+    @Test
+    void findAllStreamsTheSameRowsAsJpaInIdOrder() {
+        List<SymbolTypeResponse> rows = repository.findAll(false).collectList().block();
+
+        assertThat(rows).extracting(SymbolTypeResponse::getIdSymbol)
+                .isSorted()
+                .containsExactlyInAnyOrderElementsOf(symbolTypeService.getAll(false).stream()
+                        .map(SymbolTypeResponse::getIdSymbol).toList());
+        assertThat(rows).allSatisfy(row -> assertThat(row.getSymbolImageBase64()).isNull());
+    }
+
+    @Test
+    void searchByNameIgnoresCase() {
+        List<SymbolTypeResponse> rows = repository.searchByName("EVENTO", false).collectList().block();
+
+        assertThat(rows).isNotEmpty()
+                .allSatisfy(row -> assertThat(row.getSymbolName()).containsIgnoringCase("evento"));
+    }
+
+    @Test
+    void findByApiNameReadsTheImageFromTheImageTable() {
+        SymbolTypeResponse saved = create("REACTIVE_IMAGE", PNG);
+
+        SymbolTypeResponse row = repository.findByApiName("REACTIVE_IMAGE").block();
+
+        assertThat(row).isNotNull();
+        assertThat(row.getIdSymbol()).isEqualTo(saved.getIdSymbol());
+        assertThat(row.getHasImage()).isTrue();
+        assertThat(row.getImageHash()).isEqualTo(saved.getImageHash());
+        assertThat(Base64.getDecoder().decode(row.getSymbolImageBase64())).isEqualTo(PNG);
+        assertThat(repository.findImageById(saved.getIdSymbol()).block().readContent()).isEqualTo(PNG);
+    }
+
+    @Test
+    void missingRowsCompleteEmpty() {
+        assertThat(repository.findById(-1).blockOptional()).isEmpty();
+        assertThat(repository.findImageByApiName("REACTIVE_MISSING").blockOptional()).isEmpty();
+    }
+
+    @Test
+    void controllerServesImagesAndMapsMissingRowsToNotFound() throws Exception {
+        SymbolTypeResponse saved = create("REACTIVE_HTTP", PNG);
+
+        MvcResult image = mockMvc.perform(get("/api/v1/reactive/symbol-types/{id}/image", saved.getIdSymbol()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(image))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().string("ETag", "\"" + saved.getImageHash() + "\""))
+                .andExpect(content().bytes(PNG));
+
+        MvcResult byApiName = mockMvc.perform(get("/api/v1/reactive/symbol-types/api-name/{apiName}", "REACTIVE_HTTP"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(byApiName))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.idSymbol").value(saved.getIdSymbol()));
+
+        MvcResult missing = mockMvc.perform(get("/api/v1/reactive/symbol-types/{id}", -1)).andReturn();
+        mockMvc.perform(asyncDispatch(missing))
+                .andExpect(status().isNotFound());
+    }
+
+    private SymbolTypeResponse create(String apiName, byte[] image) {
+        SymbolTypeResponse saved = symbolTypeService.create(request(apiName, image));
+        created.add(saved.getIdSymbol());
+        return saved;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sigapi.catalog.reactive;
+
+import com.sigapi.catalog.dto.ApiResponse;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lecturas no bloqueantes de tipos de objeto (perfil reactive)
+ */
+@RestController
+@RequestMapping("/api/v1/reactive/object-types")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Object Types (reactivo)", description = "Lecturas no bloqueantes del catálogo de tipos de objeto")
+@CrossOrigin(origins = "*")
+public class ReactiveObjectTypeController {
+
+    private final ReactiveObjectTypeRepository repository;
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Listar tipos de objeto en streaming")
+    public Flux<ObjectTypeResponse> findAll() {
+        log.debug("GET /api/v1/reactive/object-types - Obteniendo todos los ObjectTypes");
+        return repository.findAll();
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Buscar por nombre en streaming")
+    public Flux<ObjectTypeResponse> searchByName(@RequestParam String name) {
+        log.debug("GET /api/v1/reactive/object-types/search?name={} - Buscando ObjectTypes", name);
+        return repository.searchByObjectName(name);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar por ID")
+    public Mono<ApiResponse<ObjectTypeResponse>> findById(@PathVariable Integer id) {
+        log.debug("GET /api/v1/reactive/object-types/{} - Buscando ObjectType por ID", id);
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        "ObjectType no encontrado con id: '" + id + "'")))
+                .map(response -> ApiResponse.success(response, "ObjectType encontrado"));
+    }
+
+    @GetMapping("/api-name/{apiName}")
+    @Operation(summary = "Buscar por nombre API")
+    public Mono<ApiResponse<ObjectTypeResponse>> findByApiName(@PathVariable String apiName) {
+        log.debug("GET /api/v1/reactive/object-types/api-name/{} - Buscando ObjectType por apiName", apiName);
+        return repository.findByApiName(apiName)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        "ObjectType no encontrado con apiName: '" + apiName + "'")))
+                .map(response -> ApiResponse.success(response, "ObjectType encontrado"));
+    }
+}
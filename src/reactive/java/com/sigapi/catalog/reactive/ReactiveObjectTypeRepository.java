@@ -0,0 +1,70 @@
+package com.sigapi.catalog.reactive;
+
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Lecturas no bloqueantes de sigapiobjecttype sobre R2DBC (perfil reactive)
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveObjectTypeRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String SELECT = "SELECT idobject, apiname, objectname, objectorigname, createdate, "
+            + "isdefault, isassigned, lastupdate FROM aris71adm.sigapiobjecttype ";
+
+    private final DatabaseClient client;
+
+    public Flux<ObjectTypeResponse> findAll() {
+        return client.sql(SELECT + "ORDER BY idobject")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveObjectTypeRepository::toResponse)
+                .all();
+    }
+
+    public Flux<ObjectTypeResponse> searchByObjectName(String text) {
+        return client.sql(SELECT + "WHERE LOWER(objectname) LIKE :pattern ORDER BY idobject")
+                .bind("pattern", "%" + text.toLowerCase(Locale.ROOT) + "%")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveObjectTypeRepository::toResponse)
+                .all();
+    }
+
+    public Mono<ObjectTypeResponse> findById(Integer id) {
+        return client.sql(SELECT + "WHERE idobject = :id")
+                .bind("id", id)
+                .map(ReactiveObjectTypeRepository::toResponse)
+                .one();
+    }
+
+    public Mono<ObjectTypeResponse> findByApiName(String apiName) {
+        return client.sql(SELECT + "WHERE apiname = :apiName")
+                .bind("apiName", apiName)
+                .map(ReactiveObjectTypeRepository::toResponse)
+                .one();
+    }
+
+    private static ObjectTypeResponse toResponse(Readable row) {
+        return ObjectTypeResponse.builder()
+                .idObject(row.get("idobject", Integer.class))
+                .apiName(row.get("apiname", String.class))
+                .objectName(row.get("objectname", String.class))
+                .objectOrigName(row.get("objectorigname", String.class))
+                .createDate(row.get("createdate", LocalDate.class))
+                .isDefault(row.get("isdefault", Integer.class))
+                .isAssigned(row.get("isassigned", Integer.class))
+                .lastUpdate(row.get("lastupdate", LocalDate.class))
+                .build();
+    }
+}
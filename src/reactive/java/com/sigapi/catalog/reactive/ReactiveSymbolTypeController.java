@@ -0,0 +1,106 @@
+package com.sigapi.catalog.reactive;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.ApiResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.exception.ResourceNotFoundException;
+import com.sigapi.catalog.service.SymbolImageContent;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lecturas no bloqueantes de tipos de símbolo (perfil reactive).
+ *
+ * Los listados devuelven un Flux: con Accept application/x-ndjson se envían fila a fila según
+ * la demanda del cliente; con application/json se devuelven como un array. Ninguna petición
+ * retiene un hilo ni una conexión JDBC mientras espera a la base de datos.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive/symbol-types")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Symbol Type (reactivo)", description = "Lecturas no bloqueantes del catálogo de tipos de símbolos")
+@CrossOrigin(origins = "*")
+public class ReactiveSymbolTypeController {
+
+    private final ReactiveSymbolTypeRepository repository;
+    private final CatalogProperties properties;
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Listar tipos de símbolo en streaming")
+    public Flux<SymbolTypeResponse> getAll(
+            @Parameter(description = "Incluir la imagen en Base64")
+            @RequestParam(defaultValue = "false") boolean includeImages) {
+        log.debug("GET /api/v1/reactive/symbol-types");
+        return repository.findAll(includeImages);
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Buscar tipos de símbolo por nombre en streaming")
+    public Flux<SymbolTypeResponse> searchByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "false") boolean includeImages) {
+        log.debug("GET /api/v1/reactive/symbol-types/search?name={}", name);
+        return repository.searchByName(name, includeImages);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Obtener tipo de símbolo por ID")
+    public Mono<ApiResponse<SymbolTypeResponse>> getById(@PathVariable Integer id) {
+        log.debug("GET /api/v1/reactive/symbol-types/{}", id);
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("SymbolType", "id", id)))
+                .map(response -> ApiResponse.success(response, "Tipo de símbolo encontrado"));
+    }
+
+    @GetMapping("/api-name/{apiName}")
+    @Operation(summary = "Obtener tipo de símbolo por apiName")
+    public Mono<ApiResponse<SymbolTypeResponse>> getByApiName(@PathVariable String apiName) {
+        log.debug("GET /api/v1/reactive/symbol-types/api-name/{}", apiName);
+        return repository.findByApiName(apiName)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("SymbolType", "apiName", apiName)))
+                .map(response -> ApiResponse.success(response, "Tipo de símbolo encontrado"));
+    }
+
+    @GetMapping("/{id}/image")
+    @Operation(summary = "Obtener imagen del tipo de símbolo por ID")
+    public Mono<ResponseEntity<byte[]>> getImageById(@PathVariable Integer id) {
+        log.debug("GET /api/v1/reactive/symbol-types/{}/image", id);
+        return repository.findImageById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        "Imagen no encontrada para SymbolType con id: '" + id + "'")))
+                .map(this::imageResponse);
+    }
+
+    @GetMapping("/api-name/{apiName}/image")
+    @Operation(summary = "Obtener imagen del tipo de símbolo por apiName")
+    public Mono<ResponseEntity<byte[]>> getImageByApiName(@PathVariable String apiName) {
+        log.debug("GET /api/v1/reactive/symbol-types/api-name/{}/image", apiName);
+        return repository.findImageByApiName(apiName)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(
+                        "Imagen no encontrada para SymbolType con apiName: '" + apiName + "'")))
+                .map(this::imageResponse);
+    }
+
+    /**
+     * Mismas cabeceras que el endpoint bloqueante: tipo guardado con la imagen y su hash SHA-256 como ETag
+     */
+    private ResponseEntity<byte[]> imageResponse(SymbolImageContent image) {
+        return ResponseEntity.ok()
+                .contentType(image.getMediaType())
+                .eTag(image.getETag())
+                .cacheControl(CacheControl.maxAge(properties.getImage().getCacheMaxAge()).cachePublic())
+                .body(image.getContent());
+    }
+}
@@ -0,0 +1,168 @@
+package com.sigapi.catalog.reactive;
+
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.service.SymbolImageContent;
+import com.sigapi.catalog.storage.ImageBlobStore;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Lecturas no bloqueantes de sigapisymboltype sobre R2DBC (perfil reactive).
+ *
+ * Usa SQL explícito en lugar de repositorios Spring Data porque las entidades están mapeadas para JPA.
+ * Los listados se leen con fetch size, de modo que la base de datos entrega filas según la demanda del cliente.
+ * El contenido de las imágenes que no está en sigapisymbolimage se lee del ImageBlobStore configurado,
+ * en el scheduler boundedElastic porque el almacén es bloqueante.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSymbolTypeRepository {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String COLUMNS = "s.idsymbol, s.apiname, s.symbolname, s.symboltype, s.symbolorigname, "
+            + "s.createdate, s.isdefault, s.isassigned, s.lastupdate, s.imagehash";
+    private static final String FROM = " FROM aris71adm.sigapisymboltype s ";
+    private static final String IMAGE_JOIN = "LEFT JOIN aris71adm.sigapisymbolimage i ON i.imagehash = s.imagehash ";
+    private static final String IMAGE_SELECT = "SELECT i.imagehash, i.mediatype, i.content" + FROM
+            + "JOIN aris71adm.sigapisymbolimage i ON i.imagehash = s.imagehash ";
+
+    private final DatabaseClient client;
+    private final ImageBlobStore imageBlobStore;
+
+    public Flux<SymbolTypeResponse> findAll(boolean includeImages) {
+        return client.sql(select(includeImages) + "ORDER BY s.idsymbol")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(row -> toResponse(row, includeImages))
+                .all()
+                .concatMap(response -> includeImages ? withStoredImage(response) : Mono.just(response));
+    }
+
+    public Flux<SymbolTypeResponse> searchByName(String text, boolean includeImages) {
+        return client.sql(select(includeImages) + "WHERE LOWER(s.symbolname) LIKE :pattern ORDER BY s.idsymbol")
+                .bind("pattern", "%" + text.toLowerCase(Locale.ROOT) + "%")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(row -> toResponse(row, includeImages))
+                .all()
+                .concatMap(response -> includeImages ? withStoredImage(response) : Mono.just(response));
+    }
+
+    public Mono<SymbolTypeResponse> findById(Integer id) {
+        return client.sql(select(true) + "WHERE s.idsymbol = :id")
+                .bind("id", id)
+                .map(row -> toResponse(row, true))
+                .one()
+                .flatMap(this::withStoredImage);
+    }
+
+    public Mono<SymbolTypeResponse> findByApiName(String apiName) {
+        return client.sql(select(true) + "WHERE s.apiname = :apiName")
+                .bind("apiName", apiName)
+                .map(row -> toResponse(row, true))
+                .one()
+                .flatMap(this::withStoredImage);
+    }
+
+    public Mono<SymbolImageContent> findImageById(Integer id) {
+        return client.sql(IMAGE_SELECT + "WHERE s.idsymbol = :id")
+                .bind("id", id)
+                .map(ReactiveSymbolTypeRepository::toStoredImage)
+                .one()
+                .flatMap(this::withStoredContent);
+    }
+
+    public Mono<SymbolImageContent> findImageByApiName(String apiName) {
+        return client.sql(IMAGE_SELECT + "WHERE s.apiname = :apiName")
+                .bind("apiName", apiName)
+                .map(ReactiveSymbolTypeRepository::toStoredImage)
+                .one()
+                .flatMap(this::withStoredContent);
+    }
+
+    /**
+     * Completa la imagen de la respuesta desde el almacén cuando la fila no tenía el contenido
+     */
+    private Mono<SymbolTypeResponse> withStoredImage(SymbolTypeResponse response) {
+        if (response.getImageHash() == null || response.getSymbolImageBase64() != null) {
+            return Mono.just(response);
+        }
+        return readStored(response.getImageHash())
+                .map(content -> {
+                    response.setSymbolImageBase64(Base64.getEncoder().encodeToString(content));
+                    return response;
+                })
+                .defaultIfEmpty(response);
+    }
+
+    private Mono<SymbolImageContent> withStoredContent(StoredImage image) {
+        if (image.content() != null) {
+            return Mono.just(new SymbolImageContent(image.content(), image.mediaType(), image.hash()));
+        }
+        return readStored(image.hash())
+                .map(content -> new SymbolImageContent(content, image.mediaType(), image.hash()));
+    }
+
+    /**
+     * Lee el contenido del almacén de imágenes; vacío si el almacén es la propia fila o no lo tiene
+     */
+    private Mono<byte[]> readStored(String hash) {
+        if (imageBlobStore.isInline()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> imageBlobStore.read(hash))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static StoredImage toStoredImage(Readable row) {
+        return new StoredImage(row.get("imagehash", String.class),
+                MediaType.parseMediaType(row.get("mediatype", String.class)),
+                row.get("content", byte[].class));
+    }
+
+    private static String select(boolean includeImages) {
+        return includeImages
+                ? "SELECT " + COLUMNS + ", i.content" + FROM + IMAGE_JOIN
+                : "SELECT " + COLUMNS + FROM;
+    }
+
+    private static SymbolTypeResponse toResponse(Readable row, boolean includeImages) {
+        String imageHash = row.get("imagehash", String.class);
+        SymbolTypeResponse response = SymbolTypeResponse.builder()
+                .idSymbol(row.get("idsymbol", Integer.class))
+                .apiName(row.get("apiname", String.class))
+                .symbolName(row.get("symbolname", String.class))
+                .symbolType(row.get("symboltype", String.class))
+                .symbolOrigName(row.get("symbolorigname", String.class))
+                .createDate(row.get("createdate", LocalDate.class))
+                .isDefault(row.get("isdefault", Integer.class))
+                .isAssigned(row.get("isassigned", Integer.class))
+                .lastUpdate(row.get("lastupdate", LocalDate.class))
+                .hasImage(imageHash != null)
+                .imageHash(imageHash)
+                .build();
+        if (includeImages) {
+            byte[] image = row.get("content", byte[].class);
+            if (image != null) {
+                response.setSymbolImageBase64(Base64.getEncoder().encodeToString(image));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Fila de sigapisymbolimage; content es null si la imagen está en otro almacén
+     */
+    private record StoredImage(String hash, MediaType mediaType, byte[] content) {
+    }
+}
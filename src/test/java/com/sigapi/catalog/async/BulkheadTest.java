@@ -0,0 +1,59 @@
+package com.sigapi.catalog.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Rechazo con la cola llena y tiempo máximo de las tareas de un compartimento
+ */
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Bulkhead bulkhead = new Bulkhead("test", 1, 1, 0, Duration.ofMillis(200), meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void taskIsRejectedWhenThreadsAndQueueAreBusy() {
+        bulkhead.supply(this::blockUntilReleased);
+
+        assertThatThrownBy(() -> bulkhead.supply(() -> "segunda")).isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.counter("catalog.bulkhead.rejected", "bulkhead", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowTaskEndsWithTimeout() {
+        assertThatThrownBy(() -> bulkhead.supply(this::blockUntilReleased).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void fastTaskCompletes() throws Exception {
+        assertThat(bulkhead.supply(() -> "ok").get()).isEqualTo("ok");
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "bloqueada";
+    }
+}
@@ -0,0 +1,102 @@
+package com.sigapi.catalog.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Instantáneas copy-on-write: cada cambio publica una instantánea nueva sin alterar las ya entregadas
+ */
+class CatalogSnapshotHolderTest {
+
+    private final List<Item> rows = new ArrayList<>(List.of(
+            new Item(2, "EVENT", true),
+            new Item(1, "FUNCTION", false),
+            new Item(3, "FUNCTION", false)));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CatalogSnapshotHolder<Item> holder = new CatalogSnapshotHolder<>("items", Item::id, Item::type,
+            Item::flagged, () -> {
+                loads.incrementAndGet();
+                return List.copyOf(rows);
+            });
+
+    @Test
+    void firstReadLoadsAnIndexedSnapshot() {
+        CatalogSnapshot<Item> snapshot = holder.get();
+
+        assertThat(ids(snapshot.getItems())).containsExactly(1, 2, 3);
+        assertThat(ids(snapshot.getByType("FUNCTION"))).containsExactly(1, 3);
+        assertThat(ids(snapshot.getDefaultOrAssigned())).containsExactly(2);
+        assertThat(holder.get()).isSameAs(snapshot);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void upsertPublishesANewSnapshotAndLeavesThePreviousOneIntact() {
+        CatalogSnapshot<Item> before = holder.get();
+
+        holder.upsert(new Item(3, "EVENT", true));
+        holder.upsert(new Item(4, "FUNCTION", false));
+        CatalogSnapshot<Item> after = holder.get();
+
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(ids(after.getByType("EVENT"))).containsExactly(2, 3);
+        assertThat(ids(after.getByType("FUNCTION"))).containsExactly(1, 4);
+        assertThat(ids(after.getDefaultOrAssigned())).containsExactly(2, 3);
+        assertThat(ids(before.getByType("FUNCTION"))).containsExactly(1, 3);
+        assertThat(before.getById(3).type()).isEqualTo("FUNCTION");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void removePublishesOnlyWhenTheIdExists() {
+        CatalogSnapshot<Item> before = holder.get();
+
+        holder.remove(99);
+        assertThat(holder.get()).isSameAs(before);
+
+        holder.remove(2);
+        assertThat(ids(holder.get().getItems())).containsExactly(1, 3);
+        assertThat(before.getById(2)).isNotNull();
+    }
+
+    @Test
+    void changesBeforeTheFirstLoadAreLeftToTheLoader() {
+        holder.upsert(new Item(9, "EVENT", false));
+        holder.remove(1);
+
+        assertThat(holder.isLoaded()).isFalse();
+        assertThat(ids(holder.get().getItems())).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void reloadReportsWhetherTheContentChanged() {
+        holder.get();
+        assertThat(holder.reload()).isFalse();
+
+        rows.add(new Item(5, "EVENT", false));
+        assertThat(holder.reload()).isTrue();
+        assertThat(holder.get().getById(5)).isNotNull();
+    }
+
+    @Test
+    void invalidateDiscardsTheSnapshotUntilTheNextRead() {
+        holder.get();
+        holder.invalidate();
+
+        assertThat(holder.isLoaded()).isFalse();
+        holder.get();
+        assertThat(loads).hasValue(2);
+    }
+
+    private static List<Integer> ids(List<Item> items) {
+        return items.stream().map(Item::id).toList();
+    }
+
+    private record Item(Integer id, String type, boolean flagged) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.sigapi.catalog.cache;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Avance de la revisión en las recargas periódicas, que recogen cambios de otras instancias
+ */
+class CatalogSnapshotUpdaterTest {
+
+    private final List<SymbolTypeResponse> rows = new ArrayList<>();
+    private final CatalogRevision symbolTypeRevision = new CatalogRevision("symbol-types");
+    private final CatalogRevision objectTypeRevision = new CatalogRevision("object-types");
+    private final CatalogProperties properties = new CatalogProperties();
+    private CatalogSnapshotHolder<SymbolTypeResponse> symbolTypeSnapshot;
+    private CatalogSnapshotUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        rows.add(symbol(1, "Inicio"));
+        symbolTypeSnapshot = new CatalogSnapshotHolder<>("symbol-types", SymbolTypeResponse::getIdSymbol,
+                SymbolTypeResponse::getSymbolType, response -> false, () -> List.copyOf(rows));
+        CatalogSnapshotHolder<ObjectTypeResponse> objectTypeSnapshot = new CatalogSnapshotHolder<>("object-types",
+                ObjectTypeResponse::getIdObject, null, response -> false, List::of);
+        properties.getSnapshot().setEnabled(true);
+        updater = new CatalogSnapshotUpdater(symbolTypeSnapshot, objectTypeSnapshot,
+                symbolTypeRevision, objectTypeRevision, properties);
+    }
+
+    @Test
+    void reloadWithoutChangesKeepsTheRevision() {
+        symbolTypeSnapshot.get();
+        long revision = symbolTypeRevision.current();
+
+        updater.refresh();
+
+        assertThat(symbolTypeRevision.current()).isEqualTo(revision);
+    }
+
+    @Test
+    void reloadThatFindsChangesAdvancesTheRevision() {
+        symbolTypeSnapshot.get();
+        long revision = symbolTypeRevision.current();
+        rows.set(0, symbol(1, "Inicio renombrado"));
+
+        updater.refresh();
+
+        assertThat(symbolTypeRevision.current()).isGreaterThan(revision);
+        assertThat(symbolTypeSnapshot.get().getById(1).getSymbolName()).isEqualTo("Inicio renombrado");
+    }
+
+    @Test
+    void withoutSnapshotTheRevisionAdvancesOnEveryRefresh() {
+        properties.getSnapshot().setEnabled(false);
+        long revision = symbolTypeRevision.current();
+
+        updater.refresh();
+
+        assertThat(symbolTypeRevision.current()).isGreaterThan(revision);
+        assertThat(symbolTypeSnapshot.isLoaded()).isFalse();
+    }
+
+    private static SymbolTypeResponse symbol(int id, String name) {
+        return SymbolTypeResponse.builder().idSymbol(id).apiName("SYM_" + id).symbolName(name)
+                .symbolType("FUNCTION").build();
+    }
+}
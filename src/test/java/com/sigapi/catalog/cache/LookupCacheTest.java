@@ -0,0 +1,152 @@
+package com.sigapi.catalog.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caché de búsquedas por ID y apiName: límite por peso, carga agrupada e invalidación
+ */
+class LookupCacheTest {
+
+    private static final int ENTRY_WEIGHT = 100;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void evictsByWeightOnceTheLimitIsExceeded() throws InterruptedException {
+        LookupCache<Item> cache = cache(true, 10 * ENTRY_WEIGHT);
+        for (int id = 0; id < 100; id++) {
+            cache.put(new Item(id, "API_" + id));
+        }
+
+        // Caffeine expulsa en su mantenimiento asíncrono; las lecturas lo vuelven a programar
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (cachedIds(cache) > 10 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cachedIds(cache)).isLessThanOrEqualTo(10);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "items.by-id").functionCounter().count())
+                .isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    void loadsOnceAndServesFromTheCache() {
+        LookupCache<Item> cache = cache(true, 10_000);
+
+        cache.getById(1, loader(new Item(1, "API_1")));
+        Item cached = cache.getById(1, loader(new Item(1, "API_1")));
+
+        assertThat(cached.apiName()).isEqualTo("API_1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getAllLoadsOnlyTheMissingIdsInOneCall() {
+        LookupCache<Item> cache = cache(true, 10_000);
+        cache.put(new Item(1, "API_1"));
+        AtomicInteger requested = new AtomicInteger();
+
+        Map<Integer, Item> result = cache.getAllById(List.of(1, 2, 3), missing -> {
+            loads.incrementAndGet();
+            requested.addAndGet(missing.size());
+            return missing.stream().filter(id -> id != 3).map(id -> new Item(id, "API_" + id)).toList();
+        });
+
+        assertThat(result).containsOnlyKeys(1, 2);
+        assertThat(loads).hasValue(1);
+        assertThat(requested).hasValue(2);
+        assertThat(cache.peekById(3)).isNull();
+    }
+
+    @Test
+    void getAllDoesNotCacheValuesLoadedBeforeAConcurrentInvalidation() {
+        LookupCache<Item> cache = cache(true, 10_000);
+
+        Map<String, Item> result = cache.getAllByApiName(List.of("API_1", "API_2"), missing -> {
+            List<Item> read = missing.stream().map(apiName -> new Item(Integer.valueOf(apiName.substring(4)), apiName))
+                    .toList();
+            // Otra petición confirma un cambio e invalida mientras la carga aún no ha guardado nada
+            cache.invalidate(2, "API_2");
+            return read;
+        });
+
+        assertThat(result).containsOnlyKeys("API_1", "API_2");
+        assertThat(cache.getByApiName("API_2", loader(new Item(2, "API_2_NEW"))).apiName()).isEqualTo("API_2_NEW");
+        assertThat(loads).hasValue(1);
+
+        cache.getAllByApiName(List.of("API_3"), missing -> List.of(new Item(3, "API_3")));
+        assertThat(cache.getByApiName("API_3", loader(null))).isNotNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidateWithoutApiNameRemovesTheEntriesOfTheId() {
+        LookupCache<Item> cache = cache(true, 10_000);
+        cache.put(new Item(1, "API_1"));
+        cache.put(new Item(2, "API_2"));
+
+        cache.invalidate(1);
+
+        assertThat(cache.peekById(1)).isNull();
+        assertThat(cache.getByApiName("API_1", loader(new Item(1, "API_1_NEW"))).apiName()).isEqualTo("API_1_NEW");
+        assertThat(cache.getByApiName("API_2", loader(new Item(2, "API_2_NEW"))).apiName()).isEqualTo("API_2");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidateWithApiNamesRemovesThePreviousAndCurrentNames() {
+        LookupCache<Item> cache = cache(true, 10_000);
+        cache.put(new Item(1, "API_OLD"));
+
+        cache.invalidate(1, "API_NEW", "API_OLD");
+
+        assertThat(cache.getByApiName("API_OLD", loader(null))).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void disabledCacheAlwaysCallsTheLoader() {
+        LookupCache<Item> cache = cache(false, 10_000);
+        cache.put(new Item(1, "API_1"));
+
+        cache.getById(1, loader(new Item(1, "API_1")));
+        cache.getById(1, loader(new Item(1, "API_1")));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.peekById(1)).isNull();
+    }
+
+    private LookupCache<Item> cache(boolean enabled, long maximumWeightBytes) {
+        return new LookupCache<>("items", enabled, maximumWeightBytes, Duration.ofMinutes(10),
+                Item::id, Item::apiName, item -> ENTRY_WEIGHT, meterRegistry);
+    }
+
+    private Supplier<Item> loader(Item value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private static long cachedIds(LookupCache<Item> cache) {
+        long count = 0;
+        for (int id = 0; id < 100; id++) {
+            if (cache.peekById(id) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private record Item(Integer id, String apiName) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.sigapi.catalog.controller;
+
+import com.sigapi.catalog.async.Bulkhead;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lecturas pesadas y exportación con el compartimento heavy saturado: 503 con Retry-After.
+ * Con servidor real: el rechazo de la exportación se resuelve en el redespacho asíncrono del contenedor.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "catalog.bulkheads.heavy.core-size=1",
+        "catalog.bulkheads.heavy.max-size=1",
+        "catalog.bulkheads.heavy.queue-capacity=0"
+})
+@ActiveProfiles("dev")
+class BulkheadRejectionTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private Bulkhead heavyReadBulkhead;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private CompletableFuture<Void> occupied = CompletableFuture.completedFuture(null);
+
+    @AfterEach
+    void releaseBulkhead() {
+        release.countDown();
+        occupied.join();
+    }
+
+    @Test
+    void exportRunsInTheHeavyBulkhead() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/object-types/export?format=csv", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"object-types.csv\"");
+        assertThat(response.getBody()).startsWith("idObject,");
+    }
+
+    @Test
+    void exportIsRejectedWhenTheHeavyBulkheadIsFull() {
+        occupyHeavyBulkhead();
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/symbol-types/export", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void listIsRejectedWhenTheHeavyBulkheadIsFull() {
+        occupyHeavyBulkhead();
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/symbol-types", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    private void occupyHeavyBulkhead() {
+        occupied = heavyReadBulkhead.supply(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+    }
+}
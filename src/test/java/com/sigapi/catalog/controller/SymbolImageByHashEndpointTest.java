@@ -0,0 +1,70 @@
+package com.sigapi.catalog.controller;
+
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.service.SymbolTypeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Imagen por hash: ETag, caché inmutable, 304 al revalidar y 404 para hashes desconocidos
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@Transactional
+class SymbolImageByHashEndpointTest {
+
+    private static final String IMAGE_BY_HASH = "/api/v1/symbol-types/images/{hash}";
+    private static final String UNKNOWN_HASH = "0".repeat(64);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Test
+    void imageIsServedWithTheHashAsETagAndImmutableCaching() throws Exception {
+        byte[] image = png(11);
+        SymbolTypeResponse symbol = symbolTypeService.create(request("HASH_IMAGE", image));
+
+        mockMvc.perform(get(IMAGE_BY_HASH, symbol.getImageHash()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + symbol.getImageHash() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        SymbolTypeResponse symbol = symbolTypeService.create(request("HASH_NOT_MODIFIED", png(12)));
+
+        mockMvc.perform(get(IMAGE_BY_HASH, symbol.getImageHash())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + symbol.getImageHash() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + symbol.getImageHash() + "\""));
+    }
+
+    @Test
+    void unknownHashIsNotFoundEvenWhenTheClientSendsItAsETag() throws Exception {
+        mockMvc.perform(get(IMAGE_BY_HASH, UNKNOWN_HASH))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(IMAGE_BY_HASH, UNKNOWN_HASH)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + UNKNOWN_HASH + "\""))
+                .andExpect(status().isNotFound());
+    }
+}
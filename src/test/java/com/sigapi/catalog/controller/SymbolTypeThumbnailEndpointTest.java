@@ -0,0 +1,113 @@
+package com.sigapi.catalog.controller;
+
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.service.SymbolImageService;
+import com.sigapi.catalog.service.SymbolTypeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Miniaturas por ID y por hash: cabeceras de caché, tamaños admitidos y miniatura compartida por hash.
+ * Sin transacción de test: las peticiones asíncronas se atienden en otro hilo y tienen que ver los datos.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class SymbolTypeThumbnailEndpointTest {
+
+    private static final String BASE = "/api/v1/symbol-types";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private SymbolImageService imageService;
+
+    private final List<Integer> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        created.forEach(symbolTypeService::delete);
+    }
+
+    @Test
+    void thumbnailByIdIsRevalidatedLikeTheOriginalImage() throws Exception {
+        SymbolTypeResponse symbol = create("THUMB_BY_ID");
+
+        MvcResult result = perform(get(BASE + "/{id}/image", symbol.getIdSymbol()).param("size", "32"));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=86400, public");
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG))
+                .isEqualTo("\"" + symbol.getImageHash() + "-32\"");
+        assertThat(result.getResponse().getContentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    void thumbnailByHashIsImmutable() throws Exception {
+        SymbolTypeResponse symbol = create("THUMB_BY_HASH");
+
+        mockMvc.perform(get(BASE + "/images/{hash}", symbol.getImageHash()).param("size", "16"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + symbol.getImageHash() + "-16\""));
+        mockMvc.perform(get(BASE + "/images/{hash}", symbol.getImageHash()).param("size", "16")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + symbol.getImageHash() + "-16\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void sizeOutsideTheWhitelistIsRejected() throws Exception {
+        SymbolTypeResponse symbol = create("THUMB_BAD_SIZE");
+
+        mockMvc.perform(get(BASE + "/images/{hash}", symbol.getImageHash()).param("size", "20"))
+                .andExpect(status().isBadRequest());
+        MvcResult result = perform(get(BASE + "/{id}/image", symbol.getIdSymbol()).param("size", "20"));
+        assertThat(result.getResponse().getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    void symbolsWithTheSameImageShareTheThumbnail() throws Exception {
+        SymbolTypeResponse first = create("THUMB_SHARED_A");
+        SymbolTypeResponse second = create("THUMB_SHARED_B");
+
+        assertThat(imageService.getThumbnailById(first.getIdSymbol(), 64))
+                .isSameAs(imageService.getThumbnailById(second.getIdSymbol(), 64));
+    }
+
+    private SymbolTypeResponse create(String apiName) throws Exception {
+        SymbolTypeResponse symbol = symbolTypeService.create(request(apiName, png(7, 200, 100)));
+        created.add(symbol.getIdSymbol());
+        return symbol;
+    }
+
+    /**
+     * Ejecuta una petición atendida en un compartimento y devuelve la respuesta final
+     */
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andReturn();
+    }
+}
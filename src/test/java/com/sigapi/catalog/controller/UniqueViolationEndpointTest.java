@@ -0,0 +1,132 @@
+package com.sigapi.catalog.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigapi.catalog.dto.ObjectTypeRequest;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.service.ObjectTypeService;
+import com.sigapi.catalog.service.SymbolTypeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Las escrituras sin consulta previa: la restricción UNIQUE de apiname (SQLSTATE 23505) se responde con 409
+ * y el borrado de un ID inexistente con 404. La petición que viola la restricción va siempre al final,
+ * porque deja la transacción del test marcada para rollback.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@Transactional
+class UniqueViolationEndpointTest {
+
+    private static final String SYMBOL_TYPES = "/api/v1/symbol-types";
+    private static final String OBJECT_TYPES = "/api/v1/object-types";
+    private static final int MISSING_ID = Integer.MAX_VALUE;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private ObjectTypeService objectTypeService;
+
+    @Test
+    void creatingASymbolTypeWithATakenApiNameIsAConflict() throws Exception {
+        symbolTypeService.create(request("UNIQUE_SYM", null));
+
+        mockMvc.perform(post(SYMBOL_TYPES)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(request("UNIQUE_SYM", null))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message", containsString("UNIQUE_SYM")));
+    }
+
+    @Test
+    void renamingASymbolTypeToATakenApiNameIsAConflict() throws Exception {
+        symbolTypeService.create(request("UNIQUE_SYM_TAKEN", null));
+        SymbolTypeResponse renamed = symbolTypeService.create(request("UNIQUE_SYM_RENAMED", null));
+
+        mockMvc.perform(put(SYMBOL_TYPES + "/{id}", renamed.getIdSymbol())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(request("UNIQUE_SYM_TAKEN", null))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", containsString("UNIQUE_SYM_TAKEN")));
+    }
+
+    @Test
+    void creatingAnObjectTypeWithATakenApiNameIsAConflict() throws Exception {
+        objectTypeService.create(objectType("UNIQUE_OBJ"));
+
+        mockMvc.perform(post(OBJECT_TYPES)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(objectType("UNIQUE_OBJ"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", containsString("UNIQUE_OBJ")));
+    }
+
+    @Test
+    void renamingAnObjectTypeToATakenApiNameIsAConflict() throws Exception {
+        objectTypeService.create(objectType("UNIQUE_OBJ_TAKEN"));
+        ObjectTypeResponse renamed = objectTypeService.create(objectType("UNIQUE_OBJ_RENAMED"));
+
+        mockMvc.perform(put(OBJECT_TYPES + "/{id}", renamed.getIdObject())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(objectType("UNIQUE_OBJ_TAKEN"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", containsString("UNIQUE_OBJ_TAKEN")));
+    }
+
+    @Test
+    void bulkReportsTakenApiNamesPerItem() throws Exception {
+        objectTypeService.create(objectType("UNIQUE_BULK_TAKEN"));
+
+        mockMvc.perform(post(OBJECT_TYPES + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(
+                                objectType("UNIQUE_BULK_NEW"), objectType("UNIQUE_BULK_TAKEN")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.data.items[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.data.items[1].message", containsString("UNIQUE_BULK_TAKEN")));
+    }
+
+    @Test
+    void deletingAMissingIdIsNotFound() throws Exception {
+        mockMvc.perform(delete(SYMBOL_TYPES + "/{id}", MISSING_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(delete(OBJECT_TYPES + "/{id}", MISSING_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private static ObjectTypeRequest objectType(String apiName) {
+        return ObjectTypeRequest.builder()
+                .apiName(apiName)
+                .objectName("Objeto " + apiName)
+                .build();
+    }
+}
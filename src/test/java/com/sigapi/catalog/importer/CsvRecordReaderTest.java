@@ -0,0 +1,80 @@
+package com.sigapi.catalog.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Lectura de CSV RFC 4180: comillas, saltos de línea dentro de campos, líneas de error y recuperación
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithDelimitersAndEscapedQuotes() throws IOException {
+        CsvRecordReader reader = reader("apiName,symbolName\nSYM_A,\"Función, de \"\"proceso\"\"\"\n");
+
+        assertThat(reader.next()).containsExactly(
+                Map.entry("apiName", "SYM_A"), Map.entry("symbolName", "Función, de \"proceso\""));
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void keepsNewlinesInsideQuotedFieldsAndReportsTheStartingLine() throws IOException {
+        CsvRecordReader reader = reader("apiName,symbolName\r\nSYM_A,\"Primera\nsegunda\"\r\nSYM_B,Otra\r\n");
+
+        assertThat(reader.next()).containsEntry("symbolName", "Primera\nsegunda");
+        assertThat(reader.getLine()).isEqualTo(2);
+        assertThat(reader.next()).containsEntry("apiName", "SYM_B");
+        assertThat(reader.getLine()).isEqualTo(4);
+    }
+
+    @Test
+    void bomEmptyCellsAndBlankLinesAreHandled() throws IOException {
+        CsvRecordReader reader = reader("\uFEFFapiName, symbolName ,symbolType\n\nSYM_A,,FUNCTION\n\n");
+
+        Map<String, String> record = reader.next();
+
+        assertThat(record).containsEntry("apiName", "SYM_A").containsEntry("symbolName", null);
+        assertThat(reader.getLine()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void reportsMalformedRowsWithTheirLineAndContinues() throws IOException {
+        CsvRecordReader reader = reader("apiName,symbolName\nSYM_A\nSYM_B,Bien\n");
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOfSatisfying(RecordFormatException.class, e -> assertThat(e.getLine()).isEqualTo(2))
+                .hasMessageContaining("2 columnas");
+        assertThat(reader.next()).containsEntry("apiName", "SYM_B");
+        assertThat(reader.getLine()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsAnUnclosedQuoteAtTheEndOfTheFile() throws IOException {
+        CsvRecordReader reader = reader("apiName,symbolName\nSYM_A,\"Sin cerrar\nSYM_B,Otra\n");
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOfSatisfying(RecordFormatException.class, e -> assertThat(e.getLine()).isEqualTo(2))
+                .hasMessageContaining("Comillas sin cerrar");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void supportsOtherDelimiters() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new StringReader("apiName;symbolName\nSYM_A;\"a;b\"\n")), ';');
+
+        assertThat(reader.next()).containsEntry("symbolName", "a;b");
+    }
+
+    private static CsvRecordReader reader(String content) {
+        return new CsvRecordReader(new BufferedReader(new StringReader(content)), ',');
+    }
+}
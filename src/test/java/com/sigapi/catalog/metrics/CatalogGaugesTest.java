@@ -0,0 +1,47 @@
+package com.sigapi.catalog.metrics;
+
+import com.sigapi.catalog.service.SymbolTypeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+class CatalogGaugesTest {
+
+    @Autowired
+    private CatalogGauges gauges;
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void refreshCountsRowsAndDistinctImageBytes() throws IOException {
+        byte[] png = png(0);
+        symbolTypeService.create(request("GAUGE_A", png));
+        symbolTypeService.create(request("GAUGE_B", png));
+
+        gauges.refresh();
+
+        // Los dos símbolos comparten la imagen: sus bytes cuentan una vez
+        assertThat(gauge(CatalogMetrics.IMAGE_BYTES)).isEqualTo(png.length);
+        assertThat(gauge(CatalogMetrics.ROWS)).isGreaterThanOrEqualTo(2);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag(CatalogMetrics.ENTITY, CatalogMetrics.SYMBOL_TYPE).gauge().value();
+    }
+}
@@ -0,0 +1,57 @@
+package com.sigapi.catalog.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Serialización del cursor keyset como token opaco
+ */
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsSortIdAndValue() {
+        KeysetCursor cursor = new KeysetCursor("name:desc", 42, "Función\ncon salto de línea");
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsCursorsSortedById() {
+        KeysetCursor cursor = new KeysetCursor("id:asc", 7, null);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsTokensThatAreNotBase64() {
+        assertThatThrownBy(() -> KeysetCursor.decode("no es un cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor inválido");
+    }
+
+    @Test
+    void rejectsTokensWithMissingParts() {
+        assertThatThrownBy(() -> KeysetCursor.decode(token("id:asc\n7")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor inválido");
+    }
+
+    @Test
+    void rejectsTokensWithANonNumericId() {
+        assertThatThrownBy(() -> KeysetCursor.decode(token("id:asc\n7 OR 1=1\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor inválido");
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.sigapi.catalog.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lista ordenada de IDs de TrigramIndex
+ */
+class PostingListTest {
+
+    @Test
+    void keepsIdsSortedAndWithoutDuplicates() {
+        PostingList list = new PostingList();
+        for (int id : new int[]{9, 3, 7, 3, 1, 12, 5, 9}) {
+            list.add(id);
+        }
+
+        assertThat(list.toArray()).containsExactly(1, 3, 5, 7, 9, 12);
+        assertThat(list.size()).isEqualTo(6);
+    }
+
+    @Test
+    void removeIgnoresMissingIds() {
+        PostingList list = new PostingList();
+        list.add(1);
+        list.add(2);
+
+        list.remove(3);
+        list.remove(1);
+
+        assertThat(list.toArray()).containsExactly(2);
+        list.remove(2);
+        assertThat(list.isEmpty()).isTrue();
+    }
+
+    @Test
+    void intersectReturnsTheCommonIdsInOrder() {
+        PostingList list = new PostingList();
+        for (int id = 0; id < 20; id += 2) {
+            list.add(id);
+        }
+
+        assertThat(list.intersect(new int[]{1, 2, 3, 4, 9, 18, 40})).containsExactly(2, 4, 18);
+        assertThat(list.intersect(new int[0])).isEmpty();
+        assertThat(new PostingList().intersect(new int[]{1, 2})).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.sigapi.catalog.search;
+
+import com.sigapi.catalog.dto.SuggestionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Autocompletado por prefijo: orden alfabético, duplicados, límite, carga perezosa y cambios incrementales
+ */
+class PrefixIndexTest {
+
+    private final List<Item> rows = new ArrayList<>(List.of(
+            new Item(1, "EVT_START", "Evento inicial"),
+            new Item(2, "FUNC_MAIN", "Función"),
+            new Item(3, "EVT_END", "Evento final"),
+            new Item(4, "EVT_COPY", "Evento inicial")));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final PrefixIndex<Item> index = new PrefixIndex<>("items", Item::id, fields(), () -> {
+        loads.incrementAndGet();
+        return List.copyOf(rows);
+    });
+
+    @Test
+    void suggestsTermsOfEveryFieldInAlphabeticalOrder() {
+        assertThat(values(index.suggest("ev", 10)))
+                .containsExactly("Evento final", "Evento inicial", "EVT_COPY", "EVT_END", "EVT_START");
+        assertThat(index.suggest("func", 10))
+                .containsExactly(new SuggestionResponse("FUNC_MAIN", "apiName", 2),
+                        new SuggestionResponse("Función", "symbolName", 2));
+    }
+
+    @Test
+    void repeatedValuesAreSuggestedOnceWithTheLowestId() {
+        assertThat(index.suggest("evento i", 10))
+                .containsExactly(new SuggestionResponse("Evento inicial", "symbolName", 1));
+    }
+
+    @Test
+    void stopsAtTheLimitAndAtTheEndOfTheRange() {
+        assertThat(values(index.suggest("e", 2))).containsExactly("Evento final", "Evento inicial");
+        assertThat(index.suggest("zz", 10)).isEmpty();
+    }
+
+    @Test
+    void loadsLazilyAndIgnoresUpsertsUntilLoaded() {
+        index.upsert(new Item(9, "EVT_GHOST", null));
+
+        assertThat(index.isLoaded()).isFalse();
+        assertThat(loads).hasValue(0);
+        assertThat(values(index.suggest("evt_", 10))).containsExactly("EVT_COPY", "EVT_END", "EVT_START");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void upsertReplacesTheTermsOfTheItemAndRemoveDropsThem() {
+        index.suggest("a", 1);
+
+        index.upsert(new Item(3, "EVT_STOP", "Evento de parada"));
+        index.upsert(new Item(5, "EVT_ALPHA", null));
+        index.remove(1);
+
+        assertThat(values(index.suggest("evt", 10))).containsExactly("EVT_ALPHA", "EVT_COPY", "EVT_STOP");
+        assertThat(index.suggest("evento i", 10))
+                .containsExactly(new SuggestionResponse("Evento inicial", "symbolName", 4));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidateReadsTheLoaderAgain() {
+        index.suggest("a", 1);
+        rows.add(new Item(6, "EVT_NEW", null));
+
+        index.invalidate();
+
+        assertThat(values(index.suggest("evt_n", 10))).containsExactly("EVT_NEW");
+        assertThat(loads).hasValue(2);
+    }
+
+    private static Map<String, Function<Item, String>> fields() {
+        Map<String, Function<Item, String>> fields = new LinkedHashMap<>();
+        fields.put("apiName", Item::apiName);
+        fields.put("symbolName", Item::name);
+        return fields;
+    }
+
+    private static List<String> values(List<SuggestionResponse> suggestions) {
+        return suggestions.stream().map(SuggestionResponse::getValue).toList();
+    }
+
+    private record Item(Integer id, String apiName, String name) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.sigapi.catalog.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Búsqueda por subcadena del índice de trigramas: resultados, orden, carga perezosa y cambios incrementales
+ */
+class TrigramIndexTest {
+
+    private final List<Item> rows = new ArrayList<>(List.of(
+            new Item(3, "Función de proceso", "Function"),
+            new Item(1, "Evento inicial", "Start event"),
+            new Item(2, "Proceso de negocio", "Business process"),
+            new Item(4, "Regla", null)));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final TrigramIndex<Item> index = new TrigramIndex<>("items", Item::id,
+            List.of(Item::name, Item::origName), () -> {
+                loads.incrementAndGet();
+                return List.copyOf(rows);
+            });
+
+    @Test
+    void findsSubstringsOfTheMainFieldIgnoringCase() {
+        assertThat(ids(index.search("PROCESO", false))).containsExactly(2, 3);
+        assertThat(ids(index.search("xyz", false))).isEmpty();
+    }
+
+    @Test
+    void secondaryFieldsAreOnlySearchedWhenRequested() {
+        assertThat(ids(index.search("start", false))).isEmpty();
+        assertThat(ids(index.search("start", true))).containsExactly(1);
+    }
+
+    @Test
+    void shortQueriesScanEveryEntryInIdOrder() {
+        assertThat(ids(index.search("e", false))).containsExactly(1, 2, 3, 4);
+        assertThat(ids(index.search("", false))).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void candidatesAreCheckedAgainstTheText() {
+        // "de pro" contiene todos sus trigramas en ambos nombres, pero solo 3 lo contiene seguido
+        assertThat(ids(index.search("de pro", false))).containsExactly(3);
+    }
+
+    @Test
+    void loadsLazilyOnTheFirstSearchOnly() {
+        assertThat(index.isLoaded()).isFalse();
+        assertThat(loads).hasValue(0);
+
+        index.search("regla", false);
+        index.search("evento", false);
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void upsertBeforeTheFirstLoadIsIgnoredAndTheLoaderIsTheSource() {
+        index.upsert(new Item(9, "Proceso fantasma", null));
+        index.remove(1);
+
+        assertThat(index.isLoaded()).isFalse();
+        assertThat(ids(index.search("proceso", false))).containsExactly(2, 3);
+        assertThat(ids(index.search("evento", false))).containsExactly(1);
+    }
+
+    @Test
+    void upsertAndRemoveUpdateTheLoadedIndex() {
+        index.search("regla", false);
+
+        index.upsert(new Item(4, "Regla de proceso", null));
+        index.upsert(new Item(5, "Subproceso", null));
+        index.remove(2);
+
+        assertThat(ids(index.search("proceso", false))).containsExactly(3, 4, 5);
+        assertThat(ids(index.search("negocio", true))).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidateAndReloadReadTheLoaderAgain() {
+        index.search("regla", false);
+        rows.add(new Item(6, "Regla nueva", null));
+
+        index.invalidate();
+        assertThat(index.isLoaded()).isFalse();
+        assertThat(ids(index.search("regla", false))).containsExactly(4, 6);
+
+        rows.removeIf(item -> item.id() == 4);
+        index.reload();
+        assertThat(ids(index.search("regla", false))).containsExactly(6);
+        assertThat(loads).hasValue(3);
+    }
+
+    private static List<Integer> ids(List<Item> items) {
+        return items.stream().map(Item::id).toList();
+    }
+
+    private record Item(Integer id, String name, String origName) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.BulkItemResult;
+import com.sigapi.catalog.dto.BulkItemStatus;
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.ObjectTypeRequest;
+import com.sigapi.catalog.dto.ObjectTypeResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.repository.ObjectTypeRepository;
+import com.sigapi.catalog.repository.SymbolTypeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Carga masiva cuyo apiName aparece entre la comprobación previa y la inserción: solo falla esa fila
+ * y la transacción se confirma con las demás. Sin transacción de test, para comprobar el commit.
+ */
+@SpringBootTest(properties = "catalog.bulk.flush-size=2")
+@ActiveProfiles("dev")
+class BulkInsertConflictTest {
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private ObjectTypeService objectTypeService;
+
+    @SpyBean
+    private SymbolTypeRepository repository;
+
+    @SpyBean
+    private ObjectTypeRepository objectTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.queryForList("SELECT idsymbol FROM aris71adm.sigapisymboltype WHERE apiname LIKE 'RACE\\_%'",
+                Integer.class).forEach(symbolTypeService::delete);
+        jdbcTemplate.queryForList("SELECT idobject FROM aris71adm.sigapiobjecttype WHERE apiname LIKE 'RACE\\_%'",
+                Integer.class).forEach(objectTypeService::delete);
+    }
+
+    @Test
+    void rowInsertedConcurrentlyFailsAloneAndTheRestIsCommitted() throws IOException {
+        SymbolTypeResponse concurrent = symbolTypeService.create(request("RACE_TAKEN", null));
+        // Simula que la fila se insertó después de la comprobación de duplicados
+        doReturn(List.of()).when(repository).findExistingApiNames(anyList());
+        byte[] image = png(21);
+
+        BulkResponse response = symbolTypeService.bulkSave(List.of(
+                request("RACE_A", image),
+                request("RACE_TAKEN", image),
+                request("RACE_B", null)), false);
+
+        assertThat(response.getItems()).extracting(BulkItemResult::getStatus).containsExactly(
+                BulkItemStatus.CREATED, BulkItemStatus.FAILED, BulkItemStatus.CREATED);
+        assertThat(response.getItems().get(1).getMessage()).contains("RACE_TAKEN");
+        assertThat(response.getItems().get(1).getId()).isNull();
+        assertThat(symbolTypeService.getById(response.getItems().get(0).getId()).getApiName()).isEqualTo("RACE_A");
+        assertThat(symbolTypeService.getById(response.getItems().get(2).getId()).getApiName()).isEqualTo("RACE_B");
+        assertThat(symbolTypeService.getByApiName("RACE_TAKEN").getIdSymbol()).isEqualTo(concurrent.getIdSymbol());
+        // La referencia adquirida para la fila rechazada se ha liberado
+        String hash = symbolTypeService.getByApiName("RACE_A").getImageHash();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT refcount FROM aris71adm.sigapisymbolimage WHERE imagehash = ?", Integer.class, hash))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void objectTypeInsertedConcurrentlyFailsAlone() {
+        ObjectTypeResponse concurrent = objectTypeService.create(objectType("RACE_OBJ_TAKEN"));
+        doReturn(List.of()).when(objectTypeRepository).findExistingApiNames(anyList());
+
+        BulkResponse response = objectTypeService.bulkSave(List.of(
+                objectType("RACE_OBJ_TAKEN"),
+                objectType("RACE_OBJ_A")), false);
+
+        assertThat(response.getItems()).extracting(BulkItemResult::getStatus).containsExactly(
+                BulkItemStatus.FAILED, BulkItemStatus.CREATED);
+        assertThat(response.getItems().get(0).getMessage()).contains("RACE_OBJ_TAKEN");
+        assertThat(objectTypeService.findByApiName("RACE_OBJ_TAKEN").getIdObject()).isEqualTo(concurrent.getIdObject());
+        assertThat(objectTypeService.findById(response.getItems().get(1).getId()).getApiName()).isEqualTo("RACE_OBJ_A");
+    }
+
+    private static ObjectTypeRequest objectType(String apiName) {
+        return ObjectTypeRequest.builder()
+                .apiName(apiName)
+                .objectName("Objeto " + apiName)
+                .build();
+    }
+}
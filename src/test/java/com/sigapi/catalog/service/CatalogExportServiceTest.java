@@ -0,0 +1,124 @@
+package com.sigapi.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sigapi.catalog.dto.ExportFormat;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exportación completa de tipos de símbolo: una sola consulta con o sin imágenes y una fila por tipo
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+class CatalogExportServiceTest {
+
+    @Autowired
+    private CatalogExportService exportService;
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private StatementCounter statements;
+
+    @BeforeEach
+    void attachCounter() {
+        statements = StatementCounter.attach(dataSource);
+    }
+
+    @AfterEach
+    void detachCounter() {
+        statements.detach();
+    }
+
+    @Test
+    void exportWithImagesReadsEveryRowAndImageInOneQuery() throws IOException {
+        byte[] shared = png(11);
+        byte[] own = png(12);
+        symbolTypeService.create(request("EXPORT_A", shared));
+        symbolTypeService.create(request("EXPORT_B", shared));
+        symbolTypeService.create(request("EXPORT_C", own));
+        symbolTypeService.create(request("EXPORT_D", null));
+        entityManager.flush();
+        entityManager.clear();
+        long total = symbolTypeService.getAll(false).size();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int executed = statements.count(() -> exportService.exportSymbolTypes(out, ExportFormat.NDJSON, true));
+
+        List<SymbolTypeResponse> rows = ndjson(out);
+        Map<String, SymbolTypeResponse> byApiName = rows.stream()
+                .collect(Collectors.toMap(SymbolTypeResponse::getApiName, Function.identity()));
+        assertThat(executed).isEqualTo(1);
+        assertThat(rows).hasSize((int) total);
+        assertThat(rows).extracting(SymbolTypeResponse::getIdSymbol).isSorted();
+        assertThat(decode(byApiName.get("EXPORT_A"))).isEqualTo(shared);
+        assertThat(decode(byApiName.get("EXPORT_B"))).isEqualTo(shared);
+        assertThat(decode(byApiName.get("EXPORT_C"))).isEqualTo(own);
+        assertThat(byApiName.get("EXPORT_D").getHasImage()).isFalse();
+        assertThat(byApiName.get("EXPORT_D").getSymbolImageBase64()).isNull();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void csvExportWithoutImagesWritesHeaderAndOneLinePerRow() {
+        symbolTypeService.create(request("EXPORT_CSV", null));
+        entityManager.flush();
+        entityManager.clear();
+        long total = symbolTypeService.getAll(false).size();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int executed = statements.count(() -> exportService.exportSymbolTypes(out, ExportFormat.CSV, false));
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(executed).isEqualTo(1);
+        assertThat(lines).hasSize((int) total + 1);
+        assertThat(lines.get(0)).startsWith("idSymbol,apiName,symbolName").doesNotContain("symbolImageBase64");
+        assertThat(lines).anyMatch(line -> line.contains(",EXPORT_CSV,"));
+    }
+
+    private List<SymbolTypeResponse> ndjson(ByteArrayOutputStream out) throws IOException {
+        List<SymbolTypeResponse> rows = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).lines().toList()) {
+            rows.add(objectMapper.readValue(line, SymbolTypeResponse.class));
+        }
+        return rows;
+    }
+
+    private static byte[] decode(SymbolTypeResponse row) {
+        return Base64.getDecoder().decode(row.getSymbolImageBase64());
+    }
+}
@@ -0,0 +1,105 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.ImportError;
+import com.sigapi.catalog.dto.ImportJobResponse;
+import com.sigapi.catalog.dto.ImportJobStatus;
+import com.sigapi.catalog.dto.SymbolTypeRequest;
+import com.sigapi.catalog.importer.ImportFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Importación CSV por bloques: errores por registro con su línea y commit independiente de cada bloque
+ */
+@SpringBootTest(properties = "catalog.import-jobs.chunk-size=2")
+@ActiveProfiles("dev")
+class CatalogImportServiceTest {
+
+    private static final String BROKEN = "IMP_BROKEN";
+
+    @Autowired
+    private CatalogImportService importService;
+
+    @SpyBean
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM aris71adm.sigapisymboltype WHERE apiname LIKE 'IMP\\_%'");
+    }
+
+    @Test
+    void reportsEachFailedRecordAndKeepsTheChunksThatWereSaved() throws InterruptedException {
+        // El bloque que contiene IMP_BROKEN falla en la base de datos
+        doAnswer(invocation -> {
+            List<SymbolTypeRequest> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(request -> BROKEN.equals(request.getApiName()))) {
+                throw new DataIntegrityViolationException("bloque rechazado");
+            }
+            return invocation.callRealMethod();
+        }).when(symbolTypeService).bulkSave(anyList(), anyBoolean());
+        String csv = """
+                apiName,symbolName,symbolType,symbolOrigName
+                IMP_A,"Función, con coma",FUNCTION,
+                IMP_B,"Texto ""citado""
+                con salto",EVENT,
+                IMP_C,Sin columnas
+                IMP_D,,FUNCTION,
+                IMP_E,Válido,FUNCTION,
+                IMP_BROKEN,Roto,FUNCTION,
+                IMP_F,Mismo bloque,FUNCTION,
+                IMP_G,Último,FUNCTION,Last
+                """;
+
+        ImportJobResponse job = await(importService.submitSymbolTypes(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV, ','));
+
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(8);
+        assertThat(job.getCreated()).isEqualTo(4);
+        assertThat(job.getFailed()).isEqualTo(4);
+        assertThat(job.getErrors()).extracting(ImportError::getLine).containsExactlyInAnyOrder(5L, 6L, 8L, 9L);
+        assertThat(job.getErrors()).filteredOn(error -> error.getLine() == 8L)
+                .singleElement().extracting(ImportError::getMessage).asString().contains("bloque rechazado");
+        assertThat(apiNames()).containsExactly("IMP_A", "IMP_B", "IMP_E", "IMP_G");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT symbolname FROM aris71adm.sigapisymboltype WHERE apiname = 'IMP_B'", String.class))
+                .isEqualTo("Texto \"citado\"\ncon salto");
+    }
+
+    private ImportJobResponse await(ImportJobResponse submitted) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        ImportJobResponse job = importService.getJob(submitted.getJobId());
+        while ((job.getStatus() == ImportJobStatus.QUEUED || job.getStatus() == ImportJobStatus.RUNNING)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            job = importService.getJob(submitted.getJobId());
+        }
+        return job;
+    }
+
+    private List<String> apiNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT apiname FROM aris71adm.sigapisymboltype WHERE apiname LIKE 'IMP\\_%' ORDER BY apiname",
+                String.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import com.sigapi.catalog.dto.CatalogSortField;
+import com.sigapi.catalog.dto.CursorPage;
+import com.sigapi.catalog.dto.CursorPageRequest;
+import com.sigapi.catalog.repository.KeysetCursor;
+import com.sigapi.catalog.repository.KeysetRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Límite, petición keyset y recorte de página de la paginación por cursor
+ */
+class CursorPagesTest {
+
+    private final CatalogProperties.Pagination pagination = new CatalogProperties().getPagination();
+
+    @Test
+    void resolvesTheDefaultLimitAndRejectsOutOfRangeValues() {
+        assertThat(CursorPages.resolveLimit(request(null, null, "id", "asc"), pagination))
+                .isEqualTo(pagination.getDefaultLimit());
+        assertThatThrownBy(() -> CursorPages.resolveLimit(request(0, null, "id", "asc"), pagination))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorPages.resolveLimit(
+                request(pagination.getMaxLimit() + 1, null, "id", "asc"), pagination))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void asksForOneRowMoreThanTheLimit() {
+        String cursor = new KeysetCursor("name:desc", 10, "Evento").encode();
+
+        KeysetRequest keyset = CursorPages.keysetRequest(
+                request(20, cursor, "name", "desc"), CatalogSortField.NAME, "symbolName", 20);
+
+        assertThat(keyset.limit()).isEqualTo(21);
+        assertThat(keyset.descending()).isTrue();
+        assertThat(keyset.after()).isEqualTo(new KeysetCursor("name:desc", 10, "Evento"));
+    }
+
+    @Test
+    void rejectsCursorsGeneratedWithAnotherSort() {
+        String cursor = new KeysetCursor("name:asc", 10, "Evento").encode();
+
+        assertThatThrownBy(() -> CursorPages.keysetRequest(
+                request(20, cursor, "name", "desc"), CatalogSortField.NAME, "symbolName", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("otra ordenación");
+        assertThatThrownBy(() -> CursorPages.keysetRequest(
+                request(20, cursor, "apiName", "asc"), CatalogSortField.API_NAME, "apiName", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void trimsTheExtraRowAndEncodesTheLastItemOfThePage() {
+        CursorPageRequest request = request(2, null, "name", "asc");
+
+        CursorPage<String> page = CursorPages.toPage(List.of("a", "b", "c"), 2, request, CatalogSortField.NAME,
+                String::length, value -> value.toUpperCase(), 5L);
+
+        assertThat(page.items()).containsExactly("a", "b");
+        assertThat(page.page().isHasMore()).isTrue();
+        assertThat(page.page().getTotal()).isEqualTo(5L);
+        assertThat(KeysetCursor.decode(page.page().getNextCursor()))
+                .isEqualTo(new KeysetCursor("name:asc", 1, "B"));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<String> page = CursorPages.toPage(List.of("a", "b"), 2, request(2, null, "id", "asc"),
+                CatalogSortField.ID, String::length, value -> null, null);
+
+        assertThat(page.items()).containsExactly("a", "b");
+        assertThat(page.page().isHasMore()).isFalse();
+        assertThat(page.page().getNextCursor()).isNull();
+    }
+
+    private static CursorPageRequest request(Integer limit, String cursor, String sort, String direction) {
+        CursorPageRequest request = new CursorPageRequest();
+        request.setLimit(limit);
+        request.setCursor(cursor);
+        request.setSort(sort);
+        request.setDirection(direction);
+        return request;
+    }
+}
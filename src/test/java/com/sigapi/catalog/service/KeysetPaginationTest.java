@@ -0,0 +1,67 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.CursorPage;
+import com.sigapi.catalog.dto.CursorPageRequest;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Recorrido completo por páginas keyset contra la base de datos, con valores de ordenación repetidos
+ * que caen en el límite entre páginas
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+class KeysetPaginationTest {
+
+    private static final String TYPE = "KEYSET_TEST";
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Test
+    void equalSortKeysAreSplitAcrossPagesWithoutGapsOrRepeats() {
+        List<SymbolTypeResponse> created = new ArrayList<>();
+        for (String name : List.of("Igual", "Alfa", "Igual", "Igual", "Zeta", "Igual", "Igual")) {
+            created.add(symbolTypeService.create(request("KS_" + created.size(), name, TYPE, null)));
+        }
+        Comparator<SymbolTypeResponse> byName = Comparator.comparing(SymbolTypeResponse::getSymbolName)
+                .thenComparing(SymbolTypeResponse::getIdSymbol);
+
+        assertThat(ids(readAll("name", "asc"))).containsExactlyElementsOf(ids(created.stream().sorted(byName).toList()));
+        assertThat(ids(readAll("name", "desc")))
+                .containsExactlyElementsOf(ids(created.stream().sorted(byName.reversed()).toList()));
+    }
+
+    private List<SymbolTypeResponse> readAll(String sort, String direction) {
+        List<SymbolTypeResponse> rows = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageRequest pageRequest = new CursorPageRequest();
+            pageRequest.setLimit(2);
+            pageRequest.setCursor(cursor);
+            pageRequest.setSort(sort);
+            pageRequest.setDirection(direction);
+            CursorPage<SymbolTypeResponse> page = symbolTypeService.getByType(TYPE, false, pageRequest);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            rows.addAll(page.items());
+            cursor = page.page().getNextCursor();
+        } while (cursor != null);
+        return rows;
+    }
+
+    private static List<Integer> ids(List<SymbolTypeResponse> rows) {
+        return rows.stream().map(SymbolTypeResponse::getIdSymbol).toList();
+    }
+}
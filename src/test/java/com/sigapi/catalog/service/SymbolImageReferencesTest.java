@@ -0,0 +1,132 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Contador de referencias de las imágenes compartidas en las escrituras de tipos de símbolo
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+class SymbolImageReferencesTest {
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private SymbolImageService imageService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sharedImageIsCountedOncePerSymbol() throws IOException {
+        byte[] image = png(1);
+        SymbolTypeResponse first = symbolTypeService.create(request("REF_A", image));
+        SymbolTypeResponse second = symbolTypeService.create(request("REF_B", image));
+
+        assertThat(first.getImageHash()).isEqualTo(second.getImageHash());
+        assertThat(refCount(first.getImageHash())).isEqualTo(2);
+    }
+
+    @Test
+    void updateMovesTheReferenceToTheNewImage() throws IOException {
+        SymbolTypeResponse created = symbolTypeService.create(request("REF_UPDATE", png(1)));
+        String previousHash = created.getImageHash();
+
+        SymbolTypeResponse updated = symbolTypeService.update(created.getIdSymbol(), request("REF_UPDATE", png(2)));
+
+        assertThat(updated.getImageHash()).isNotEqualTo(previousHash);
+        assertThat(refCount(updated.getImageHash())).isEqualTo(1);
+        assertThat(imageExists(previousHash)).isFalse();
+    }
+
+    @Test
+    void uploadReplacesTheImageAndReleasesThePreviousOne() throws IOException {
+        byte[] shared = png(1);
+        SymbolTypeResponse kept = symbolTypeService.create(request("REF_KEPT", shared));
+        SymbolTypeResponse uploaded = symbolTypeService.create(request("REF_UPLOAD", shared));
+        byte[] replacement = png(3);
+
+        SymbolTypeResponse response = imageService.uploadImage(
+                uploaded.getIdSymbol(), new ByteArrayInputStream(replacement), replacement.length);
+
+        assertThat(response.getImageHash()).isNotEqualTo(kept.getImageHash());
+        assertThat(refCount(kept.getImageHash())).isEqualTo(1);
+        assertThat(refCount(response.getImageHash())).isEqualTo(1);
+    }
+
+    @Test
+    void deleteReleasesTheImageOfTheDeletedRow() throws IOException {
+        byte[] image = png(1);
+        SymbolTypeResponse first = symbolTypeService.create(request("REF_DEL_A", image));
+        SymbolTypeResponse second = symbolTypeService.create(request("REF_DEL_B", image));
+
+        symbolTypeService.delete(first.getIdSymbol());
+        assertThat(refCount(first.getImageHash())).isEqualTo(1);
+
+        symbolTypeService.delete(second.getIdSymbol());
+        assertThat(imageExists(first.getImageHash())).isFalse();
+    }
+
+    @Test
+    void bulkSaveAddsOneReferencePerRowToEachDistinctImage() throws Exception {
+        SymbolTypeResponse replaced = symbolTypeService.create(request("REF_BULK_OLD", png(5)));
+        byte[] shared = png(1);
+
+        BulkResponse response = symbolTypeService.bulkSave(List.of(
+                request("REF_BULK_A", shared),
+                request("REF_BULK_B", shared),
+                request("REF_BULK_OLD", png(2))), true);
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(refCount(sha256(shared))).isEqualTo(2);
+        assertThat(refCount(sha256(png(2)))).isEqualTo(1);
+        assertThat(imageExists(replaced.getImageHash())).isFalse();
+    }
+
+    @Test
+    void unknownIdsAreReportedAsNotFound() throws IOException {
+        byte[] image = png(1);
+
+        assertThatThrownBy(() -> symbolTypeService.delete(-1)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> imageService.uploadImage(-1, new ByteArrayInputStream(image), image.length))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private int refCount(String hash) {
+        return jdbcTemplate.queryForObject(
+                "SELECT refcount FROM aris71adm.sigapisymbolimage WHERE imagehash = ?", Integer.class, hash);
+    }
+
+    private boolean imageExists(String hash) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT refcount FROM aris71adm.sigapisymbolimage WHERE imagehash = ?", Integer.class, hash);
+        return !rows.isEmpty();
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
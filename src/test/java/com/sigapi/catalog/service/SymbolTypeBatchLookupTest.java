@@ -0,0 +1,75 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.BatchLookupRequest;
+import com.sigapi.catalog.dto.BatchLookupResponse;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Consultas por lotes de tipos de símbolo: orden, claves no encontradas y número de sentencias JDBC
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+class SymbolTypeBatchLookupTest {
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private StatementCounter statements;
+
+    @BeforeEach
+    void attachCounter() {
+        statements = StatementCounter.attach(dataSource);
+    }
+
+    @AfterEach
+    void detachCounter() {
+        statements.detach();
+    }
+
+    @Test
+    void getBatchResolvesIdsAndApiNamesWithOneQueryPerKeyType() {
+        SymbolTypeResponse first = symbolTypeService.create(request("BATCH_LOOKUP_A", null));
+        SymbolTypeResponse second = symbolTypeService.create(request("BATCH_LOOKUP_B", null));
+        BatchLookupRequest lookup = BatchLookupRequest.builder()
+                .ids(Arrays.asList(second.getIdSymbol(), -1, second.getIdSymbol(), null))
+                .apiNames(List.of("BATCH_LOOKUP_A", "BATCH_LOOKUP_B", "BATCH_UNKNOWN"))
+                .build();
+
+        List<BatchLookupResponse<SymbolTypeResponse>> responses = new ArrayList<>();
+        int cold = statements.count(() -> responses.add(symbolTypeService.getBatch(lookup)));
+        int cached = statements.count(() -> responses.add(symbolTypeService.getBatch(BatchLookupRequest.builder()
+                .ids(List.of(second.getIdSymbol()))
+                .apiNames(List.of("BATCH_LOOKUP_A"))
+                .build())));
+
+        BatchLookupResponse<SymbolTypeResponse> response = responses.get(0);
+        assertThat(response.getItems()).extracting(SymbolTypeResponse::getIdSymbol)
+                .containsExactly(second.getIdSymbol(), first.getIdSymbol());
+        assertThat(response.getNotFoundIds()).containsExactly(-1);
+        assertThat(response.getNotFoundApiNames()).containsExactly("BATCH_UNKNOWN");
+        assertThat(cold).isLessThanOrEqualTo(2);
+        assertThat(cached).isZero();
+        assertThat(responses.get(1).getItems()).extracting(SymbolTypeResponse::getIdSymbol)
+                .containsExactly(second.getIdSymbol(), first.getIdSymbol());
+    }
+}
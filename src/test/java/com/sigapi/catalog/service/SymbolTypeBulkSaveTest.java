@@ -0,0 +1,102 @@
+package com.sigapi.catalog.service;
+
+import com.sigapi.catalog.dto.BulkItemResult;
+import com.sigapi.catalog.dto.BulkItemStatus;
+import com.sigapi.catalog.dto.BulkResponse;
+import com.sigapi.catalog.dto.SymbolTypeRequest;
+import com.sigapi.catalog.dto.SymbolTypeResponse;
+import com.sigapi.catalog.support.StatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static com.sigapi.catalog.support.SymbolTypeFixtures.request;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cargas masivas de tipos de símbolo: resultado por elemento y número de sentencias JDBC
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+class SymbolTypeBulkSaveTest {
+
+    @Autowired
+    private SymbolTypeService symbolTypeService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private StatementCounter statements;
+
+    @BeforeEach
+    void attachCounter() {
+        statements = StatementCounter.attach(dataSource);
+    }
+
+    @AfterEach
+    void detachCounter() {
+        statements.detach();
+    }
+
+    @Test
+    void bulkSaveReportsEachItemInRequestOrder() {
+        SymbolTypeResponse existing = symbolTypeService.create(request("BATCH_EXISTING", "Antes", "FUNCTION", null));
+
+        BulkResponse response = symbolTypeService.bulkSave(Arrays.asList(
+                request("BATCH_NEW", "Nuevo", "FUNCTION", null),
+                request("BATCH_EXISTING", "Después", "FUNCTION", null),
+                request("BATCH_DUP", "Primero", "FUNCTION", null),
+                request("BATCH_DUP", "Segundo", "FUNCTION", null),
+                request("BATCH_INVALID", "", "FUNCTION", null),
+                null), true);
+
+        assertThat(response.getTotal()).isEqualTo(6);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getItems()).extracting(BulkItemResult::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(response.getItems()).extracting(BulkItemResult::getStatus).containsExactly(
+                BulkItemStatus.CREATED, BulkItemStatus.UPDATED, BulkItemStatus.CREATED,
+                BulkItemStatus.FAILED, BulkItemStatus.FAILED, BulkItemStatus.FAILED);
+        assertThat(response.getItems().get(1).getId()).isEqualTo(existing.getIdSymbol());
+        assertThat(response.getItems().get(3).getMessage()).contains("repetido", "posición 2");
+        assertThat(response.getItems().get(4).getMessage()).contains("symbolName");
+        assertThat(symbolTypeService.getByApiName("BATCH_DUP").getSymbolName()).isEqualTo("Primero");
+        assertThat(symbolTypeService.getByApiName("BATCH_EXISTING").getSymbolName()).isEqualTo("Después");
+    }
+
+    /**
+     * La diferencia admitida es una lectura de la secuencia (allocationSize 50), que depende de los
+     * identificadores que ya hayan consumido otras pruebas
+     */
+    @Test
+    void bulkSaveUsesTheSameStatementsForFiveOrFortyRows() throws IOException {
+        byte[] image = png(7);
+
+        int fewRows = statements.count(() -> symbolTypeService.bulkSave(requests("BATCH_S", 5, image), false));
+        int manyRows = statements.count(() -> symbolTypeService.bulkSave(requests("BATCH_M", 40, image), false));
+
+        assertThat(fewRows).isLessThanOrEqualTo(5);
+        assertThat(manyRows).isBetween(fewRows - 1, fewRows + 1);
+    }
+
+    private static List<SymbolTypeRequest> requests(String prefix, int count, byte[] image) {
+        List<SymbolTypeRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(request(prefix + "_" + i, i % 2 == 0 ? image : null));
+        }
+        return requests;
+    }
+}
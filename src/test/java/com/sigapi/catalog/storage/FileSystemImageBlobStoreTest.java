@@ -0,0 +1,78 @@
+package com.sigapi.catalog.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Almacén de imágenes en ficheros: escritura idempotente y borrado condicionado frente a un put concurrente
+ */
+class FileSystemImageBlobStoreTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final byte[] CONTENT = {1, 2, 3};
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void putIsIdempotentAndReadable() {
+        FileSystemImageBlobStore store = new FileSystemImageBlobStore(directory);
+
+        store.put(HASH, CONTENT);
+        store.put(HASH, CONTENT);
+
+        assertThat(store.read(HASH)).containsExactly(CONTENT);
+        assertThat(store.file(HASH)).isEqualTo(directory.resolve("ab").resolve(HASH));
+    }
+
+    @Test
+    void deleteIfKeepsTheContentWhenTheConditionFails() {
+        FileSystemImageBlobStore store = new FileSystemImageBlobStore(directory);
+        store.put(HASH, CONTENT);
+
+        assertThat(store.deleteIf(HASH, () -> false)).isFalse();
+        assertThat(store.read(HASH)).containsExactly(CONTENT);
+    }
+
+    @Test
+    void putWaitsForAConcurrentDeleteAndRestoresTheContent() throws Exception {
+        FileSystemImageBlobStore store = new FileSystemImageBlobStore(directory);
+        store.put(HASH, CONTENT);
+        AtomicReference<CompletableFuture<Void>> concurrentPut = new AtomicReference<>();
+
+        boolean deleted = store.deleteIf(HASH, () -> {
+            // Otra transacción repone la imagen mientras se decide el borrado
+            concurrentPut.set(CompletableFuture.runAsync(() -> store.put(HASH, CONTENT)));
+            sleep();
+            return true;
+        });
+        concurrentPut.get().get(5, TimeUnit.SECONDS);
+
+        assertThat(deleted).isTrue();
+        assertThat(store.read(HASH)).containsExactly(CONTENT);
+    }
+
+    @Test
+    void rejectsHashesThatAreNotSha256() {
+        FileSystemImageBlobStore store = new FileSystemImageBlobStore(directory);
+
+        assertThatThrownBy(() -> store.put("../etc/passwd", CONTENT)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.file("../etc/passwd")).isNull();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
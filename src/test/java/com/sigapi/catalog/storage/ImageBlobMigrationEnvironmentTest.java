@@ -0,0 +1,39 @@
+package com.sigapi.catalog.storage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * La migración de imágenes entre almacenes arranca la aplicación sin servidor web
+ */
+class ImageBlobMigrationEnvironmentTest {
+
+    private final ImageBlobMigrationEnvironment postProcessor = new ImageBlobMigrationEnvironment();
+
+    @Test
+    void migrationDisablesTheWebServer() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(ImageBlobMigrationEnvironment.MIGRATE_FROM, "database");
+        SpringApplication application = new SpringApplication();
+
+        postProcessor.postProcessEnvironment(environment, application);
+        Binder.get(environment).bind("spring.main", Bindable.ofInstance(application));
+
+        assertThat(application.getWebApplicationType()).isEqualTo(WebApplicationType.NONE);
+    }
+
+    @Test
+    void withoutMigrationTheEnvironmentIsUnchanged() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("spring.main.web-application-type")).isNull();
+    }
+}
@@ -0,0 +1,47 @@
+package com.sigapi.catalog.storage;
+
+import com.sigapi.catalog.config.CatalogProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Arranque con y sin la antigua columna symbolimage pendiente de migrar
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+class SymbolImageColumnMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void migratedSchemaStarts() {
+        assertThatCode(() -> migration(new CatalogProperties()).afterPropertiesSet()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void legacyColumnFailsStartupUntilMigrated() {
+        jdbcTemplate.execute("ALTER TABLE aris71adm.sigapisymboltype ADD COLUMN symbolimage VARBINARY");
+        try {
+            assertThatThrownBy(() -> migration(new CatalogProperties()).afterPropertiesSet())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(SymbolImageColumnMigration.SCRIPT);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE aris71adm.sigapisymboltype DROP COLUMN symbolimage");
+        }
+    }
+
+    private SymbolImageColumnMigration migration(CatalogProperties properties) {
+        return new SymbolImageColumnMigration(jdbcTemplate, transactionManager, properties, "aris71adm");
+    }
+}
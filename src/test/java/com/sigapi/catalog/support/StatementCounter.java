@@ -0,0 +1,56 @@
+package com.sigapi.catalog.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cuenta las sentencias JDBC ejecutadas a través del datasource-proxy que envuelve el DataSource
+ */
+public final class StatementCounter implements QueryExecutionListener {
+
+    private final ChainListener chain;
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private StatementCounter(ChainListener chain) {
+        this.chain = chain;
+    }
+
+    /**
+     * Registra el contador en el DataSource; hay que llamar a {@link #detach()} al terminar
+     */
+    public static StatementCounter attach(DataSource dataSource) {
+        StatementCounter counter = new StatementCounter(
+                ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener());
+        counter.chain.addListener(counter);
+        return counter;
+    }
+
+    public void detach() {
+        chain.getListeners().remove(this);
+    }
+
+    /**
+     * Sentencias ejecutadas durante la acción
+     */
+    public int count(Runnable action) {
+        int before = statements.get();
+        action.run();
+        return statements.get() - before;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        statements.incrementAndGet();
+    }
+}
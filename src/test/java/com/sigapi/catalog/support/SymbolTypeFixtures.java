@@ -0,0 +1,52 @@
+package com.sigapi.catalog.support;
+
+import com.sigapi.catalog.dto.SymbolTypeRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Peticiones e imágenes de prueba para los tests de tipos de símbolo
+ */
+public final class SymbolTypeFixtures {
+
+    private SymbolTypeFixtures() {
+    }
+
+    /**
+     * Petición de tipo FUNCTION con nombre derivado del apiName; image puede ser null
+     */
+    public static SymbolTypeRequest request(String apiName, byte[] image) {
+        return request(apiName, "Símbolo " + apiName, "FUNCTION", image);
+    }
+
+    public static SymbolTypeRequest request(String apiName, String symbolName, String symbolType, byte[] image) {
+        return SymbolTypeRequest.builder()
+                .apiName(apiName)
+                .symbolName(symbolName)
+                .symbolType(symbolType)
+                .symbolImageBase64(image != null ? Base64.getEncoder().encodeToString(image) : null)
+                .build();
+    }
+
+    /**
+     * PNG de 4x4 distinto para cada semilla
+     */
+    public static byte[] png(int seed) throws IOException {
+        return png(seed, 4, 4);
+    }
+
+    /**
+     * PNG del tamaño indicado distinto para cada semilla
+     */
+    public static byte[] png(int seed, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, seed);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,40 @@
+package com.sigapi.catalog.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.sigapi.catalog.support.SymbolTypeFixtures.png;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reducción de imágenes a miniaturas PNG conservando la proporción
+ */
+class ImageThumbnailsTest {
+
+    @Test
+    void resizesToFitTheSquareKeepingTheAspectRatio() throws IOException {
+        byte[] thumbnail = ImageThumbnails.resize(png(1, 200, 100), 32);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertThat(image.getWidth()).isEqualTo(32);
+        assertThat(image.getHeight()).isEqualTo(16);
+    }
+
+    @Test
+    void imageThatAlreadyFitsIsNotResized() throws IOException {
+        assertThat(ImageThumbnails.resize(png(1, 16, 16), 32)).isNull();
+    }
+
+    @Test
+    void imageThatCannotBeDecodedIsNotResized() {
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"100\" height=\"100\"/>"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(ImageThumbnails.resize(svg, 32)).isNull();
+    }
+}